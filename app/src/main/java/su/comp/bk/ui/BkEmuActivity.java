@@ -88,9 +88,7 @@ import su.comp.bk.R;
 import su.comp.bk.arch.Computer;
 import su.comp.bk.arch.Computer.Configuration;
 import su.comp.bk.arch.cpu.Cpu;
-import su.comp.bk.arch.cpu.addressing.IndexDeferredAddressingMode;
 import su.comp.bk.arch.cpu.opcode.EmtOpcode;
-import su.comp.bk.arch.cpu.opcode.JmpOpcode;
 import su.comp.bk.arch.io.VideoController;
 import su.comp.bk.arch.io.VideoControllerFrameRenderer;
 import su.comp.bk.arch.io.audio.AudioMixer;
@@ -493,15 +491,14 @@ public class BkEmuActivity extends AppCompatActivity implements View.OnSystemUiV
     /**
      * BK0011 tape operations handler.
      */
-    class TapeOperations11Handler implements Cpu.OnOpcodeListener {
+    class TapeOperations11Handler implements Cpu.OnPcHookListener {
         @Override
-        public void onOpcodeExecuted(Cpu cpu, int opcode) {
-            int pc = cpu.readRegister(false, Cpu.PC);
-            if (pc == BK11_BMB10_READ_ADDRESS || pc == BK11_BMB10_SAVE_ADDRESS) {
-                // .BMB10 BK0011 system call
-                tapeParamsBlockAddr = BK11_BMB10_PARAMS_ADDRESS;
-                handleTapeOperation(cpu);
-            }
+        public boolean onPcHook(Cpu cpu, int address) {
+            // .BMB10 BK0011 system call
+            tapeParamsBlockAddr = BK11_BMB10_PARAMS_ADDRESS;
+            handleTapeOperation(cpu);
+            // Stop at hooked address until tape operation is finished
+            return isEmulationPaused;
         }
 
         /**
@@ -852,9 +849,9 @@ public class BkEmuActivity extends AppCompatActivity implements View.OnSystemUiV
                 computer.getCpu().setOnTrapListener(new TapeOperations10Handler());
             } else {
                 TapeOperations11Handler handler = new TapeOperations11Handler();
-                // Trap for `Jmp @CmdTab(R0)` operation (.BMB10 command router at address 154736)
-                computer.getCpu().setOnOpcodeListener(JmpOpcode.OPCODE | Cpu.R0
-                            | (IndexDeferredAddressingMode.CODE << 3), handler);
+                // Hook .BMB10 read/save subroutines (called by command router at address 154736)
+                computer.getCpu().setPcHook(BK11_BMB10_READ_ADDRESS, handler);
+                computer.getCpu().setPcHook(BK11_BMB10_SAVE_ADDRESS, handler);
             }
             AudioMixer audioMixer = computer.getAudioMixer();
             for (AudioOutput<?> audioOutput : audioMixer.getAudioOutputs()) {
@@ -25,11 +25,19 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.LockSupport;
 
 import su.comp.bk.arch.cpu.Cpu;
 import su.comp.bk.arch.io.Device;
 import su.comp.bk.arch.io.KeyboardController;
 import su.comp.bk.arch.io.PeripheralPort;
+import su.comp.bk.arch.io.PollableDevice;
 import su.comp.bk.arch.io.Sel1RegisterSystemBits;
 import su.comp.bk.arch.io.SystemTimer;
 import su.comp.bk.arch.io.Timer;
@@ -81,6 +89,27 @@ public class Computer implements Runnable, StatefulEntity {
     // Memory table mapped by 4KB blocks
     private final List<?>[] memoryTable = new List[16];
 
+    // Memory page size shift (256 bytes pages)
+    private final static int MEMORY_PAGE_SHIFT = 8;
+    // Memory page address offset mask
+    private final static int MEMORY_PAGE_OFFSET_MASK = (1 << MEMORY_PAGE_SHIFT) - 1;
+    // Number of memory pages below I/O registers area
+    private final static int MEMORY_PAGES_COUNT =
+            Computer.IO_REGISTERS_MIN_ADDRESS >> MEMORY_PAGE_SHIFT;
+    // Memory page permission bit: page can be read directly from backing data array
+    private final static int MEMORY_PAGE_READABLE = 1;
+    // Memory page permission bit: page can be written directly to backing memory
+    private final static int MEMORY_PAGE_WRITABLE = 2;
+    // Memory page table: backing RAM/ROM data arrays
+    private final short[][] memoryPageData = new short[MEMORY_PAGES_COUNT][];
+    // Memory page table: backing RAM/ROM references
+    private final RandomAccessMemory[] memoryPageMemories =
+            new RandomAccessMemory[MEMORY_PAGES_COUNT];
+    // Memory page table: page start offsets in backing RAM/ROM (in bytes)
+    private final int[] memoryPageOffsets = new int[MEMORY_PAGES_COUNT];
+    // Memory page table: page permission bits
+    private final byte[] memoryPagePermissions = new byte[MEMORY_PAGES_COUNT];
+
     // List of created RandomAccessMemory instances
     private final List<RandomAccessMemory> randomAccessMemoryList = new ArrayList<>();
 
@@ -102,6 +131,9 @@ public class Computer implements Runnable, StatefulEntity {
     // Floppy controller reference (<code>null</code> if no floppy controller attached)
     private FloppyController floppyController;
 
+    // Monitor services emulator (<code>null</code> if computer has no BK-0010 monitor ROM)
+    private MonitorServicesEmulator monitorServicesEmulator;
+
     /** BK0010 screen memory start address */
     public static final int BK0010_SCREEN_MEMORY_START_ADDRESS = 040000;
 
@@ -116,13 +148,28 @@ public class Computer implements Runnable, StatefulEntity {
     private final List<Device> deviceList = new ArrayList<>();
     // I/O registers space addresses mapped to devices
     private final List<?>[] deviceTable = new List[2048];
+    // I/O registers space addresses mapped to enabled devices write dispatch arrays
+    private final Device[][] deviceWriteTable = new Device[2048][];
+    // I/O registers space addresses enabled devices masks (bit index is device index
+    // in the address devices list)
+    private final int[] deviceWriteEnableMasks = new int[2048];
+    // I/O registers space addresses disabled devices counts (writes to the address
+    // are acknowledged by disabled devices without being dispatched)
+    private final int[] deviceWriteDisabledCounts = new int[2048];
+    // No enabled devices write dispatch array
+    private final static Device[] NO_DEVICES = new Device[0];
 
-    private boolean isRunning = false;
+    private volatile boolean isRunning = false;
 
-    private boolean isPaused = true;
+    private volatile boolean isPaused = true;
 
     private Thread clockThread;
 
+    // Emulation thread commands queue (filled by any thread, drained by emulation thread)
+    private final Queue<FutureTask<?>> commandQueue = new ConcurrentLinkedQueue<>();
+    // Paused emulation thread commands queue check interval (in nanoseconds)
+    private static final long PAUSED_COMMANDS_CHECK_INTERVAL = 100L * Computer.NANOSECS_IN_MSEC;
+
     /** Amount of nanoseconds in one microsecond */
     public static final long NANOSECS_IN_USEC = 1000L;
     /** Amount of nanoseconds in one millisecond */
@@ -140,38 +187,51 @@ public class Computer implements Runnable, StatefulEntity {
     // Computer clock frequency (in kHz)
     private int clockFrequency = CLOCK_FREQUENCY_BK0010;
 
-    /** Uptime sync threshold (in nanoseconds) */
-    private static final long UPTIME_SYNC_THRESHOLD = (10L * NANOSECS_IN_MSEC);
+    /** Normal (real time) emulation speed multiplier */
+    public final static int SPEED_MULTIPLIER_NORMAL = 1;
+    /** Unlimited (not throttled) fast-forward emulation speed multiplier */
+    public final static int SPEED_MULTIPLIER_UNLIMITED = 0;
+
+    // Emulation speed multiplier
+    private volatile int speedMultiplier = SPEED_MULTIPLIER_NORMAL;
+
     // Last computer system uptime update timestamp (unix timestamp, in nanoseconds)
     private long systemUptimeUpdateTimestamp;
     // Computer system uptime since start (in nanoseconds)
     private long systemUptime;
-    /** Uptime sync check interval (in nanoseconds) */
-    private static final long UPTIME_SYNC_CHECK_INTERVAL = (1L * NANOSECS_IN_MSEC);
-    // Computer system uptime sync check interval (in CPU ticks)
-    private long systemUptimeSyncCheckIntervalTicks;
-    // Last computer system uptime sync check timestamp (in CPU ticks)
-    private long systemUptimeSyncCheckTimestampTicks;
+    /** Real time pacing frame duration (in nanoseconds), one 50 Hz frame */
+    private static final long PACING_FRAME_DURATION = (20L * NANOSECS_IN_MSEC);
+    // Real time pacing frame duration (in CPU ticks)
+    private long pacingFrameDurationTicks;
+    // Real time pacing statistics
+    private final PacingStatistics pacingStatistics = new PacingStatistics();
+    // Computer uptime at the real time pacing time base (in nanoseconds)
+    private long pacingBaseUptime;
+    // Computer system uptime at the real time pacing time base (in nanoseconds)
+    private long pacingBaseSystemUptime;
+    // Computer system uptime at the last paced frame end (in nanoseconds)
+    private long lastPacedFrameSystemUptime;
+    /** CPU execution slice duration (in nanoseconds), less than half of video line period */
+    private static final long EXECUTION_SLICE_DURATION = (30L * NANOSECS_IN_USEC);
+    // CPU execution slice duration (in CPU ticks)
+    private long executionSliceDurationTicks;
 
     // Last effective clock frequency calculation CPU time
     private long lastEffectiveClockFrequencyCpuUptime;
     // Last effective clock frequency calculation system uptime
     private long lastEffectiveClockFrequencySystemUptime;
 
-    private final List<UptimeListener> uptimeListeners = new ArrayList<>();
+    // Device timing events scheduler
+    private final EventScheduler eventScheduler = new EventScheduler();
+    // Clock frequency scheduled events times are calculated for (-1 if events times
+    // must be resynchronized)
+    private int eventSchedulerClockFrequency = -1;
 
     // IDE controller reference (<code>null</code> if no IDE controller present)
     private IdeController ideController;
 
     private MemoryRange lastReadMemoryRange;
 
-    /**
-     * Computer uptime updates listener.
-     */
-    public interface UptimeListener {
-        void uptimeUpdated(long uptime);
-    }
-
     public enum Model {
         // BK-0010(-01)
         BK_0010,
@@ -241,6 +301,10 @@ public class Computer implements Runnable, StatefulEntity {
             return memory;
         }
 
+        public int getEndAddress() {
+            return endAddress;
+        }
+
         public boolean isRelatedAddress(int address) {
             return (address >= startAddress) && (address <= endAddress);
         }
@@ -282,7 +346,7 @@ public class Computer implements Runnable, StatefulEntity {
                     020000, Type.K565RU6);
             addMemory(BK0010_SCREEN_MEMORY_START_ADDRESS, videoMemory);
             // Add video controller
-            videoController = new VideoController(videoMemory, frameRenderer);
+            videoController = new VideoController(this, videoMemory, frameRenderer);
             addDevice(videoController);
             // Set ROM configuration
             ReadOnlyMemory monitorRom = new ReadOnlyMemory(ResourceManager.ROM_MONITOR_10,
@@ -290,6 +354,7 @@ public class Computer implements Runnable, StatefulEntity {
             SelectableMemory selectableMonitorRom = new SelectableMemory(monitorRom.getId(),
                     monitorRom, true);
             addMemory( 0100000, selectableMonitorRom);
+            monitorServicesEmulator = new MonitorServicesEmulator(this);
             switch (config) {
                 case BK_0010_BASIC:
                     addReadOnlyMemory(resourceManager, 0120000,
@@ -385,12 +450,12 @@ public class Computer implements Runnable, StatefulEntity {
                     break;
             }
             // Configure BK0011M memory manager
-            addDevice(new Bk11MemoryManager(firstBankedMemory, secondBankedMemory));
+            addDevice(new Bk11MemoryManager(this, firstBankedMemory, secondBankedMemory));
             // Add video controller with palette/screen manager
             BankedMemory videoMemory = new BankedMemory("VideoPagesMemory", 020000, 2);
             videoMemory.setBank(0, firstBankedMemory.getBank(1));
             videoMemory.setBank(1, firstBankedMemory.getBank(7));
-            videoController = new VideoController(videoMemory, frameRenderer);
+            videoController = new VideoController(this, videoMemory, frameRenderer);
             addDevice(videoController);
             addDevice(new VideoControllerManager(videoController, videoMemory));
             // Add system timer
@@ -398,8 +463,9 @@ public class Computer implements Runnable, StatefulEntity {
             addDevice(systemTimer);
             videoController.addFrameSyncListener(systemTimer);
         }
-        // Notify video controller about computer time updates
-        addUptimeListener(videoController);
+        // Schedule video controller screen lines and vertical sync processing
+        eventScheduler.schedule(videoController, 0L);
+        eventScheduler.schedule(videoController.getVerticalSyncEventHandler(), 0L);
         // Add audio outputs
         audioMixer = new AudioMixer(audioPlayerFactory.createAudioPlayer(), this);
         int sampleRate = audioMixer.getSampleRate();
@@ -431,7 +497,8 @@ public class Computer implements Runnable, StatefulEntity {
             addMemory(SmkMemoryManager.MEMORY_START_ADDRESS +
                     i * SmkMemoryManager.MEMORY_SEGMENT_SIZE * 2, smkRamSegment);
         }
-        return new SmkMemoryManager(smkRamSegments, selectableSmkBiosRom0, selectableSmkBiosRom1);
+        return new SmkMemoryManager(this, smkRamSegments, selectableSmkBiosRom0,
+                selectableSmkBiosRom1);
     }
 
     /**
@@ -504,6 +571,8 @@ public class Computer implements Runnable, StatefulEntity {
         for (Device device : deviceList) {
             device.restoreState(inState);
         }
+        // Resynchronize scheduled events with restored CPU time
+        eventSchedulerClockFrequency = -1;
     }
 
     private void saveRandomAccessMemoryData(State outState) {
@@ -543,15 +612,78 @@ public class Computer implements Runnable, StatefulEntity {
     }
 
     /**
-     * Set clock frequency (in kHz)
+     * Set clock frequency (in kHz). Clock frequency is changed in the emulation thread,
+     * so frames are paced consistently with the pacing and execution slice durations.
      * @param clockFrequency clock frequency to set
      */
-    public void setClockFrequency(int clockFrequency) {
+    public void setClockFrequency(final int clockFrequency) {
         if (clockFrequency < 0) { // Zero value is valid value CLOCK_FREQUENCY_MAXIMUM
             throw new IllegalArgumentException("Invalid clock frequency to set: " + clockFrequency);
         }
-        this.clockFrequency = clockFrequency;
-        systemUptimeSyncCheckIntervalTicks = nanosToCpuTime(UPTIME_SYNC_CHECK_INTERVAL);
+        executeCommand(new Runnable() {
+            @Override
+            public void run() {
+                if (isRunning && !isPaused) {
+                    updateSystemUptime();
+                }
+                Computer.this.clockFrequency = clockFrequency;
+                pacingFrameDurationTicks = nanosToCpuTime(PACING_FRAME_DURATION);
+                executionSliceDurationTicks = nanosToCpuTime(EXECUTION_SLICE_DURATION);
+                resetPacingTimeBase();
+            }
+        });
+    }
+
+    /**
+     * Get emulation speed multiplier.
+     * @return emulation speed multiplier, {@link #SPEED_MULTIPLIER_NORMAL} for real time
+     * emulation or {@link #SPEED_MULTIPLIER_UNLIMITED} for unlimited fast-forward
+     */
+    public int getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    /**
+     * Set emulation speed multiplier. Unlike {@link #CLOCK_FREQUENCY_MAXIMUM} mode, devices
+     * timing is kept in CPU time while fast-forwarding, so only every Nth video frame
+     * is captured (where N is the speed multiplier) and audio is decimated or muted
+     * according to the {@link AudioMixer} settings. Speed multiplier is ignored in
+     * {@link #CLOCK_FREQUENCY_MAXIMUM} mode.
+     * @param speedMultiplier emulation speed multiplier to set (2, 4, 8 etc.),
+     * {@link #SPEED_MULTIPLIER_NORMAL} for real time emulation or
+     * {@link #SPEED_MULTIPLIER_UNLIMITED} for unlimited fast-forward
+     */
+    public void setSpeedMultiplier(final int speedMultiplier) {
+        if (speedMultiplier < 0) {
+            throw new IllegalArgumentException("Invalid speed multiplier to set: "
+                    + speedMultiplier);
+        }
+        executeCommand(new Runnable() {
+            @Override
+            public void run() {
+                Computer.this.speedMultiplier = speedMultiplier;
+                if (isRunning && !isPaused) {
+                    updateSystemUptime();
+                }
+                resetPacingTimeBase();
+                setFrameDecimation(Math.max(SPEED_MULTIPLIER_NORMAL, speedMultiplier));
+            }
+        });
+    }
+
+    /**
+     * Check emulation is fast-forwarded.
+     * @return <code>true</code> if emulation speed multiplier is not
+     * {@link #SPEED_MULTIPLIER_NORMAL}, <code>false</code> otherwise
+     */
+    public boolean isFastForwarding() {
+        return speedMultiplier != SPEED_MULTIPLIER_NORMAL;
+    }
+
+    private void setFrameDecimation(int frameDecimation) {
+        if (videoController != null) {
+            videoController.setFrameDecimation(frameDecimation);
+        }
     }
 
     /**
@@ -626,6 +758,15 @@ public class Computer implements Runnable, StatefulEntity {
         return floppyController;
     }
 
+    /**
+     * Get {@link MonitorServicesEmulator} reference.
+     * @return monitor services emulator reference or <code>null</code> if computer
+     * has no BK-0010 monitor ROM
+     */
+    public MonitorServicesEmulator getMonitorServicesEmulator() {
+        return monitorServicesEmulator;
+    }
+
     /**
      * Get {@link IdeController} reference.
      * @return IDE controller reference or <code>null</code> if IDE controller is not present
@@ -684,19 +825,55 @@ public class Computer implements Runnable, StatefulEntity {
     }
 
     /**
-     * Add computer uptime updates listener.
-     * @param uptimeListener {@link UptimeListener} object reference to add
+     * Get device timing events scheduler. Scheduled events times are in CPU ticks.
+     * In the maximum clock frequency mode, events are dispatched by the system uptime
+     * (converted to CPU ticks using native clock frequency), so device timings stay
+     * in sync with the real time.
+     * @return {@link EventScheduler} reference
+     */
+    public EventScheduler getEventScheduler() {
+        return eventScheduler;
+    }
+
+    /**
+     * Get CPU execution slice idle end time. While CPU is idle (waits for interrupt or
+     * polls device registers), its time can be fast-forwarded to the next scheduled event
+     * which can request CPU interrupt.
+     * @param sliceEndTicks execution slice end time (in CPU ticks)
+     * @return execution slice idle end time (in CPU ticks)
+     */
+    private long getExecutionSliceIdleEndTicks(long sliceEndTicks) {
+        long idleEndTicks = sliceEndTicks;
+        if (clockFrequency != CLOCK_FREQUENCY_MAXIMUM) {
+            long nextInterruptEventTime = eventScheduler.getNextInterruptEventTime();
+            if (nextInterruptEventTime != EventScheduler.NO_EVENT) {
+                idleEndTicks = Math.max(idleEndTicks, nextInterruptEventTime);
+            }
+        }
+        return idleEndTicks;
+    }
+
+    /**
+     * Get current time for scheduled events dispatching.
+     * @return current CPU time or system uptime in the maximum clock frequency
+     * mode (in CPU ticks)
      */
-    public void addUptimeListener(UptimeListener uptimeListener) {
-        uptimeListeners.add(uptimeListener);
+    private long getEventSchedulerTime() {
+        return (clockFrequency != CLOCK_FREQUENCY_MAXIMUM) ? getUptimeTicks()
+                : nanosToCpuTime(getSystemUptime());
     }
 
-    private void notifyUptimeListeners() {
-        long uptime = (clockFrequency != CLOCK_FREQUENCY_MAXIMUM) ? getUptime() : getSystemUptime();
-        for (int i = 0; i < uptimeListeners.size(); i++) {
-            UptimeListener uptimeListener = uptimeListeners.get(i);
-            uptimeListener.uptimeUpdated(uptime);
+    /**
+     * Dispatch scheduled events due at current time.
+     */
+    private void dispatchScheduledEvents() {
+        long time = getEventSchedulerTime();
+        if (eventSchedulerClockFrequency != clockFrequency) {
+            // Events times are invalidated by time base change, resynchronize them
+            eventSchedulerClockFrequency = clockFrequency;
+            eventScheduler.rescheduleAll(time);
         }
+        eventScheduler.dispatchEvents(time);
     }
 
     /**
@@ -721,6 +898,89 @@ public class Computer implements Runnable, StatefulEntity {
             }
             memoryRanges.add(0, memoryRange);
         }
+        updateMemoryPages(address, memoryRange.getEndAddress());
+    }
+
+    /**
+     * Notify about memory map change (called by memory managers on memory banks
+     * or segments switching).
+     * @param startAddress changed address range start address (inclusive)
+     * @param endAddress changed address range end address (inclusive)
+     */
+    public void notifyMemoryMapChanged(int startAddress, int endAddress) {
+        updateMemoryPages(startAddress, endAddress);
+        cpu.memoryMapChanged(startAddress, endAddress);
+    }
+
+    /**
+     * Update memory page table entries for pages in given address range.
+     * @param startAddress address range start address (inclusive)
+     * @param endAddress address range end address (inclusive)
+     */
+    private void updateMemoryPages(int startAddress, int endAddress) {
+        int lastPage = Math.min(endAddress >> MEMORY_PAGE_SHIFT, MEMORY_PAGES_COUNT - 1);
+        for (int page = Math.max(startAddress, 0) >> MEMORY_PAGE_SHIFT; page <= lastPage; page++) {
+            updateMemoryPage(page);
+        }
+    }
+
+    /**
+     * Update memory page table entry. Page is directly readable if it is backed by
+     * the single RAM/ROM (see {@link #getBackingMemory(int, int, boolean)}), and is
+     * directly writable if it is backed by the single RAM and no other memory ranges
+     * are writable in this page.
+     * @param page memory page index
+     */
+    private void updateMemoryPage(int page) {
+        int pageStartAddress = page << MEMORY_PAGE_SHIFT;
+        int pageEndAddress = pageStartAddress + MEMORY_PAGE_OFFSET_MASK - 1;
+        int permissions = 0;
+        RandomAccessMemory backingMemory = getBackingMemory(pageStartAddress,
+                pageEndAddress, false);
+        if (backingMemory != null) {
+            permissions = MEMORY_PAGE_READABLE;
+            MemoryRange memoryRange = getReadableMemoryRange(pageStartAddress);
+            if (getBackingMemory(pageStartAddress, pageEndAddress, true) != null
+                    && !isOtherMemoryWritable(memoryRange, pageStartAddress, pageEndAddress)) {
+                permissions |= MEMORY_PAGE_WRITABLE;
+            }
+            memoryPageOffsets[page] = memoryRange.getMemory().getBackingMemoryOffset(
+                    pageStartAddress - memoryRange.getStartAddress());
+        }
+        memoryPageData[page] = (backingMemory != null) ? backingMemory.getData() : null;
+        memoryPageMemories[page] = backingMemory;
+        memoryPagePermissions[page] = (byte) permissions;
+    }
+
+    /**
+     * Check any memory range other than given one is writable in given address range.
+     * @param memoryRange memory range to skip
+     * @param startAddress address range start address (inclusive, even)
+     * @param endAddress address range end address (inclusive, even)
+     * @return <code>true</code> if other memory range is writable in given address range,
+     * <code>false</code> otherwise
+     */
+    private boolean isOtherMemoryWritable(MemoryRange memoryRange, int startAddress,
+                                          int endAddress) {
+        for (int block = startAddress >> 12; block <= (endAddress >> 12); block++) {
+            List<MemoryRange> memoryRanges = getMemoryRanges(block << 12);
+            for (int i = 0, memoryRangesSize = memoryRanges.size(); i < memoryRangesSize; i++) {
+                MemoryRange range = memoryRanges.get(i);
+                if (range == memoryRange) {
+                    continue;
+                }
+                int overlapStartAddress = Math.max(startAddress, range.getStartAddress());
+                int overlapEndAddress = Math.min(endAddress, range.getEndAddress() & 0177776);
+                if (overlapStartAddress <= overlapEndAddress) {
+                    Memory memory = range.getMemory();
+                    if (memory.isWritable(overlapStartAddress - range.getStartAddress())
+                            || memory.isWritable(overlapEndAddress - range.getStartAddress())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -738,8 +998,91 @@ public class Computer implements Runnable, StatefulEntity {
                 addressDevices = new ArrayList<>(1);
                 deviceTable[deviceTableIndex] = addressDevices;
             }
+            if (addressDevices.size() >= Integer.SIZE) {
+                throw new IllegalStateException("Too many devices at address "
+                        + Integer.toOctalString(deviceAddress));
+            }
+            deviceWriteEnableMasks[deviceTableIndex] |= 1 << addressDevices.size();
             addressDevices.add(device);
+            updateDeviceWriteTable(deviceTableIndex);
+        }
+    }
+
+    /**
+     * Enable or disable writes dispatching to given I/O device. Disabled device is not
+     * called on writes to its registers, but still acknowledges them, so it must not
+     * depend on written values while disabled. Reads are dispatched to disabled device
+     * as usual. Write dispatch tables are updated in the emulation thread.
+     * @param device {@link Device} to enable or disable writes dispatching to
+     * @param isEnabled <code>true</code> to enable device writes dispatching,
+     * <code>false</code> to disable
+     */
+    public void setDeviceWriteEnabled(final Device device, final boolean isEnabled) {
+        executeCommand(new Runnable() {
+            @Override
+            public void run() {
+                doSetDeviceWriteEnabled(device, isEnabled);
+            }
+        });
+    }
+
+    private void doSetDeviceWriteEnabled(Device device, boolean isEnabled) {
+        for (int deviceAddress : device.getAddresses()) {
+            int deviceTableIndex = (deviceAddress - IO_REGISTERS_MIN_ADDRESS) >> 1;
+            @SuppressWarnings("unchecked")
+            List<Device> addressDevices = (List<Device>) deviceTable[deviceTableIndex];
+            int deviceIndex = (addressDevices != null) ? addressDevices.indexOf(device) : -1;
+            if (deviceIndex >= 0) {
+                if (isEnabled) {
+                    deviceWriteEnableMasks[deviceTableIndex] |= 1 << deviceIndex;
+                } else {
+                    deviceWriteEnableMasks[deviceTableIndex] &= ~(1 << deviceIndex);
+                }
+                updateDeviceWriteTable(deviceTableIndex);
+            }
+        }
+    }
+
+    /**
+     * Check writes dispatching to given I/O device is enabled.
+     * @param device {@link Device} to check
+     * @return <code>true</code> if writes are dispatched to given device at all its
+     * addresses, <code>false</code> otherwise
+     */
+    public boolean isDeviceWriteEnabled(Device device) {
+        for (int deviceAddress : device.getAddresses()) {
+            int deviceTableIndex = (deviceAddress - IO_REGISTERS_MIN_ADDRESS) >> 1;
+            @SuppressWarnings("unchecked")
+            List<Device> addressDevices = (List<Device>) deviceTable[deviceTableIndex];
+            int deviceIndex = (addressDevices != null) ? addressDevices.indexOf(device) : -1;
+            if (deviceIndex < 0 || (deviceWriteEnableMasks[deviceTableIndex]
+                    & (1 << deviceIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compile enabled devices write dispatch array for given I/O registers space address.
+     * @param deviceTableIndex I/O registers space address device table index
+     */
+    private void updateDeviceWriteTable(int deviceTableIndex) {
+        @SuppressWarnings("unchecked")
+        List<Device> addressDevices = (List<Device>) deviceTable[deviceTableIndex];
+        int enableMask = deviceWriteEnableMasks[deviceTableIndex];
+        Device[] enabledDevices = new Device[Integer.bitCount(enableMask)];
+        if (enabledDevices.length == 0) {
+            enabledDevices = NO_DEVICES;
+        }
+        for (int i = 0, j = 0, size = addressDevices.size(); i < size; i++) {
+            if ((enableMask & (1 << i)) != 0) {
+                enabledDevices[j++] = addressDevices.get(i);
+            }
         }
+        deviceWriteTable[deviceTableIndex] = enabledDevices;
+        deviceWriteDisabledCounts[deviceTableIndex] = addressDevices.size()
+                - enabledDevices.length;
     }
 
     /**
@@ -772,11 +1115,151 @@ public class Computer implements Runnable, StatefulEntity {
         return (List<MemoryRange>) memoryTable[address >> 12];
     }
 
+    /**
+     * Get memory range word at given address is read from.
+     * @param address word address
+     * @return memory range or <code>null</code> if given address is not readable
+     */
+    public MemoryRange getReadableMemoryRange(int address) {
+        List<MemoryRange> memoryRanges = getMemoryRanges(address);
+        if (memoryRanges != null) {
+            for (int i = 0, memoryRangesSize = memoryRanges.size(); i < memoryRangesSize; i++) {
+                MemoryRange memoryRange = memoryRanges.get(i);
+                if (memoryRange.isRelatedAddress(address) && memoryRange.getMemory()
+                        .read(address - memoryRange.getStartAddress()) != BUS_ERROR) {
+                    return memoryRange;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get RAM/ROM directly backing given address range in current memory configuration.
+     * Address range must be below I/O registers area, mapped to the single memory range
+     * not overlapped by other readable memory ranges with higher priority, and backed by
+     * the single RAM/ROM with the same offsets order.
+     * @param startAddress address range start address (inclusive, even)
+     * @param endAddress address range end address (inclusive, even)
+     * @param isWriteAccess <code>true</code> if address range must be writable
+     * @return backing {@link RandomAccessMemory} or <code>null</code> if given address range
+     * can't be accessed directly in the backing RAM/ROM
+     */
+    public RandomAccessMemory getBackingMemory(int startAddress, int endAddress,
+                                               boolean isWriteAccess) {
+        if (startAddress > endAddress || endAddress >= IO_REGISTERS_MIN_ADDRESS) {
+            return null;
+        }
+        MemoryRange memoryRange = getReadableMemoryRange(startAddress);
+        if (memoryRange == null || !memoryRange.isRelatedAddress(endAddress)) {
+            return null;
+        }
+        for (int block = startAddress >> 12; block <= (endAddress >> 12); block++) {
+            List<MemoryRange> memoryRanges = getMemoryRanges(block << 12);
+            for (int i = 0, memoryRangesSize = memoryRanges.size(); i < memoryRangesSize; i++) {
+                MemoryRange range = memoryRanges.get(i);
+                if (range == memoryRange) {
+                    break;
+                }
+                int overlapStartAddress = Math.max(startAddress, range.getStartAddress());
+                if (overlapStartAddress <= Math.min(endAddress, range.getEndAddress())
+                        && range.getMemory().isReadable(overlapStartAddress
+                            - range.getStartAddress())) {
+                    return null;
+                }
+            }
+        }
+        Memory memory = memoryRange.getMemory();
+        int startOffset = startAddress - memoryRange.getStartAddress();
+        int endOffset = endAddress - memoryRange.getStartAddress();
+        RandomAccessMemory backingMemory = memory.getBackingMemory(startOffset);
+        if (backingMemory == null || backingMemory != memory.getBackingMemory(endOffset)
+                || memory.read(endOffset) == BUS_ERROR) {
+            return null;
+        }
+        if (isWriteAccess && (!memory.isWritable(startOffset) || !memory.isWritable(endOffset)
+                || !backingMemory.isWritable(0))) {
+            return null;
+        }
+        if (memory.getBackingMemoryOffset(endOffset) - memory.getBackingMemoryOffset(startOffset)
+                != endOffset - startOffset) {
+            return null;
+        }
+        return backingMemory;
+    }
+
+    /**
+     * Check given address range is directly writable: each memory page in this range is
+     * backed by the single RAM and no other memory ranges are writable in this page,
+     * so writes to this range are not visible to other memories.
+     * @param startAddress address range start address (inclusive, even)
+     * @param endAddress address range end address (inclusive, even)
+     * @return <code>true</code> if given address range is directly writable,
+     * <code>false</code> otherwise
+     */
+    public boolean isDirectlyWritable(int startAddress, int endAddress) {
+        if (startAddress > endAddress || endAddress >= IO_REGISTERS_MIN_ADDRESS) {
+            return false;
+        }
+        for (int page = startAddress >> MEMORY_PAGE_SHIFT; page <= (endAddress >> MEMORY_PAGE_SHIFT);
+             page++) {
+            if ((memoryPagePermissions[page] & MEMORY_PAGE_WRITABLE) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get index of word in RAM/ROM backing given address in current memory configuration.
+     * @param address readable memory address
+     * @return index of backing RAM/ROM word
+     * @see #getBackingMemory(int, int, boolean)
+     */
+    public int getBackingMemoryWordIndex(int address) {
+        MemoryRange memoryRange = getReadableMemoryRange(address);
+        return memoryRange.getMemory().getBackingMemoryOffset(address
+                - memoryRange.getStartAddress()) >> 1;
+    }
+
     @SuppressWarnings("unchecked")
     private List<Device> getDevices(int address) {
         return (List<Device>) deviceTable[(address - IO_REGISTERS_MIN_ADDRESS) >> 1];
     }
 
+    /**
+     * Get CPU time when value read from given address can change next time without
+     * memory or device registers writing.
+     * @param cpuTime current CPU time (in clock ticks)
+     * @param address address to read value from
+     * @return CPU time (in clock ticks) when read value can change,
+     * {@link PollableDevice#REGISTER_CHANGED_EXTERNALLY} if value can be changed only by
+     * writes or external events or {@link PollableDevice#REGISTER_NOT_POLLABLE} if value
+     * change time is unknown
+     */
+    public long getReadValueChangeTime(long cpuTime, int address) {
+        long changeTime = PollableDevice.REGISTER_CHANGED_EXTERNALLY;
+        if (address >= IO_REGISTERS_MIN_ADDRESS) {
+            List<Device> subdevices = getDevices(address);
+            if (subdevices != null) {
+                int wordAddress = address & 0177776;
+                for (int i = 0, subdevicesSize = subdevices.size(); i < subdevicesSize; i++) {
+                    Device subdevice = subdevices.get(i);
+                    if (!(subdevice instanceof PollableDevice)) {
+                        return PollableDevice.REGISTER_NOT_POLLABLE;
+                    }
+                    long subdeviceChangeTime = ((PollableDevice) subdevice)
+                            .getRegisterChangeTime(cpuTime, wordAddress);
+                    if (subdeviceChangeTime == PollableDevice.REGISTER_NOT_POLLABLE) {
+                        return PollableDevice.REGISTER_NOT_POLLABLE;
+                    }
+                    changeTime = Math.min(changeTime, subdeviceChangeTime);
+                }
+            }
+        }
+        return changeTime;
+    }
+
     /**
      * Initialize bus devices state (on power-on cycle or RESET opcode).
      * @param isHardwareReset true if bus initialization is initiated by hardware reset,
@@ -793,13 +1276,120 @@ public class Computer implements Runnable, StatefulEntity {
      */
     public void reset() {
         pause();
-        synchronized (this) {
-            logger.debug("resetting computer");
-            getCpu().reset();
-        }
+        executeCommand(new Runnable() {
+            @Override
+            public void run() {
+                logger.debug("resetting computer");
+                getCpu().reset();
+            }
+        });
         resume();
     }
 
+    /**
+     * Submit command for execution in the emulation thread. Submitted commands are executed
+     * in the submission order at the CPU execution slice boundaries (or while computer is
+     * paused), so their effects are deterministically ordered relative to CPU time. Command
+     * is executed immediately in the calling thread if computer is not running or command
+     * is submitted from the emulation thread.
+     * @param command command to execute
+     * @return {@link Future} of command result
+     */
+    public <T> Future<T> submitCommand(Callable<T> command) {
+        FutureTask<T> commandTask = new FutureTask<>(command);
+        submitCommandTask(commandTask);
+        return commandTask;
+    }
+
+    /**
+     * Submit command for execution in the emulation thread.
+     * @param command command to execute
+     * @return {@link Future} of command completion
+     * @see #submitCommand(Callable)
+     */
+    public Future<?> submitCommand(Runnable command) {
+        FutureTask<Void> commandTask = new FutureTask<>(command, null);
+        submitCommandTask(commandTask);
+        return commandTask;
+    }
+
+    /**
+     * Execute command in the emulation thread and wait for its completion.
+     * @param command command to execute
+     * @return command result
+     * @throws Exception exception thrown by command
+     * @see #submitCommand(Callable)
+     */
+    public <T> T executeCommand(Callable<T> command) throws Exception {
+        try {
+            return getCommandResult(submitCommand(command));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+
+    /**
+     * Execute command in the emulation thread and wait for its completion.
+     * @param command command to execute
+     * @see #submitCommand(Runnable)
+     */
+    public void executeCommand(Runnable command) {
+        try {
+            getCommandResult(submitCommand(command));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    private static <T> T getCommandResult(Future<T> commandFuture) throws ExecutionException {
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    return commandFuture.get();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void submitCommandTask(FutureTask<?> commandTask) {
+        Thread thread = isRunning ? clockThread : null;
+        if (thread == null || Thread.currentThread() == thread) {
+            commandTask.run();
+            return;
+        }
+        commandQueue.add(commandTask);
+        LockSupport.unpark(thread);
+        if (!isRunning) {
+            // Emulation thread could be stopped before the command was queued
+            executeCommands();
+        }
+    }
+
+    /**
+     * Execute all queued commands.
+     */
+    private void executeCommands() {
+        FutureTask<?> commandTask;
+        while ((commandTask = commandQueue.poll()) != null) {
+            commandTask.run();
+        }
+    }
+
     /**
      * Read byte or word from memory or I/O device mapped to given address.
      * @param isByteMode <code>true</code> to read byte, <code>false</code> to read word
@@ -808,6 +1398,17 @@ public class Computer implements Runnable, StatefulEntity {
      * location is not mapped
      */
     public int readMemory(boolean isByteMode, int address) {
+        // First do check the memory page table
+        if (address < IO_REGISTERS_MIN_ADDRESS) {
+            int page = address >> MEMORY_PAGE_SHIFT;
+            if ((memoryPagePermissions[page] & MEMORY_PAGE_READABLE) != 0) {
+                int pageValue = memoryPageData[page][(memoryPageOffsets[page]
+                        + (address & MEMORY_PAGE_OFFSET_MASK)) >> 1];
+                return isByteMode ? (((address & 1) != 0) ? pageValue >> 8 : pageValue) & 0377
+                        : pageValue & 0177777;
+            }
+        }
+
         int readValue = BUS_ERROR;
 
         int wordAddress = address & 0177776;
@@ -880,6 +1481,15 @@ public class Computer implements Runnable, StatefulEntity {
             value <<= 8;
         }
 
+        // Check the memory page table
+        if (address < IO_REGISTERS_MIN_ADDRESS) {
+            int page = address >> MEMORY_PAGE_SHIFT;
+            if ((memoryPagePermissions[page] & MEMORY_PAGE_WRITABLE) != 0) {
+                return memoryPageMemories[page].write(isByteMode, memoryPageOffsets[page]
+                        + (address & MEMORY_PAGE_OFFSET_MASK), value);
+            }
+        }
+
         // Check for memories at given address
         List<MemoryRange> memoryRanges = getMemoryRanges(address);
         if (memoryRanges != null) {
@@ -896,11 +1506,15 @@ public class Computer implements Runnable, StatefulEntity {
 
         // Check for I/O registers
         if (address >= IO_REGISTERS_MIN_ADDRESS) {
-            List<Device> devices = getDevices(address);
+            int deviceTableIndex = (address - IO_REGISTERS_MIN_ADDRESS) >> 1;
+            Device[] devices = deviceWriteTable[deviceTableIndex];
             if (devices != null) {
+                // Disabled devices acknowledge writes without being called
+                if (deviceWriteDisabledCounts[deviceTableIndex] > 0) {
+                    isWritten = true;
+                }
                 long cpuClock = getCpu().getTime();
-                for (int i = 0, devicesSize = devices.size(); i < devicesSize; i++) {
-                    Device device = devices.get(i);
+                for (Device device : devices) {
                     if (device.write(cpuClock, isByteMode, address, value)) {
                         isWritten = true;
                     }
@@ -945,9 +1559,7 @@ public class Computer implements Runnable, StatefulEntity {
             if (audioMixer != null) {
                 audioMixer.stop();
             }
-            synchronized (this) {
-                this.notifyAll();
-            }
+            LockSupport.unpark(clockThread);
             while (clockThread.isAlive()) {
                 try {
                     clockThread.join();
@@ -965,38 +1577,48 @@ public class Computer implements Runnable, StatefulEntity {
     }
 
     /**
-     * Pause computer.
+     * Pause computer. If called from other than emulation thread, waits until the emulation
+     * thread is paused, so CPU state is not changed after return. If called from
+     * the emulation thread (for example, from CPU trap or PC hook listener), current
+     * CPU execution slice is stopped at the next instruction boundary.
      */
     public void pause() {
         if (!isPaused) {
             logger.debug("pausing computer");
             isPaused = true;
+            cpu.cutExecutionSlice();
             if (audioMixer != null) {
                 audioMixer.pause();
             }
-            // Wait for the running thread actual pausing
-            synchronized (this) {
-                this.notifyAll(); // wake up uptime sync wait if needed
-            }
+            // Wake up pacing sleep if needed and wait for the current slice completion
+            executeCommand(new Runnable() {
+                @Override
+                public void run() {
+                    // Do nothing
+                }
+            });
         }
     }
 
     /**
-     * Resume computer.
+     * Resume computer. Emulation state is resynchronized in the emulation thread before
+     * its resuming.
      */
     public void resume() {
         if (isPaused) {
             logger.debug("resuming computer");
-            // Sync system uptime to CPU uptime
-            setSystemUptime(getUptime());
-            systemUptimeUpdateTimestamp = System.nanoTime();
-            systemUptimeSyncCheckTimestampTicks = getUptimeTicks();
-            lastEffectiveClockFrequencyCpuUptime = getUptimeTicks();
-            lastEffectiveClockFrequencySystemUptime = getSystemUptime();
-            isPaused = false;
-            synchronized (this) {
-                this.notifyAll();
-            }
+            executeCommand(new Runnable() {
+                @Override
+                public void run() {
+                    // Sync system uptime to CPU uptime
+                    setSystemUptime(getUptime());
+                    systemUptimeUpdateTimestamp = System.nanoTime();
+                    resetPacingTimeBase();
+                    lastEffectiveClockFrequencyCpuUptime = getUptimeTicks();
+                    lastEffectiveClockFrequencySystemUptime = getSystemUptime();
+                    isPaused = false;
+                }
+            });
             if (audioMixer != null) {
                 audioMixer.resume();
             }
@@ -1020,7 +1642,8 @@ public class Computer implements Runnable, StatefulEntity {
     }
 
     /**
-     * Get effective emulation clock frequency.
+     * Get effective emulation clock frequency (CPU clock ticks per system uptime since
+     * the last call), so it reflects the achieved fast-forward speed too.
      * @return effective emulation clock frequency (in kHz)
      */
     public float getEffectiveClockFrequency() {
@@ -1053,31 +1676,107 @@ public class Computer implements Runnable, StatefulEntity {
     }
 
     /**
-     * Check computer uptime is in sync with system time.
+     * Get real time pacing statistics.
+     * @return {@link PacingStatistics} snapshot
      */
-    private void checkUptimeSync() {
-        long uptimeTicks = getUptimeTicks();
-        if (uptimeTicks - systemUptimeSyncCheckTimestampTicks < systemUptimeSyncCheckIntervalTicks) {
-            return;
-        }
+    public PacingStatistics getPacingStatistics() {
+        return new PacingStatistics(pacingStatistics);
+    }
+
+    /**
+     * Reset real time pacing statistics.
+     */
+    public void resetPacingStatistics() {
+        pacingStatistics.reset();
+    }
+
+    /**
+     * Update computer system uptime from system time.
+     */
+    private void updateSystemUptime() {
         long systemTime = System.nanoTime();
         systemUptime += systemTime - systemUptimeUpdateTimestamp;
         systemUptimeUpdateTimestamp = systemTime;
-        systemUptimeSyncCheckTimestampTicks = uptimeTicks;
+    }
+
+    /**
+     * Reset real time pacing time base to current computer and system uptime.
+     */
+    private void resetPacingTimeBase() {
+        pacingBaseUptime = getUptime();
+        pacingBaseSystemUptime = systemUptime;
+        lastPacedFrameSystemUptime = systemUptime;
+    }
+
+    /**
+     * Execute one pacing frame worth of CPU time (or less, if computer is paused or stopped
+     * during frame execution).
+     */
+    private void executeFrame() {
+        long frameEndTicks = getUptimeTicks() + pacingFrameDurationTicks;
+        while (isRunning && !isPaused && getUptimeTicks() < frameEndTicks) {
+            executeSlice(frameEndTicks);
+        }
+    }
+
+    /**
+     * Execute one CPU execution slice (submitted commands and due scheduled events are
+     * handled before slice execution).
+     * @param endTicks CPU time (in CPU ticks) to end execution slice at the latest
+     * (slice can end later if idle CPU time is fast-forwarded)
+     */
+    void executeSlice(long endTicks) {
+        executeCommands();
+        dispatchScheduledEvents();
+        long sliceEndTicks = Math.min(endTicks, getUptimeTicks() + executionSliceDurationTicks);
+        if (clockFrequency != CLOCK_FREQUENCY_MAXIMUM) {
+            // Stop execution slice at the next scheduled event
+            sliceEndTicks = Math.min(sliceEndTicks, eventScheduler.getNextEventTime());
+        } else {
+            // Scheduled events are dispatched by system uptime in maximum speed mode
+            updateSystemUptime();
+        }
+        cpu.execute(sliceEndTicks, getExecutionSliceIdleEndTicks(sliceEndTicks));
+    }
+
+    /**
+     * Pace emulation to real time after frame execution. Sleeps until system uptime reaches
+     * computer uptime (divided by the speed multiplier), so both sleep overshoot and frames
+     * executed later than real time are compensated by the next frames.
+     */
+    private void paceFrame() {
+        updateSystemUptime();
+        long frameSystemUptime = systemUptime - lastPacedFrameSystemUptime;
+        lastPacedFrameSystemUptime = systemUptime;
         if (clockFrequency == CLOCK_FREQUENCY_MAXIMUM) {
             // Do not throttle emulation if it's maximum speed mode
             return;
         }
-        long uptimesDifference = getUptime() - systemUptime;
-        if (uptimesDifference >= UPTIME_SYNC_THRESHOLD) {
-            long uptimesDifferenceMillis = uptimesDifference / NANOSECS_IN_MSEC;
-            int uptimesDifferenceNanos = (int) (uptimesDifference % NANOSECS_IN_MSEC);
-            try {
-                this.wait(uptimesDifferenceMillis, uptimesDifferenceNanos);
-            } catch (InterruptedException e) {
-                // Do nothing
-            }
+        int multiplier = speedMultiplier;
+        if (multiplier == SPEED_MULTIPLIER_UNLIMITED) {
+            // Do not throttle emulation in unlimited fast-forward mode, capture video frames
+            // at real time frame rate according to achieved emulation speed
+            setFrameDecimation((int) Math.max(SPEED_MULTIPLIER_NORMAL,
+                    PACING_FRAME_DURATION / Math.max(1L, frameSystemUptime)));
+            return;
+        }
+        // Computer uptime advances speed multiplier times faster than system uptime
+        long sleepEndTimestamp = systemUptimeUpdateTimestamp + pacingBaseSystemUptime
+                + (getUptime() - pacingBaseUptime) / multiplier - systemUptime;
+        if (sleepEndTimestamp <= systemUptimeUpdateTimestamp) {
+            pacingStatistics.update(true, 0L);
+            return;
+        }
+        long sleepDuration;
+        while (isRunning && !isPaused
+                && (sleepDuration = sleepEndTimestamp - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, sleepDuration);
+            // Sleep can be interrupted by submitted command
+            executeCommands();
         }
+        updateSystemUptime();
+        pacingStatistics.update(false, Math.max(0L,
+                systemUptimeUpdateTimestamp - sleepEndTimestamp));
     }
 
     @Override
@@ -1085,24 +1784,25 @@ public class Computer implements Runnable, StatefulEntity {
         synchronized (this) {
             logger.debug("computer started");
             this.notifyAll();
-            while (isRunning) {
-                if (isPaused) {
-                    logger.debug("computer paused");
-                    while (isRunning && isPaused) {
-                        try {
-                            this.wait(100);
-                        } catch (InterruptedException e) {
-                            // Do nothing
-                        }
+        }
+        while (isRunning) {
+            if (isPaused) {
+                logger.debug("computer paused");
+                while (isRunning && isPaused) {
+                    executeCommands();
+                    // Executed commands could resume computer
+                    if (!isRunning || !isPaused) {
+                        break;
                     }
-                    logger.debug("computer resumed");
-                } else {
-                    cpu.executeNextOperation();
-                    notifyUptimeListeners();
-                    checkUptimeSync();
+                    LockSupport.parkNanos(this, PAUSED_COMMANDS_CHECK_INTERVAL);
                 }
+                logger.debug("computer resumed");
+            } else {
+                executeFrame();
+                paceFrame();
             }
         }
+        executeCommands();
         logger.debug("computer stopped");
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+import java.util.Arrays;
+
+/**
+ * Discrete events scheduler. Keeps scheduled events of registered event handlers in
+ * the min-heap ordered by event time (in CPU ticks), so the nearest event time can be
+ * checked without polling of all event handlers. Events of
+ * {@link InterruptEventHandler}s bound CPU idle time fast-forwarding.
+ */
+public class EventScheduler {
+    /** No scheduled event time constant */
+    public final static long NO_EVENT = Long.MAX_VALUE;
+
+    // Scheduled event handlers min-heap
+    private EventHandler[] eventHandlers = new EventHandler[4];
+    // Scheduled event times min-heap
+    private long[] eventTimes = new long[4];
+    // Scheduled events interrupt request capability flags min-heap
+    private boolean[] eventInterruptFlags = new boolean[4];
+    // Number of scheduled events
+    private int numEvents;
+
+    /**
+     * Scheduled event handler interface.
+     */
+    public interface EventHandler {
+        /**
+         * Handle scheduled event.
+         * @param time current time (in CPU ticks, not less than scheduled event time)
+         * @return next event time (in CPU ticks, greater than given current time)
+         * or {@link #NO_EVENT} if no more events are scheduled
+         */
+        long handleEvent(long time);
+    }
+
+    /**
+     * Scheduled event handler which events can request CPU interrupts, so idle CPU
+     * time can't be fast-forwarded past these events.
+     */
+    public interface InterruptEventHandler extends EventHandler {
+    }
+
+    /**
+     * Schedule event for given handler. Previously scheduled event of given handler
+     * (if any) is rescheduled to the given time.
+     * @param eventHandler {@link EventHandler} to schedule event for
+     * @param eventTime event time (in CPU ticks) or {@link #NO_EVENT} to cancel
+     * scheduled event
+     */
+    public void schedule(EventHandler eventHandler, long eventTime) {
+        int index = indexOf(eventHandler);
+        if (index < 0) {
+            if (eventTime == NO_EVENT) {
+                return;
+            }
+            if (numEvents == eventHandlers.length) {
+                eventHandlers = Arrays.copyOf(eventHandlers, numEvents * 2);
+                eventTimes = Arrays.copyOf(eventTimes, numEvents * 2);
+                eventInterruptFlags = Arrays.copyOf(eventInterruptFlags, numEvents * 2);
+            }
+            index = numEvents++;
+            eventHandlers[index] = eventHandler;
+            eventInterruptFlags[index] = (eventHandler instanceof InterruptEventHandler);
+        } else if (eventTime == NO_EVENT) {
+            remove(index);
+            return;
+        }
+        eventTimes[index] = eventTime;
+        siftDown(siftUp(index));
+    }
+
+    /**
+     * Cancel scheduled event for given handler.
+     * @param eventHandler {@link EventHandler} to cancel scheduled event for
+     */
+    public void cancel(EventHandler eventHandler) {
+        schedule(eventHandler, NO_EVENT);
+    }
+
+    /**
+     * Get scheduled event time for given handler.
+     * @param eventHandler {@link EventHandler} to get scheduled event time for
+     * @return scheduled event time (in CPU ticks) or {@link #NO_EVENT} if no event
+     * is scheduled for given handler
+     */
+    public long getEventTime(EventHandler eventHandler) {
+        int index = indexOf(eventHandler);
+        return (index >= 0) ? eventTimes[index] : NO_EVENT;
+    }
+
+    /**
+     * Get the nearest scheduled event time.
+     * @return the nearest event time (in CPU ticks) or {@link #NO_EVENT} if no events
+     * are scheduled
+     */
+    public long getNextEventTime() {
+        return (numEvents > 0) ? eventTimes[0] : NO_EVENT;
+    }
+
+    /**
+     * Get the nearest scheduled event time of {@link InterruptEventHandler}s.
+     * @return the nearest interrupt capable event time (in CPU ticks) or {@link #NO_EVENT}
+     * if no interrupt capable events are scheduled
+     */
+    public long getNextInterruptEventTime() {
+        long nextEventTime = NO_EVENT;
+        for (int i = 0; i < numEvents; i++) {
+            if (eventInterruptFlags[i]) {
+                nextEventTime = Math.min(nextEventTime, eventTimes[i]);
+            }
+        }
+        return nextEventTime;
+    }
+
+    /**
+     * Handle all events scheduled not later than given time, in the event time order.
+     * @param time current time (in CPU ticks)
+     */
+    public void dispatchEvents(long time) {
+        while (numEvents > 0 && eventTimes[0] <= time) {
+            EventHandler eventHandler = eventHandlers[0];
+            long nextEventTime = eventHandler.handleEvent(time);
+            if (nextEventTime <= time) {
+                throw new IllegalStateException("Invalid next event time " + nextEventTime
+                        + " at time " + time);
+            }
+            // Event handler could reschedule its event while handling
+            int index = indexOf(eventHandler);
+            if (index >= 0 && eventTimes[index] <= time) {
+                if (nextEventTime == NO_EVENT) {
+                    remove(index);
+                } else {
+                    eventTimes[index] = nextEventTime;
+                    siftDown(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reschedule all scheduled events to given time (for example, after time base change),
+     * so event handlers can resynchronize their state on the next events dispatching.
+     * @param time time (in CPU ticks) to reschedule events to
+     */
+    public void rescheduleAll(long time) {
+        Arrays.fill(eventTimes, 0, numEvents, time);
+    }
+
+    private int indexOf(EventHandler eventHandler) {
+        for (int i = 0; i < numEvents; i++) {
+            if (eventHandlers[i] == eventHandler) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void remove(int index) {
+        int lastIndex = --numEvents;
+        if (index != lastIndex) {
+            eventHandlers[index] = eventHandlers[lastIndex];
+            eventTimes[index] = eventTimes[lastIndex];
+            eventInterruptFlags[index] = eventInterruptFlags[lastIndex];
+            eventHandlers[lastIndex] = null;
+            siftDown(siftUp(index));
+        } else {
+            eventHandlers[lastIndex] = null;
+        }
+    }
+
+    private int siftUp(int index) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >> 1;
+            if (eventTimes[parentIndex] <= eventTimes[index]) {
+                break;
+            }
+            swap(index, parentIndex);
+            index = parentIndex;
+        }
+        return index;
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int childIndex = (index << 1) + 1;
+            if (childIndex >= numEvents) {
+                break;
+            }
+            if (childIndex + 1 < numEvents && eventTimes[childIndex + 1] < eventTimes[childIndex]) {
+                childIndex++;
+            }
+            if (eventTimes[index] <= eventTimes[childIndex]) {
+                break;
+            }
+            swap(index, childIndex);
+            index = childIndex;
+        }
+    }
+
+    private void swap(int index1, int index2) {
+        EventHandler eventHandler = eventHandlers[index1];
+        eventHandlers[index1] = eventHandlers[index2];
+        eventHandlers[index2] = eventHandler;
+        long eventTime = eventTimes[index1];
+        eventTimes[index1] = eventTimes[index2];
+        eventTimes[index2] = eventTime;
+        boolean eventInterruptFlag = eventInterruptFlags[index1];
+        eventInterruptFlags[index1] = eventInterruptFlags[index2];
+        eventInterruptFlags[index2] = eventInterruptFlag;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package su.comp.bk.arch;
+
+import java.io.File;
+
+import su.comp.bk.arch.cpu.Cpu;
+import su.comp.bk.arch.io.MemoryFrameRenderer;
+import su.comp.bk.arch.io.audio.AudioPlayer;
+import su.comp.bk.arch.io.audio.AudioPlayerFactory;
+import su.comp.bk.arch.io.audio.NullAudioPlayer;
+import su.comp.bk.resource.FileResourceManager;
+import su.comp.bk.resource.ResourceManager;
+
+/**
+ * Headless emulator runner. Configures {@link Computer} with null audio player and
+ * in-memory frame renderer and executes it in the calling thread as fast as possible,
+ * until given CPU time is elapsed or given stop condition is met.
+ */
+public class HeadlessComputer {
+    // Null audio players factory (audio mixer is never started in headless mode)
+    private final static AudioPlayerFactory NULL_AUDIO_PLAYER_FACTORY = new AudioPlayerFactory() {
+        @Override
+        public AudioPlayer createAudioPlayer() {
+            return new NullAudioPlayer();
+        }
+    };
+
+    private final Computer computer;
+
+    private final MemoryFrameRenderer frameRenderer;
+
+    /**
+     * Emulation stop condition interface.
+     */
+    public interface StopCondition {
+        /**
+         * Check emulation stop condition (at the CPU execution slice boundary).
+         * @param computer {@link Computer} reference
+         * @return <code>true</code> if emulation must be stopped, <code>false</code> otherwise
+         */
+        boolean isMet(Computer computer);
+    }
+
+    // Stop condition met when PC reaches given address
+    private static class PcStopCondition implements StopCondition, Cpu.OnPcHookListener {
+        private boolean isPcReached;
+
+        @Override
+        public boolean onPcHook(Cpu cpu, int address) {
+            isPcReached = true;
+            // Stop execution at the hooked address
+            return true;
+        }
+
+        @Override
+        public boolean isMet(Computer computer) {
+            return isPcReached;
+        }
+    }
+
+    /**
+     * Create headless computer with native clock frequency of given configuration model.
+     * @param configuration computer configuration as {@link Computer.Configuration} value
+     * @param resourceManager {@link ResourceManager} reference
+     * @throws Exception in case of error while configuring
+     */
+    public HeadlessComputer(Computer.Configuration configuration,
+                            ResourceManager resourceManager) throws Exception {
+        this(configuration, resourceManager,
+                (configuration.getModel() == Computer.Model.BK_0010)
+                        ? Computer.CLOCK_FREQUENCY_BK0010 : Computer.CLOCK_FREQUENCY_BK0011);
+    }
+
+    /**
+     * Create headless computer.
+     * @param configuration computer configuration as {@link Computer.Configuration} value
+     * @param resourceManager {@link ResourceManager} reference
+     * @param clockFrequency CPU clock frequency (in kHz)
+     * @throws Exception in case of error while configuring
+     */
+    public HeadlessComputer(Computer.Configuration configuration,
+                            ResourceManager resourceManager,
+                            int clockFrequency) throws Exception {
+        if (clockFrequency <= Computer.CLOCK_FREQUENCY_MAXIMUM) {
+            throw new IllegalArgumentException("Invalid clock frequency: " + clockFrequency);
+        }
+        computer = new Computer();
+        frameRenderer = new MemoryFrameRenderer();
+        computer.configure(NULL_AUDIO_PLAYER_FACTORY, resourceManager, frameRenderer,
+                configuration, clockFrequency);
+        // Emulation is not throttled, so do not warn about audio buffers overflows
+        computer.setSpeedMultiplier(Computer.SPEED_MULTIPLIER_UNLIMITED);
+        computer.reset();
+    }
+
+    /**
+     * Get configured {@link Computer}.
+     * @return computer reference
+     */
+    public Computer getComputer() {
+        return computer;
+    }
+
+    /**
+     * Get in-memory frame renderer. Frame is rendered on {@link #renderFrame()} call.
+     * @return {@link MemoryFrameRenderer} reference
+     */
+    public MemoryFrameRenderer getFrameRenderer() {
+        return frameRenderer;
+    }
+
+    /**
+     * Render the last displayed frame to the in-memory frame renderer.
+     */
+    public void renderFrame() {
+        computer.getVideoController().renderFrame();
+    }
+
+    /**
+     * Execute computer for given CPU time.
+     * @param ticks CPU time to execute (in CPU ticks)
+     */
+    public void run(long ticks) {
+        runUntil(null, ticks);
+    }
+
+    /**
+     * Execute computer until PC reaches given address or given CPU time is elapsed.
+     * Execution is stopped before the instruction at given address, so PC is equal
+     * to given address if it is reached.
+     * @param address address to stop at (even)
+     * @param maxTicks maximum CPU time to execute (in CPU ticks)
+     * @return <code>true</code> if PC reached given address, <code>false</code>
+     * if given CPU time is elapsed
+     */
+    public boolean runUntilPc(int address, long maxTicks) {
+        PcStopCondition condition = new PcStopCondition();
+        Cpu cpu = computer.getCpu();
+        cpu.setPcHook(address, condition);
+        try {
+            return runUntil(condition, maxTicks);
+        } finally {
+            cpu.setPcHook(address, null);
+        }
+    }
+
+    /**
+     * Execute computer until given condition is met or given CPU time is elapsed.
+     * Condition is checked at the CPU execution slice boundaries.
+     * @param condition {@link StopCondition} to check or <code>null</code> to execute
+     * for given CPU time
+     * @param maxTicks maximum CPU time to execute (in CPU ticks)
+     * @return <code>true</code> if condition was met, <code>false</code>
+     * if given CPU time is elapsed
+     */
+    public boolean runUntil(StopCondition condition, long maxTicks) {
+        long endTicks = computer.getUptimeTicks() + maxTicks;
+        while (computer.getUptimeTicks() < endTicks) {
+            computer.executeSlice(endTicks);
+            if (condition != null && condition.isMet(computer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Headless emulator command line entry point.
+     * Arguments: ROM files directory, configuration name, CPU time to execute (in CPU ticks)
+     * and optional address to stop at (octal). Exit code is 0 if emulation was finished
+     * successfully, 1 if address to stop at was not reached, 2 in case of invalid arguments.
+     * @param args command line arguments
+     * @throws Exception in case of emulation error
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: HeadlessComputer <ROM directory> <configuration>"
+                    + " <ticks> [<stop address (octal)>]");
+            System.exit(2);
+        }
+        HeadlessComputer headlessComputer = new HeadlessComputer(
+                Computer.Configuration.valueOf(args[1]),
+                new FileResourceManager(new File(args[0])));
+        long ticks = Long.parseLong(args[2]);
+        boolean isStopped = true;
+        Computer computer = headlessComputer.getComputer();
+        long startTicks = computer.getUptimeTicks();
+        long startTimestamp = System.nanoTime();
+        if (args.length > 3) {
+            isStopped = headlessComputer.runUntilPc(Integer.parseInt(args[3], 8), ticks);
+        } else {
+            headlessComputer.run(ticks);
+        }
+        long elapsedTime = System.nanoTime() - startTimestamp;
+        long elapsedTicks = computer.getUptimeTicks() - startTicks;
+        System.out.println("uptime (ticks): " + computer.getUptimeTicks()
+                + ", PC: " + Integer.toOctalString(computer.getCpu().readRegister(false, Cpu.PC))
+                + ", elapsed time (ms): " + elapsedTime / Computer.NANOSECS_IN_MSEC
+                + ", speed (kHz): " + ((elapsedTime > 0)
+                        ? elapsedTicks * Computer.NANOSECS_IN_MSEC / elapsedTime : 0));
+        System.exit(isStopped ? 0 : 1);
+    }
+}
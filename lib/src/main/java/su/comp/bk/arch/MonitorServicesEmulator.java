@@ -0,0 +1,466 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+import su.comp.bk.arch.cpu.Cpu;
+import su.comp.bk.arch.cpu.opcode.EmtOpcode;
+import su.comp.bk.arch.io.KeyboardController;
+import su.comp.bk.arch.io.VideoController;
+import su.comp.bk.resource.ResourceManager;
+
+/**
+ * High-level emulation of BK-0010 monitor ROM EMT services. Character output (EMT 16),
+ * string output (EMT 20) and key reading (EMT 6) service calls are handled in Java
+ * instead of interpreting monitor ROM routines, with the same resulting screen memory,
+ * monitor system variables and registers state. Service calls in the monitor states
+ * which are not emulated (color and graphics modes, control characters other than
+ * line feed and screen clear, key waiting, etc.) are executed by monitor ROM.
+ * Service calls are handled only while EMT trap vector points at the stock
+ * monitor ROM EMT handler.
+ */
+public class MonitorServicesEmulator implements Cpu.OnPcHookListener {
+    /** Stock monitor ROM EMT handler address */
+    public final static int EMT_HANDLER_ADDRESS = 0100112;
+
+    /** Default emulated service call execution time (in CPU clock ticks) */
+    public final static int DEFAULT_SERVICE_CALL_EXECUTION_TIME = 256;
+
+    // Emulated EMT service codes
+    private final static int EMT_READ_KEY = 06;
+    private final static int EMT_PRINT_CHARACTER = 016;
+    private final static int EMT_PRINT_STRING = 020;
+
+    // Monitor system variables (byte flags)
+    private final static int VAR_COLOR_MODE = 040;
+    private final static int VAR_EXTENDED_MEMORY_MODE = 042;
+    private final static int VAR_UNDERLINE_MODE = 044;
+    private final static int VAR_INVERSE_MODE = 045;
+    private final static int VAR_CONTROL_CHARS_DISPLAY_MODE = 046;
+    private final static int VAR_EDIT_BLOCK_MODE = 047;
+    private final static int VAR_GRAPHICS_MODE = 050;
+    private final static int VAR_CURSOR_DISABLED = 056;
+    private final static int VAR_KEY_CODE = 0104;
+    private final static int VAR_KEY_READY = 0105;
+    private final static int VAR_KEY_REPEAT_MODE = 0110;
+    private final static int VAR_PENDING_SPACES_COUNT = 0111;
+    private final static int VAR_PENDING_MACRO_LENGTH = 0122;
+    private final static int VAR_CURSOR_ADDRESS_INVALID = 0152;
+    private final static int VAR_GRAPHICS_CURSOR_MASK = 0154;
+    private final static int VAR_GRAPHICS_CURSOR_MASK_DEFAULT = 0155;
+    // Monitor system variables (words)
+    private final static int VAR_KEY_REPEAT_DELAY = 0106;
+    private final static int VAR_CURSOR_POSITION = 0156;
+    private final static int VAR_CURSOR_ADDRESS = 0160;
+    private final static int VAR_CURSOR_POSITION_STEP = 0162;
+    private final static int VAR_CURSOR_POSITION_LIMIT = 0164;
+    private final static int VAR_GRAPHICS_CURSOR_POSITION = 0166;
+    private final static int VAR_GRAPHICS_CURSOR_ADDRESS = 0170;
+    private final static int VAR_GRAPHICS_CURSOR_LINE = 0174;
+    private final static int VAR_SCREEN_START_ADDRESS = 0202;
+    private final static int VAR_SCREEN_OFFSET = 0204;
+    private final static int VAR_SCREEN_SIZE = 0206;
+    private final static int VAR_SCREEN_CLEAR_SIZE = 0210;
+    private final static int VAR_BACKGROUND_PATTERN = 0212;
+    private final static int VAR_FOREGROUND_PATTERN = 0214;
+    private final static int VAR_OUTPUT_COUNTER = 0222;
+
+    // Addresses below this one are monitor system area
+    private final static int SYSTEM_AREA_END_ADDRESS = 0400;
+
+    // Monitor ROM font address, font character height (in pixel lines)
+    private final static int FONT_ADDRESS = 0112036;
+    private final static int CHARACTER_HEIGHT = 10;
+
+    // Screen line size (in bytes), text line size (in bytes)
+    private final static int SCREEN_LINE_SIZE = 0100;
+    private final static int TEXT_LINE_SIZE = SCREEN_LINE_SIZE * CHARACTER_HEIGHT;
+    // Cursor position column mask (64 columns per text line)
+    private final static int CURSOR_POSITION_COLUMN_MASK = 077;
+    // Number of screen lines moved by monitor on screen scrolling
+    private final static int SCROLL_MOVED_LINES = 020;
+    // Scroll register value change on screen scrolling
+    private final static int SCROLL_REGISTER_STEP = CHARACTER_HEIGHT;
+
+    // Value written to keyboard key repeat delay variable on screen clearing
+    private final static int KEY_REPEAT_DELAY_VALUE = 020000;
+
+    private final Computer computer;
+
+    private boolean isEnabled;
+
+    // Emulated service call execution time (in CPU clock ticks)
+    private int serviceCallExecutionTime = DEFAULT_SERVICE_CALL_EXECUTION_TIME;
+
+    public MonitorServicesEmulator(Computer computer) {
+        this.computer = computer;
+    }
+
+    /**
+     * Check monitor services emulation is enabled.
+     * @return <code>true</code> if monitor services emulation is enabled,
+     * <code>false</code> otherwise
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enable or disable monitor services emulation.
+     * @param isEnabled <code>true</code> to enable monitor services emulation,
+     * <code>false</code> to disable
+     */
+    public void setEnabled(boolean isEnabled) {
+        if (this.isEnabled != isEnabled) {
+            this.isEnabled = isEnabled;
+            computer.getCpu().setPcHook(EMT_HANDLER_ADDRESS, isEnabled ? this : null);
+        }
+    }
+
+    /**
+     * Get emulated service call execution time.
+     * @return emulated service call execution time (in CPU clock ticks)
+     */
+    public int getServiceCallExecutionTime() {
+        return serviceCallExecutionTime;
+    }
+
+    /**
+     * Set emulated service call execution time. This time is accounted for each emulated
+     * service call, string output service call is accounted as the sequence of character
+     * output service calls.
+     * @param serviceCallExecutionTime emulated service call execution time
+     * (in CPU clock ticks)
+     */
+    public void setServiceCallExecutionTime(int serviceCallExecutionTime) {
+        this.serviceCallExecutionTime = serviceCallExecutionTime;
+    }
+
+    @Override
+    public boolean onPcHook(Cpu cpu, int address) {
+        if (computer.readMemory(false, Cpu.TRAP_VECTOR_EMT) != EMT_HANDLER_ADDRESS
+                || !isMonitorRomMapped()) {
+            return false;
+        }
+        int returnAddress = computer.readMemory(false, cpu.readRegister(false, Cpu.SP));
+        if (returnAddress == Computer.BUS_ERROR) {
+            return false;
+        }
+        int instruction = computer.readMemory(false, (returnAddress - 2) & 0177776);
+        if (instruction == Computer.BUS_ERROR
+                || (instruction & 0177400) != EmtOpcode.OPCODE) {
+            return false;
+        }
+        int numServiceCalls;
+        switch (instruction & 0377) {
+            case EMT_READ_KEY:
+                numServiceCalls = readKey(cpu);
+                break;
+            case EMT_PRINT_CHARACTER:
+                numServiceCalls = printCharacter(cpu);
+                break;
+            case EMT_PRINT_STRING:
+                numServiceCalls = printString(cpu);
+                break;
+            default:
+                numServiceCalls = 0;
+                break;
+        }
+        if (numServiceCalls > 0) {
+            cpu.returnFromTrap(false);
+            cpu.setTime(cpu.getTime() + (long) numServiceCalls * serviceCallExecutionTime);
+        }
+        return false;
+    }
+
+    private boolean isMonitorRomMapped() {
+        Computer.MemoryRange memoryRange = computer.getReadableMemoryRange(EMT_HANDLER_ADDRESS);
+        return memoryRange != null && ResourceManager.ROM_MONITOR_10.equals(
+                memoryRange.getMemory().getId());
+    }
+
+    private int readByte(int address) {
+        return computer.readMemory(true, address);
+    }
+
+    private void writeByte(int address, int value) {
+        computer.writeMemory(true, address, value);
+    }
+
+    private int readWord(int address) {
+        return computer.readMemory(false, address);
+    }
+
+    private void writeWord(int address, int value) {
+        computer.writeMemory(false, address, value & 0177777);
+    }
+
+    /**
+     * EMT 6 - read key. Only already received key is emulated, key waiting is
+     * executed by monitor ROM.
+     * @return number of emulated service calls
+     */
+    private int readKey(Cpu cpu) {
+        if (readByte(VAR_PENDING_MACRO_LENGTH) != 0 || readByte(VAR_PENDING_SPACES_COUNT) != 0
+                || readByte(VAR_KEY_REPEAT_MODE) != 0 || readByte(VAR_KEY_READY) == 0
+                || cpu.isIrq1Requested() || cpu.isIrq2Requested() || cpu.isVirqRequested()) {
+            return 0;
+        }
+        // Monitor routine reads keyboard data register, so its data ready flag is cleared
+        computer.readMemory(false, KeyboardController.DATA_REGISTER_ADDRESS);
+        cpu.writeRegister(false, Cpu.R0, readByte(VAR_KEY_CODE));
+        writeByte(VAR_KEY_READY, 0);
+        return 1;
+    }
+
+    /**
+     * EMT 16 - print character from R0.
+     * @return number of emulated service calls
+     */
+    private int printCharacter(Cpu cpu) {
+        int character = cpu.readRegister(true, Cpu.R0);
+        if (!isOutputEmulated(1) || !isCharacterOutputEmulated(character)) {
+            return 0;
+        }
+        outputCharacter(character);
+        return 1;
+    }
+
+    /**
+     * EMT 20 - print string from address in R1, string length is in R2 low byte,
+     * string terminator character is in R2 high byte.
+     * @return number of emulated service calls
+     */
+    private int printString(Cpu cpu) {
+        int stringAddress = cpu.readRegister(false, Cpu.R1);
+        int stringLength = cpu.readRegister(true, Cpu.R2);
+        int terminator = cpu.readRegister(false, Cpu.R2) >> 8;
+        if (stringLength == 0) {
+            return 0;
+        }
+        int screenStartAddress = readWord(VAR_SCREEN_START_ADDRESS);
+        int screenEndAddress = screenStartAddress + readWord(VAR_SCREEN_SIZE);
+        int[] characters = new int[stringLength];
+        int numCharacters = 0;
+        int character;
+        do {
+            int address = (stringAddress + numCharacters) & 0177777;
+            // String must not be changed by its output
+            if (address < SYSTEM_AREA_END_ADDRESS || (address >= screenStartAddress
+                    && address < screenEndAddress)) {
+                return 0;
+            }
+            character = readByte(address);
+            if (character == Computer.BUS_ERROR || !isCharacterOutputEmulated(character)) {
+                return 0;
+            }
+            characters[numCharacters++] = character;
+        } while (character != terminator && numCharacters < stringLength);
+        if (!isOutputEmulated(numCharacters)) {
+            return 0;
+        }
+        for (int i = 0; i < numCharacters; i++) {
+            outputCharacter(characters[i]);
+        }
+        cpu.writeRegister(false, Cpu.R1, stringAddress + numCharacters);
+        cpu.writeRegister(false, Cpu.R2, (character == terminator)
+                ? stringLength - numCharacters + 1 : 0);
+        return numCharacters;
+    }
+
+    /**
+     * Check output of given number of characters can be emulated in current monitor state.
+     * Cursor position can't become negative while given number of characters is output.
+     * @param numCharacters number of characters to output
+     * @return <code>true</code> if characters output can be emulated,
+     * <code>false</code> otherwise
+     */
+    private boolean isOutputEmulated(int numCharacters) {
+        if (readByte(VAR_COLOR_MODE) != 0 || readByte(VAR_EXTENDED_MEMORY_MODE) != 0
+                || readByte(VAR_CONTROL_CHARS_DISPLAY_MODE) != 0
+                || readByte(VAR_GRAPHICS_MODE) != 0
+                || readWord(VAR_CURSOR_POSITION_LIMIT) == 0) {
+            return false;
+        }
+        long maxCursorPosition = readWord(VAR_CURSOR_POSITION) + (long) numCharacters
+                * Math.max(readWord(VAR_CURSOR_POSITION_STEP), CURSOR_POSITION_COLUMN_MASK + 1);
+        return maxCursorPosition < 0100000;
+    }
+
+    private boolean isCharacterOutputEmulated(int character) {
+        if ((character >= 040 && character <= 0177) || character >= 0240) {
+            return true;
+        }
+        if (character == 012) {
+            return true;
+        }
+        return character == 014 && readByte(VAR_EDIT_BLOCK_MODE) == 0
+                && (((short) readWord(VAR_SCREEN_CLEAR_SIZE)) >> 1) > 0;
+    }
+
+    private void outputCharacter(int character) {
+        writeWord(VAR_OUTPUT_COUNTER, readWord(VAR_OUTPUT_COUNTER) + 1);
+        if (character == 012) {
+            // Line feed
+            writeWord(VAR_CURSOR_POSITION, (readWord(VAR_CURSOR_POSITION)
+                    | CURSOR_POSITION_COLUMN_MASK) + 1);
+            toggleCursor();
+            writeByte(VAR_CURSOR_ADDRESS_INVALID, readByte(VAR_CURSOR_ADDRESS_INVALID) + 1);
+            updateCursorAddress();
+            toggleCursor();
+        } else if (character == 014) {
+            clearScreen();
+        } else {
+            drawCharacter((character <= 0177) ? character - 020 : character - 060);
+            writeWord(VAR_CURSOR_POSITION, readWord(VAR_CURSOR_POSITION)
+                    + readWord(VAR_CURSOR_POSITION_STEP));
+            updateCursorAddress();
+            toggleCursor();
+        }
+    }
+
+    private int getNextScreenLineAddress(int address) {
+        address = (address + SCREEN_LINE_SIZE) & 0177777;
+        if ((address & 0100000) != 0) {
+            address = (address - readWord(VAR_SCREEN_SIZE)) & 0177777;
+        }
+        return address;
+    }
+
+    private void drawCharacter(int glyphIndex) {
+        int fontAddress = FONT_ADDRESS + glyphIndex * CHARACTER_HEIGHT;
+        boolean isInverse = (readByte(VAR_INVERSE_MODE) != 0)
+                ^ (readWord(VAR_BACKGROUND_PATTERN) != 0);
+        boolean isUnderline = readByte(VAR_UNDERLINE_MODE) != 0;
+        int address = readWord(VAR_CURSOR_ADDRESS);
+        for (int line = 0; line < CHARACTER_HEIGHT; line++) {
+            if (line > 0) {
+                address = getNextScreenLineAddress(address);
+            }
+            int value = readByte(fontAddress + line);
+            if (isInverse) {
+                value ^= 0377;
+            }
+            if (isUnderline && line == CHARACTER_HEIGHT - 1) {
+                value = readWord(VAR_FOREGROUND_PATTERN) & 0377;
+            }
+            writeByte(address, value);
+        }
+    }
+
+    private void toggleCursor() {
+        if (readByte(VAR_CURSOR_DISABLED) != 0) {
+            return;
+        }
+        int address = readWord(VAR_CURSOR_ADDRESS);
+        int mask = ((address & 1) != 0) ? 0177400 : 0377;
+        address &= 0177776;
+        for (int line = 0; line < CHARACTER_HEIGHT; line++) {
+            writeWord(address, readWord(address) ^ mask);
+            address = getNextScreenLineAddress(address);
+        }
+    }
+
+    private void updateCursorAddress() {
+        int cursorPosition = readWord(VAR_CURSOR_POSITION);
+        if (readByte(VAR_CURSOR_ADDRESS_INVALID) == 0
+                && (cursorPosition & CURSOR_POSITION_COLUMN_MASK) != 0) {
+            writeWord(VAR_CURSOR_ADDRESS, readWord(VAR_CURSOR_ADDRESS)
+                    + readWord(VAR_CURSOR_POSITION_STEP));
+            return;
+        }
+        int cursorPositionLimit = readWord(VAR_CURSOR_POSITION_LIMIT);
+        if (cursorPosition >= cursorPositionLimit) {
+            do {
+                cursorPosition = (cursorPosition - (CURSOR_POSITION_COLUMN_MASK + 1)) & 0177777;
+            } while (cursorPosition >= cursorPositionLimit);
+            scrollScreen();
+        }
+        writeWord(VAR_CURSOR_POSITION, cursorPosition);
+        int lineOffset = cursorPosition & ~CURSOR_POSITION_COLUMN_MASK;
+        int cursorAddress = ((cursorPosition & CURSOR_POSITION_COLUMN_MASK)
+                + lineOffset * CHARACTER_HEIGHT + readWord(VAR_SCREEN_OFFSET)) & 037777;
+        writeWord(VAR_CURSOR_ADDRESS, cursorAddress + readWord(VAR_SCREEN_START_ADDRESS));
+        writeByte(VAR_CURSOR_ADDRESS_INVALID, 0);
+    }
+
+    private void scrollScreen() {
+        int scrollRegisterValue = readWord(VideoController.CONTROL_REGISTER_ADDRESS);
+        writeWord(VideoController.CONTROL_REGISTER_ADDRESS,
+                scrollRegisterValue + SCROLL_REGISTER_STEP);
+        int screenStartAddress = readWord(VAR_SCREEN_START_ADDRESS);
+        int screenSize = readWord(VAR_SCREEN_SIZE);
+        int screenOffset = readWord(VAR_SCREEN_OFFSET);
+        // Move status line down to the new screen top (source and destination
+        // addresses are predecremented and wrapped around the screen start)
+        int srcAddress = (screenOffset + screenStartAddress) & 0177777;
+        int dstAddress = (srcAddress + TEXT_LINE_SIZE) & 0177777;
+        if (srcAddress <= screenStartAddress) {
+            srcAddress = (srcAddress + screenSize) & 0177777;
+        }
+        if (dstAddress > 0100000) {
+            dstAddress = (dstAddress - screenSize) & 0177777;
+        }
+        for (int line = 0; line < SCROLL_MOVED_LINES; line++) {
+            for (int i = 0; i < SCREEN_LINE_SIZE / 2; i++) {
+                srcAddress = (srcAddress - 2) & 0177777;
+                dstAddress = (dstAddress - 2) & 0177777;
+                writeWord(dstAddress, readWord(srcAddress));
+            }
+            if (srcAddress <= screenStartAddress) {
+                srcAddress = (srcAddress + screenSize) & 0177777;
+            } else if (dstAddress <= screenStartAddress) {
+                dstAddress = (dstAddress + screenSize) & 0177777;
+            }
+        }
+        // Clear text line above moved status line
+        int backgroundPattern = readWord(VAR_BACKGROUND_PATTERN);
+        for (int line = 0; line < CHARACTER_HEIGHT; line++) {
+            if (dstAddress <= screenStartAddress) {
+                dstAddress = (dstAddress + screenSize) & 0177777;
+            }
+            for (int i = 0; i < SCREEN_LINE_SIZE / 2; i++) {
+                dstAddress = (dstAddress - 2) & 0177777;
+                writeWord(dstAddress, backgroundPattern);
+            }
+        }
+        writeWord(VAR_SCREEN_OFFSET, (screenOffset + TEXT_LINE_SIZE) & 037777);
+    }
+
+    private void clearScreen() {
+        writeWord(VAR_CURSOR_POSITION, 0);
+        updateCursorAddress();
+        int backgroundPattern = readWord(VAR_BACKGROUND_PATTERN);
+        int screenSize = readWord(VAR_SCREEN_SIZE);
+        int address = readWord(VAR_CURSOR_ADDRESS);
+        int numWords = ((short) readWord(VAR_SCREEN_CLEAR_SIZE)) >> 1;
+        while (numWords-- > 0) {
+            writeWord(address, backgroundPattern);
+            address = (address + 2) & 0177777;
+            if ((address & 0100000) != 0) {
+                address = (address - screenSize) & 0177777;
+            }
+        }
+        writeWord(VAR_GRAPHICS_CURSOR_POSITION, 0);
+        writeWord(VAR_GRAPHICS_CURSOR_ADDRESS, (readWord(VAR_SCREEN_OFFSET) & 037777)
+                + readWord(VAR_SCREEN_START_ADDRESS));
+        writeWord(VAR_GRAPHICS_CURSOR_LINE, 0);
+        writeByte(VAR_GRAPHICS_CURSOR_MASK, readByte(VAR_GRAPHICS_CURSOR_MASK_DEFAULT));
+        toggleCursor();
+        writeWord(VAR_KEY_REPEAT_DELAY, KEY_REPEAT_DELAY_VALUE);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+/**
+ * Real time emulation pacing statistics. Pacing jitter is the difference between
+ * actual and expected emulation thread wake up time after the pacing sleep.
+ */
+public class PacingStatistics {
+    // Number of paced frames
+    private long framesCount;
+    // Number of frames finished later than real time
+    private long lateFramesCount;
+    // Number of pacing sleeps
+    private long sleepsCount;
+    // Sum of pacing jitter values (in nanoseconds)
+    private long jitterSum;
+    // Sum of squared pacing jitter values (in nanoseconds squared)
+    private double jitterSquaresSum;
+    // Maximum pacing jitter value (in nanoseconds)
+    private long maximumJitter;
+
+    public PacingStatistics() {
+        // Do nothing
+    }
+
+    /**
+     * Create copy of given pacing statistics.
+     * @param statistics {@link PacingStatistics} to copy
+     */
+    public PacingStatistics(PacingStatistics statistics) {
+        synchronized (statistics) {
+            this.framesCount = statistics.framesCount;
+            this.lateFramesCount = statistics.lateFramesCount;
+            this.sleepsCount = statistics.sleepsCount;
+            this.jitterSum = statistics.jitterSum;
+            this.jitterSquaresSum = statistics.jitterSquaresSum;
+            this.maximumJitter = statistics.maximumJitter;
+        }
+    }
+
+    /**
+     * Update statistics with paced frame results.
+     * @param isLate <code>true</code> if frame was finished later than real time
+     * (so no pacing sleep was done), <code>false</code> otherwise
+     * @param jitter pacing sleep jitter (in nanoseconds, ignored for late frames)
+     */
+    synchronized void update(boolean isLate, long jitter) {
+        framesCount++;
+        if (isLate) {
+            lateFramesCount++;
+        } else {
+            sleepsCount++;
+            jitterSum += jitter;
+            jitterSquaresSum += (double) jitter * jitter;
+            maximumJitter = Math.max(maximumJitter, jitter);
+        }
+    }
+
+    /**
+     * Reset statistics.
+     */
+    synchronized void reset() {
+        framesCount = 0;
+        lateFramesCount = 0;
+        sleepsCount = 0;
+        jitterSum = 0;
+        jitterSquaresSum = 0;
+        maximumJitter = 0;
+    }
+
+    /**
+     * Get number of paced frames.
+     * @return number of frames
+     */
+    public long getFramesCount() {
+        return framesCount;
+    }
+
+    /**
+     * Get number of frames finished later than real time.
+     * @return number of late frames
+     */
+    public long getLateFramesCount() {
+        return lateFramesCount;
+    }
+
+    /**
+     * Get number of pacing sleeps.
+     * @return number of sleeps
+     */
+    public long getSleepsCount() {
+        return sleepsCount;
+    }
+
+    /**
+     * Get average pacing jitter.
+     * @return average jitter (in nanoseconds)
+     */
+    public long getAverageJitter() {
+        return (sleepsCount > 0) ? jitterSum / sleepsCount : 0;
+    }
+
+    /**
+     * Get pacing jitter standard deviation.
+     * @return jitter standard deviation (in nanoseconds)
+     */
+    public long getJitterDeviation() {
+        if (sleepsCount == 0) {
+            return 0;
+        }
+        double average = (double) jitterSum / sleepsCount;
+        return (long) Math.sqrt(Math.max(0d, jitterSquaresSum / sleepsCount
+                - average * average));
+    }
+
+    /**
+     * Get maximum pacing jitter.
+     * @return maximum jitter (in nanoseconds)
+     */
+    public long getMaximumJitter() {
+        return maximumJitter;
+    }
+
+    @Override
+    public String toString() {
+        return "frames: " + getFramesCount() + ", late: " + getLateFramesCount()
+                + ", jitter avg/dev/max (us): " + getAverageJitter() / Computer.NANOSECS_IN_USEC
+                + "/" + getJitterDeviation() / Computer.NANOSECS_IN_USEC
+                + "/" + getMaximumJitter() / Computer.NANOSECS_IN_USEC;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import java.util.Arrays;
+
+import su.comp.bk.arch.cpu.opcode.BranchOpcode;
+import su.comp.bk.arch.cpu.opcode.Opcode;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+
+/**
+ * Basic block - straight-line sequence of pre-decoded instructions, which can be
+ * terminated only by the last flow control instruction.
+ */
+public class BasicBlock {
+    /** Number of block executions after which block is considered as hot */
+    public static final int HOT_BLOCK_THRESHOLD = 16;
+
+    /** Maximum number of instructions in the polling loop block (including branch) */
+    public static final int MAX_POLLING_LOOP_LENGTH = 4;
+
+    // Block start address
+    private final int startAddress;
+
+    // Block instruction opcodes
+    private final Opcode[] opcodes;
+
+    // Block executed opcodes (instruction opcodes with fused superinstructions)
+    private final Opcode[] executionOpcodes;
+
+    // Block executed opcodes execution times (in CPU ticks)
+    private final int[] executionTimes;
+
+    // Block total execution time (in CPU ticks)
+    private final int executionTime;
+
+    // Block is polling loop flag
+    private final boolean isPollingLoop;
+
+    // Block transfer loop (null if block is not block transfer loop)
+    private final BlockTransferLoop transferLoop;
+
+    // RAM/ROM references and word indexes where block instruction words are stored
+    private final RandomAccessMemory[] instructionMemories;
+    private final int[] instructionWordIndexes;
+
+    // Block validity flag, cleared on block invalidation
+    private boolean isValid = true;
+
+    // Block completed executions counter (saturated at hot block threshold)
+    private int executionCount;
+
+    // Last successor block, executed directly after this block if it is hot
+    private BasicBlock chainedBlock;
+
+    BasicBlock(int startAddress, Opcode[] opcodes,
+               RandomAccessMemory[] instructionMemories, int[] instructionWordIndexes) {
+        this.startAddress = startAddress;
+        this.opcodes = opcodes;
+        this.instructionMemories = instructionMemories;
+        this.instructionWordIndexes = instructionWordIndexes;
+        this.executionOpcodes = fuseOpcodes(opcodes);
+        this.executionTimes = new int[executionOpcodes.length];
+        for (int i = 0; i < executionOpcodes.length; i++) {
+            executionTimes[i] = executionOpcodes[i].getExecutionTime();
+        }
+        int blockExecutionTime = 0;
+        int blockLength = 0;
+        for (Opcode opcode : opcodes) {
+            blockExecutionTime += opcode.getExecutionTime();
+            blockLength += opcode.getLength();
+        }
+        this.executionTime = blockExecutionTime;
+        this.isPollingLoop = checkPollingLoop(startAddress, opcodes, blockLength);
+        this.transferLoop = BlockTransferLoop.recognize(opcodes);
+    }
+
+    /**
+     * Fuse the last block instructions pair into superinstruction, if possible.
+     * @param opcodes block instruction opcodes
+     * @return block executed opcodes
+     */
+    private Opcode[] fuseOpcodes(Opcode[] opcodes) {
+        int lastIndex = opcodes.length - 1;
+        if (lastIndex < 1 || !FusedOpcode.isFusible(opcodes[lastIndex - 1], opcodes[lastIndex])) {
+            return opcodes;
+        }
+        Opcode[] fusedOpcodes = Arrays.copyOf(opcodes, lastIndex);
+        fusedOpcodes[lastIndex - 1] = new FusedOpcode(this,
+                opcodes[lastIndex - 1], opcodes[lastIndex]);
+        return fusedOpcodes;
+    }
+
+    /**
+     * Check given block instructions form polling loop.
+     * @param startAddress block start address
+     * @param opcodes block instruction opcodes
+     * @param blockLength block length (in words)
+     * @return <code>true</code> if block is polling loop, <code>false</code> otherwise
+     */
+    private static boolean checkPollingLoop(int startAddress, Opcode[] opcodes,
+                                            int blockLength) {
+        int lastIndex = opcodes.length - 1;
+        if (opcodes.length > MAX_POLLING_LOOP_LENGTH
+                || !(opcodes[lastIndex] instanceof BranchOpcode)) {
+            return false;
+        }
+        int branchAddress = (startAddress + (blockLength << 1)
+                + ((BranchOpcode) opcodes[lastIndex]).getBranchOffset()) & 0177777;
+        if (branchAddress != startAddress) {
+            return false;
+        }
+        for (int i = 0; i < lastIndex; i++) {
+            if (!opcodes[i].isSideEffectFree()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get block start address.
+     * @return block start address
+     */
+    public int getStartAddress() {
+        return startAddress;
+    }
+
+    /**
+     * Get block instruction opcodes.
+     * @return block instruction opcodes array
+     */
+    public Opcode[] getOpcodes() {
+        return opcodes;
+    }
+
+    /**
+     * Get block executed opcodes. Executed opcodes are block instruction opcodes,
+     * where the last instructions pair can be fused into single superinstruction.
+     * @return block executed opcodes array
+     */
+    public Opcode[] getExecutionOpcodes() {
+        return executionOpcodes;
+    }
+
+    /**
+     * Get block executed opcodes execution times.
+     * @return block executed opcodes execution times array (in CPU ticks)
+     */
+    public int[] getExecutionTimes() {
+        return executionTimes;
+    }
+
+    /**
+     * Get block total execution time.
+     * @return block instructions execution time (in CPU ticks)
+     */
+    public int getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * Check block is polling loop: short loop of instructions without side effects
+     * (except condition codes update), terminated by branch to the block start.
+     * @return <code>true</code> if block is polling loop, <code>false</code> otherwise
+     */
+    public boolean isPollingLoop() {
+        return isPollingLoop;
+    }
+
+    /**
+     * Get block transfer loop (memory copy or fill loop) formed by block instructions.
+     * @return {@link BlockTransferLoop} or <code>null</code> if block is not
+     * block transfer loop
+     */
+    BlockTransferLoop getTransferLoop() {
+        return transferLoop;
+    }
+
+    /**
+     * Check block is valid (was not invalidated since creation).
+     * @return <code>true</code> if block is valid, <code>false</code> otherwise
+     */
+    public boolean isValid() {
+        return isValid;
+    }
+
+    /**
+     * Check block is hot (was completely executed at least
+     * {@link #HOT_BLOCK_THRESHOLD} times).
+     * @return <code>true</code> if block is hot, <code>false</code> otherwise
+     */
+    public boolean isHot() {
+        return executionCount >= HOT_BLOCK_THRESHOLD;
+    }
+
+    /**
+     * Count block complete execution.
+     * @return <code>true</code> if block is hot, <code>false</code> otherwise
+     */
+    boolean countExecution() {
+        return executionCount >= HOT_BLOCK_THRESHOLD || ++executionCount >= HOT_BLOCK_THRESHOLD;
+    }
+
+    /**
+     * Get last successor block chained to this block.
+     * @return chained block or <code>null</code> if no block is chained yet
+     */
+    BasicBlock getChainedBlock() {
+        return chainedBlock;
+    }
+
+    /**
+     * Chain successor block to this block.
+     * @param chainedBlock successor block to chain (can be <code>null</code>)
+     */
+    void setChainedBlock(BasicBlock chainedBlock) {
+        this.chainedBlock = chainedBlock;
+    }
+
+    /**
+     * Invalidate block.
+     */
+    void invalidate() {
+        isValid = false;
+        chainedBlock = null;
+    }
+
+    /**
+     * Check some of block instruction words is stored in given RAM/ROM word.
+     * @param memory RAM/ROM reference
+     * @param wordIndex word index in RAM/ROM or -1 to check any word
+     * @return <code>true</code> if block instruction is stored in given RAM/ROM word,
+     * <code>false</code> otherwise
+     */
+    boolean isStoredIn(RandomAccessMemory memory, int wordIndex) {
+        for (int i = 0; i < instructionMemories.length; i++) {
+            if (instructionMemories[i] == memory
+                    && (wordIndex < 0 || instructionWordIndexes[i] == wordIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check any of block instruction words is stored in given RAM/ROM word range.
+     * @param memory RAM/ROM to check
+     * @param startWordIndex range start word index (inclusive)
+     * @param endWordIndex range end word index (inclusive)
+     * @return <code>true</code> if block instruction word is stored in given word range
+     */
+    boolean isStoredIn(RandomAccessMemory memory, int startWordIndex, int endWordIndex) {
+        for (int i = 0; i < instructionMemories.length; i++) {
+            if (instructionMemories[i] == memory && instructionWordIndexes[i] >= startWordIndex
+                    && instructionWordIndexes[i] <= endWordIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import su.comp.bk.arch.Computer;
+import su.comp.bk.arch.cpu.opcode.Opcode;
+import su.comp.bk.arch.memory.Memory;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+
+/**
+ * Basic blocks translation cache. Blocks are mapped by start address and never cross
+ * 4KB memory block boundary. Cached blocks are invalidated when their instruction words
+ * are changed in the backing RAM or when memory map for their addresses is changed.
+ */
+public class BasicBlockCache implements RandomAccessMemory.WriteWatchListener {
+    /** Maximum number of instructions in the basic block */
+    public static final int MAX_BLOCK_LENGTH = 64;
+
+    // Size of RAM/ROM line for blocks lookup by changed word index (in words, log2)
+    private static final int MEMORY_LINE_SIZE_LOG2 = 6;
+
+    private final Cpu cpu;
+
+    private final Computer computer;
+
+    // Cached blocks table mapped by block start address (in words)
+    private final BasicBlock[] blocks = new BasicBlock[1 << 15];
+
+    // Cached blocks lists mapped by RAM/ROM lines where block instructions are stored
+    private final Map<RandomAccessMemory, List<?>[]> memoryLineBlocks = new IdentityHashMap<>();
+
+    // Scratch arrays for blocks building
+    private final Opcode[] buildOpcodes = new Opcode[MAX_BLOCK_LENGTH];
+    private final RandomAccessMemory[] buildMemories = new RandomAccessMemory[MAX_BLOCK_LENGTH];
+    private final int[] buildWordIndexes = new int[MAX_BLOCK_LENGTH];
+
+    public BasicBlockCache(Cpu cpu, Computer computer) {
+        this.cpu = cpu;
+        this.computer = computer;
+    }
+
+    /**
+     * Get basic block starting at given address. Block is built and cached if it is not
+     * cached yet.
+     * @param address block start address
+     * @return basic block or <code>null</code> if no block can be built for given address
+     * (address is odd or not mapped to RAM/ROM, or first instruction is reserved opcode)
+     */
+    public BasicBlock getBlock(int address) {
+        if ((address & 1) != 0) {
+            return null;
+        }
+        BasicBlock block = blocks[address >> 1];
+        if (block == null) {
+            block = buildBlock(address);
+            if (block != null) {
+                addBlock(block);
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Invalidate cached blocks starting in given address range.
+     * @param startAddress address range start address (inclusive)
+     * @param endAddress address range end address (inclusive)
+     */
+    public void invalidate(int startAddress, int endAddress) {
+        for (int i = startAddress >> 1; i <= (endAddress >> 1); i++) {
+            BasicBlock block = blocks[i];
+            if (block != null) {
+                block.invalidate();
+                blocks[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Invalidate all cached blocks.
+     */
+    public void invalidateAll() {
+        invalidate(0, 0177777);
+        memoryLineBlocks.clear();
+    }
+
+    @Override
+    public void watchedWordChanged(RandomAccessMemory memory, int wordIndex) {
+        List<?>[] lineBlocksLists = memoryLineBlocks.get(memory);
+        if (lineBlocksLists == null) {
+            return;
+        }
+        if (wordIndex < 0) {
+            for (List<?> lineBlocks : lineBlocksLists) {
+                invalidateLineBlocks(lineBlocks, memory, -1);
+            }
+            memoryLineBlocks.remove(memory);
+        } else {
+            invalidateLineBlocks(lineBlocksLists[wordIndex >> MEMORY_LINE_SIZE_LOG2],
+                    memory, wordIndex);
+        }
+    }
+
+    private void invalidateLineBlocks(List<?> lineBlocks, RandomAccessMemory memory,
+                                      int wordIndex) {
+        if (lineBlocks == null) {
+            return;
+        }
+        for (int i = lineBlocks.size() - 1; i >= 0; i--) {
+            BasicBlock block = (BasicBlock) lineBlocks.get(i);
+            if (block.isValid() && block.isStoredIn(memory, wordIndex)) {
+                block.invalidate();
+                int blockIndex = block.getStartAddress() >> 1;
+                if (blocks[blockIndex] == block) {
+                    blocks[blockIndex] = null;
+                }
+            }
+            if (!block.isValid()) {
+                lineBlocks.remove(i);
+            }
+        }
+    }
+
+    private void addBlock(BasicBlock block) {
+        blocks[block.getStartAddress() >> 1] = block;
+        for (int i = 0; i < block.getOpcodes().length; i++) {
+            RandomAccessMemory memory = buildMemories[i];
+            int wordIndex = buildWordIndexes[i];
+            if (memory.getWriteWatchListener() != this) {
+                memory.setWriteWatchListener(this);
+            }
+            memory.watchWord(wordIndex);
+            @SuppressWarnings("unchecked")
+            List<BasicBlock> lineBlocks = (List<BasicBlock>) getLineBlocksLists(memory)
+                    [wordIndex >> MEMORY_LINE_SIZE_LOG2];
+            if (lineBlocks.isEmpty() || lineBlocks.get(lineBlocks.size() - 1) != block) {
+                // Remove invalidated blocks before adding the new one
+                for (int j = lineBlocks.size() - 1; j >= 0; j--) {
+                    if (!lineBlocks.get(j).isValid()) {
+                        lineBlocks.remove(j);
+                    }
+                }
+                lineBlocks.add(block);
+            }
+        }
+    }
+
+    private List<?>[] getLineBlocksLists(RandomAccessMemory memory) {
+        List<?>[] lineBlocksLists = memoryLineBlocks.get(memory);
+        if (lineBlocksLists == null) {
+            int numLines = (memory.getSize() >> MEMORY_LINE_SIZE_LOG2) + 1;
+            lineBlocksLists = new List[numLines];
+            for (int i = 0; i < numLines; i++) {
+                lineBlocksLists[i] = new ArrayList<BasicBlock>(1);
+            }
+            memoryLineBlocks.put(memory, lineBlocksLists);
+        }
+        return lineBlocksLists;
+    }
+
+    /**
+     * Build basic block starting at given address.
+     * @param startAddress block start address
+     * @return built block or <code>null</code> if block is empty
+     */
+    private BasicBlock buildBlock(int startAddress) {
+        int length = 0;
+        int address = startAddress;
+        while (length < MAX_BLOCK_LENGTH && address < Computer.IO_REGISTERS_MIN_ADDRESS
+                && (address >> 12) == (startAddress >> 12)) {
+            if (length > 0 && cpu.isPcHooked(address)) {
+                // Hooked addresses are always blocks start addresses
+                break;
+            }
+            Computer.MemoryRange memoryRange = computer.getReadableMemoryRange(address);
+            if (memoryRange == null) {
+                break;
+            }
+            Memory memory = memoryRange.getMemory();
+            int offset = address - memoryRange.getStartAddress();
+            RandomAccessMemory backingMemory = memory.getBackingMemory(offset);
+            Opcode opcode = cpu.decodeInstruction(memory.read(offset));
+            if (backingMemory == null || opcode == null) {
+                break;
+            }
+            buildOpcodes[length] = opcode;
+            buildMemories[length] = backingMemory;
+            buildWordIndexes[length] = memory.getBackingMemoryOffset(offset) >> 1;
+            length++;
+            if (opcode.isFlowControl()) {
+                break;
+            }
+            address += opcode.getLength() << 1;
+        }
+        return (length > 0) ? new BasicBlock(startAddress,
+                Arrays.copyOf(buildOpcodes, length),
+                Arrays.copyOf(buildMemories, length),
+                Arrays.copyOf(buildWordIndexes, length)) : null;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import su.comp.bk.arch.cpu.addressing.AutoincrementAddressingMode;
+import su.comp.bk.arch.cpu.addressing.RegisterAddressingMode;
+import su.comp.bk.arch.cpu.opcode.BaseOpcode;
+import su.comp.bk.arch.cpu.opcode.ClrOpcode;
+import su.comp.bk.arch.cpu.opcode.MovOpcode;
+import su.comp.bk.arch.cpu.opcode.Opcode;
+import su.comp.bk.arch.cpu.opcode.SobOpcode;
+
+/**
+ * Block transfer loop - basic block of word move/clear instruction with autoincrement
+ * destination followed by SOB instruction looping back to it. Memory copy loops
+ * (MOV (Rs)+,(Rd)+ / SOB Rc,.-2) and memory fill loops (MOV Rs,(Rd)+ / SOB Rc,.-2 and
+ * CLR (Rd)+ / SOB Rc,.-2) are recognized.
+ */
+class BlockTransferLoop {
+    /** Loop source type: memory copy from (Rs)+ */
+    static final int SOURCE_MEMORY = 0;
+    /** Loop source type: memory fill with Rs value */
+    static final int SOURCE_REGISTER = 1;
+    /** Loop source type: memory fill with zero */
+    static final int SOURCE_ZERO = 2;
+
+    // Loop source type (one of SOURCE_* constants)
+    private final int sourceType;
+
+    // Source, destination and counter registers
+    private final int sourceRegister;
+    private final int destRegister;
+    private final int counterRegister;
+
+    private BlockTransferLoop(int sourceType, int sourceRegister, int destRegister,
+                              int counterRegister) {
+        this.sourceType = sourceType;
+        this.sourceRegister = sourceRegister;
+        this.destRegister = destRegister;
+        this.counterRegister = counterRegister;
+    }
+
+    /**
+     * Recognize block transfer loop in given block instructions.
+     * @param opcodes block instruction opcodes
+     * @return recognized {@link BlockTransferLoop} or <code>null</code> if given
+     * instructions are not block transfer loop
+     */
+    static BlockTransferLoop recognize(Opcode[] opcodes) {
+        if (opcodes.length != 2 || !(opcodes[1] instanceof SobOpcode)) {
+            return null;
+        }
+        int sobInstruction = ((BaseOpcode) opcodes[1]).getInstruction();
+        int counterRegister = (sobInstruction >> 6) & 7;
+        // SOB must branch back to the first instruction
+        if ((sobInstruction & 077) != 2 || counterRegister == Cpu.PC) {
+            return null;
+        }
+        int sourceType;
+        int sourceRegister = -1;
+        int instruction;
+        if (opcodes[0] instanceof MovOpcode) {
+            instruction = ((BaseOpcode) opcodes[0]).getInstruction();
+            sourceRegister = (instruction >> 6) & 7;
+            int sourceModeCode = (instruction >> 9) & 7;
+            if (sourceModeCode == AutoincrementAddressingMode.CODE) {
+                sourceType = SOURCE_MEMORY;
+            } else if (sourceModeCode == RegisterAddressingMode.CODE) {
+                sourceType = SOURCE_REGISTER;
+            } else {
+                return null;
+            }
+        } else if (opcodes[0] instanceof ClrOpcode) {
+            instruction = ((BaseOpcode) opcodes[0]).getInstruction();
+            sourceType = SOURCE_ZERO;
+        } else {
+            return null;
+        }
+        int destRegister = instruction & 7;
+        if ((instruction & Opcode.BYTE_OPERATION_FLAG) != 0
+                || ((instruction >> 3) & 7) != AutoincrementAddressingMode.CODE
+                || destRegister == Cpu.PC || destRegister == counterRegister
+                || sourceRegister == Cpu.PC || sourceRegister == destRegister
+                || sourceRegister == counterRegister) {
+            return null;
+        }
+        return new BlockTransferLoop(sourceType, sourceRegister, destRegister,
+                counterRegister);
+    }
+
+    /**
+     * Get loop source type.
+     * @return loop source type (one of SOURCE_* constants)
+     */
+    int getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * Get source register.
+     * @return source register number (for memory copy and register fill loops)
+     */
+    int getSourceRegister() {
+        return sourceRegister;
+    }
+
+    /**
+     * Get destination register.
+     * @return destination register number
+     */
+    int getDestRegister() {
+        return destRegister;
+    }
+
+    /**
+     * Get counter register.
+     * @return counter register number
+     */
+    int getCounterRegister() {
+        return counterRegister;
+    }
+}
@@ -18,9 +18,15 @@
  */
 package su.comp.bk.arch.cpu;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import su.comp.bk.arch.Computer;
 import su.comp.bk.arch.cpu.addressing.*;
 import su.comp.bk.arch.cpu.opcode.*;
+import su.comp.bk.arch.io.PollableDevice;
+import su.comp.bk.arch.memory.RandomAccessMemory;
 
 import su.comp.bk.state.State;
 import su.comp.bk.state.StatefulEntity;
@@ -64,11 +70,37 @@ public class Cpu implements StatefulEntity {
 
     private final Computer computer;
 
-    // Opcodes lookup table
-    private final Opcode[] opcodesTable = new Opcode[1 << 16];
-
     // Addressing modes lookup table
-    private final AddressingMode[] addressingModes = new AddressingMode[8];
+    private final static AddressingMode[] ADDRESSING_MODES = new AddressingMode[8];
+
+    // Pre-decoded opcodes lookup table (indexed by instruction code), immutable after
+    // initialization and shared between all CPU instances
+    private final static Opcode[] OPCODES_TABLE = new Opcode[1 << 16];
+
+    // Pre-computed instruction execution times lookup table (indexed by instruction code,
+    // in clock ticks)
+    private final static int[] INSTRUCTION_EXECUTION_TIMES = new int[1 << 16];
+
+    static {
+        initializeAddressingModes();
+        initializeOpcodesTable();
+    }
+
+    // Basic blocks translation cache
+    private final BasicBlockCache basicBlockCache;
+
+    // Minimum number of block transfer loop iterations to execute as bulk operation
+    private final static int MIN_BLOCK_TRANSFER_LOOP_ITERATIONS = 2;
+
+    // Instruction fetch page size (in bytes)
+    private final static int FETCH_PAGE_SIZE = 010000;
+
+    // Current instruction fetch page backing RAM/ROM data, page start address, page size
+    // (in bytes, zero if fetch page is not set) and index of the page start word in the data
+    private short[] fetchPageData;
+    private int fetchPageStartAddress;
+    private int fetchPageSize;
+    private int fetchPageDataIndex;
 
     /** Bus error trap vector address */
     public static final int TRAP_VECTOR_BUS_ERROR = 004;
@@ -107,29 +139,28 @@ public class Cpu implements StatefulEntity {
     // State save/restore: Processor status word data
     public static final String STATE_PSW = STATE_PREFIX + "#psw";
 
-    // First radial interrupt (IRQ1) requested
-    private boolean isIrq1Requested;
-
-    // Second radial interrupt (IRQ2) requested
-    private boolean isIrq2Requested;
+    // Pending event: bus error
+    private final static int EVENT_BUS_ERROR = 1;
+    // Pending event: reserved opcode fetched
+    private final static int EVENT_RESERVED_OPCODE = 2;
+    // Pending event: interrupt wait mode
+    private final static int EVENT_INTERRUPT_WAIT = 4;
+    // Pending event: first radial interrupt (IRQ1) requested
+    private final static int EVENT_IRQ1 = 010;
+    // Pending event: second radial interrupt (IRQ2) requested
+    private final static int EVENT_IRQ2 = 020;
+    // Pending event: vector interrupt (VIRQ) requested
+    private final static int EVENT_VIRQ = 040;
+
+    // Pending events bitmask (EVENT_* bits), can be updated from other threads
+    private final AtomicInteger pendingEvents = new AtomicInteger();
 
-    // Vector interrupt (VIRQ) requested flag
-    private boolean isVirqRequested;
     // Requested vector interrupt (VIRQ) address
-    private int virqAddress;
-
-    // Bus error flag
-    private boolean isBusError;
+    private volatile int virqAddress;
 
     // Halt mode flag
     private boolean isHaltMode;
 
-    // Interrupt wait mode flag
-    private boolean isInterruptWaitMode;
-
-    // Reserved opcode flag
-    private boolean isReservedOpcodeFetched;
-
     // Deferred trace trap (after RTT instruction executing) flag
     private boolean isDeferredTraceTrap;
 
@@ -150,9 +181,43 @@ public class Cpu implements StatefulEntity {
     /** PSW: IRQ1 mask */
     public final static int PSW_FLAG_M = 04000;
 
-    // Processor Status Word (PSW)
+    /** Deferred PSW flags operation: no deferred operation */
+    public final static int PSW_FLAGS_OP_NONE = 0;
+    /** Deferred PSW flags operation: N and Z set from result, V cleared, C not affected */
+    public final static int PSW_FLAGS_OP_LOGICAL = 1;
+    /** Deferred PSW flags operation: N and Z set from result, V and C cleared */
+    public final static int PSW_FLAGS_OP_TEST = 2;
+    /** Deferred PSW flags operation: first operand and second operand addition */
+    public final static int PSW_FLAGS_OP_ADD = 3;
+    /** Deferred PSW flags operation: second operand subtraction from first operand */
+    public final static int PSW_FLAGS_OP_SUB = 4;
+    /** Deferred PSW flags operation: increment, C not affected */
+    public final static int PSW_FLAGS_OP_INC = 5;
+    /** Deferred PSW flags operation: decrement, C not affected */
+    public final static int PSW_FLAGS_OP_DEC = 6;
+
+    // PSW flags affected by deferred PSW flags operations
+    private final static int[] PSW_FLAGS_OP_AFFECTED_FLAGS = {
+            0,
+            PSW_FLAG_N | PSW_FLAG_Z | PSW_FLAG_V,
+            PSW_FLAG_N | PSW_FLAG_Z | PSW_FLAG_V | PSW_FLAG_C,
+            PSW_FLAG_N | PSW_FLAG_Z | PSW_FLAG_V | PSW_FLAG_C,
+            PSW_FLAG_N | PSW_FLAG_Z | PSW_FLAG_V | PSW_FLAG_C,
+            PSW_FLAG_N | PSW_FLAG_Z | PSW_FLAG_V,
+            PSW_FLAG_N | PSW_FLAG_Z | PSW_FLAG_V
+    };
+
+    // Processor Status Word (PSW), condition codes can be not actual
+    // if there is deferred PSW flags operation
     private int processorStatusWord;
 
+    // Deferred PSW flags operation, its byte mode flag, operands and result
+    private int deferredPswFlagsOperation = PSW_FLAGS_OP_NONE;
+    private boolean isDeferredPswFlagsByteMode;
+    private int deferredPswFlagsFirstOperand;
+    private int deferredPswFlagsSecondOperand;
+    private int deferredPswFlagsResult;
+
     // Registers (R0-R7)
     private final short[] registers = new short[8];
 
@@ -165,11 +230,56 @@ public class Cpu implements StatefulEntity {
     // Bus error timeout (in CPU ticks)
     private final static int BUS_ERROR_TIMEOUT = 64;
 
+    // Maximum execution time of hot basic blocks chain (in CPU ticks)
+    private final static int MAX_BLOCKS_CHAIN_EXECUTION_TIME = 1024;
+
+    // Current execution slice end time (in CPU ticks)
+    private long executionSliceEndTime = Long.MAX_VALUE;
+
+    // Execution slice cut request flag, can be set from other threads (for example,
+    // by interrupt requests) and is applied in the emulation thread
+    private volatile boolean isExecutionSliceCutRequested;
+
+    // Current execution slice idle end time (in CPU ticks), CPU time can be fast-forwarded
+    // up to this time while CPU is idle (waiting for interrupt or polling devices)
+    private long executionSliceIdleEndTime = Long.MIN_VALUE;
+
+    // Maximum number of memory reads recorded while polling loop executing
+    private final static int MAX_POLLED_READS = 8;
+
+    // Polling loop memory reads recording flag
+    private boolean isPolledReadsRecording;
+    // Recorded polling loop memory reads (address and value pairs) and reads count
+    private int[] polledReads = new int[MAX_POLLED_READS * 2];
+    private int polledReadsCount;
+    // Last executed polling loop block, its memory reads and iteration end time
+    private BasicBlock lastPollingLoopBlock;
+    private int[] lastPolledReads = new int[MAX_POLLED_READS * 2];
+    private int lastPolledReadsCount;
+    private long lastPollingLoopEndTime;
+
     // CPU time (in clock ticks)
     private long time;
 
     private OnTrapListener onTrapListener;
 
+    // PC hooks bitmap size (in 64-bit words, one bit per memory word)
+    private final static int PC_HOOKS_BITMAP_SIZE = 01000;
+
+    // PC hooks bitmap (null if no hooks are set) and hook listeners mapped by hooked address
+    private long[] pcHooks;
+    private final Map<Integer, OnPcHookListener> pcHookListeners = new HashMap<>();
+    // No PC hook address constant
+    private final static int NO_PC_HOOK_ADDRESS = -1;
+    // Address of PC hook stopped CPU execution (this hook is not called again on the next
+    // operation execution), or NO_PC_HOOK_ADDRESS
+    private int stoppedPcHookAddress = NO_PC_HOOK_ADDRESS;
+    // PC hook check results: execute instruction at hooked address, skip instruction
+    // at hooked address (PC was changed by hook listener), stop CPU execution
+    private final static int PC_HOOK_CONTINUE = 0;
+    private final static int PC_HOOK_SKIP = 1;
+    private final static int PC_HOOK_STOP = 2;
+
     /**
      * Hardware/software interrupts event listener interface.
      */
@@ -184,180 +294,171 @@ public class Cpu implements StatefulEntity {
     }
 
     /**
-     * Opcode interceptor class.
+     * Opcode instances factory interface.
      */
-    protected class OpcodeInterceptor implements Opcode {
-        private final Opcode interceptedOpcode;
-        private final OnOpcodeListener opcodeListener;
-
-        OpcodeInterceptor(Opcode interceptedOpcode, OnOpcodeListener opcodeListener) {
-            this.interceptedOpcode = interceptedOpcode;
-            this.opcodeListener = opcodeListener;
-        }
-
-        @Override
-        public int getOpcode() {
-            return interceptedOpcode.getOpcode();
-        }
-
-        @Override
-        public void decode(int instruction) {
-            interceptedOpcode.decode(instruction);
-        }
-
-        @Override
-        public int getExecutionTime() {
-            return interceptedOpcode.getExecutionTime();
-        }
-
-        @Override
-        public void execute() {
-            interceptedOpcode.execute();
-            opcodeListener.onOpcodeExecuted(Cpu.this, interceptedOpcode.getOpcode());
-        }
+    private interface OpcodeFactory {
+        /**
+         * Create new (not yet decoded) opcode instance.
+         * @return created opcode instance
+         */
+        Opcode create();
     }
 
     /**
-     * Opcode listener interface.
+     * PC hook listener interface.
      */
-    public interface OnOpcodeListener {
+    public interface OnPcHookListener {
         /**
-         * Called after intercepted opcode execution.
+         * Called when PC reaches hooked address, before instruction at this address
+         * is executed. Listener can change CPU state, including PC register value.
          * @param cpu CPU object reference
-         * @param opcode executed opcode
+         * @param address hooked address
+         * @return <code>true</code> to stop CPU execution at hooked address (instruction
+         * at this address is executed without calling the hook again on the next CPU
+         * execution, if PC register value is not changed), <code>false</code> to continue
          */
-        void onOpcodeExecuted(Cpu cpu, int opcode);
+        boolean onPcHook(Cpu cpu, int address);
     }
 
     public Cpu(Computer computer) {
         this.computer = computer;
-        initializeAddressingModes();
-        initializeOpcodesTable();
+        this.basicBlockCache = new BasicBlockCache(this, computer);
     }
 
-    private void initializeAddressingModes() {
-        addAddressingMode(new RegisterAddressingMode(this));
-        addAddressingMode(new RegisterDeferredAddressingMode(this));
-        addAddressingMode(new AutoincrementAddressingMode(this));
-        addAddressingMode(new AutoincrementDeferredAddressingMode(this));
-        addAddressingMode(new AutodecrementAddressingMode(this));
-        addAddressingMode(new AutodecrementDeferredAddressingMode(this));
-        addAddressingMode(new IndexAddressingMode(this));
-        addAddressingMode(new IndexDeferredAddressingMode(this));
+    private static void initializeAddressingModes() {
+        addAddressingMode(new RegisterAddressingMode());
+        addAddressingMode(new RegisterDeferredAddressingMode());
+        addAddressingMode(new AutoincrementAddressingMode());
+        addAddressingMode(new AutoincrementDeferredAddressingMode());
+        addAddressingMode(new AutodecrementAddressingMode());
+        addAddressingMode(new AutodecrementDeferredAddressingMode());
+        addAddressingMode(new IndexAddressingMode());
+        addAddressingMode(new IndexDeferredAddressingMode());
     }
 
-    private void initializeOpcodesTable() {
+    private static void initializeOpcodesTable() {
         // Zero operand opcodes
-        addOpcode(new ConditionCodeOpcodes(this), ConditionCodeOpcodes.OPCODE_NOP,
+        addOpcode(ConditionCodeOpcodes::new, ConditionCodeOpcodes.OPCODE_NOP,
                 ConditionCodeOpcodes.OPCODE_SCC);
         // Single operand opcodes
-        addOpcode(new ClrOpcode(this), ClrOpcode.OPCODE, ClrOpcode.OPCODE + 077);
-        addOpcode(new ClrOpcode(this), ClrOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(ClrOpcode::new, ClrOpcode.OPCODE, ClrOpcode.OPCODE + 077);
+        addOpcode(ClrOpcode::new, ClrOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (ClrOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new ComOpcode(this), ComOpcode.OPCODE, ComOpcode.OPCODE + 077);
-        addOpcode(new ComOpcode(this), ComOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(ComOpcode::new, ComOpcode.OPCODE, ComOpcode.OPCODE + 077);
+        addOpcode(ComOpcode::new, ComOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (ComOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new IncOpcode(this), IncOpcode.OPCODE, IncOpcode.OPCODE + 077);
-        addOpcode(new IncOpcode(this), IncOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(IncOpcode::new, IncOpcode.OPCODE, IncOpcode.OPCODE + 077);
+        addOpcode(IncOpcode::new, IncOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (IncOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new DecOpcode(this), DecOpcode.OPCODE, DecOpcode.OPCODE + 077);
-        addOpcode(new DecOpcode(this), DecOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(DecOpcode::new, DecOpcode.OPCODE, DecOpcode.OPCODE + 077);
+        addOpcode(DecOpcode::new, DecOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (DecOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new NegOpcode(this), NegOpcode.OPCODE, NegOpcode.OPCODE + 077);
-        addOpcode(new NegOpcode(this), NegOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(NegOpcode::new, NegOpcode.OPCODE, NegOpcode.OPCODE + 077);
+        addOpcode(NegOpcode::new, NegOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (NegOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new TstOpcode(this), TstOpcode.OPCODE, TstOpcode.OPCODE + 077);
-        addOpcode(new TstOpcode(this), TstOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(TstOpcode::new, TstOpcode.OPCODE, TstOpcode.OPCODE + 077);
+        addOpcode(TstOpcode::new, TstOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (TstOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new AsrOpcode(this), AsrOpcode.OPCODE, AsrOpcode.OPCODE + 077);
-        addOpcode(new AsrOpcode(this), AsrOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(AsrOpcode::new, AsrOpcode.OPCODE, AsrOpcode.OPCODE + 077);
+        addOpcode(AsrOpcode::new, AsrOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (AsrOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new AslOpcode(this), AslOpcode.OPCODE, AslOpcode.OPCODE + 077);
-        addOpcode(new AslOpcode(this), AslOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(AslOpcode::new, AslOpcode.OPCODE, AslOpcode.OPCODE + 077);
+        addOpcode(AslOpcode::new, AslOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (AslOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new RorOpcode(this), RorOpcode.OPCODE, RorOpcode.OPCODE + 077);
-        addOpcode(new RorOpcode(this), RorOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(RorOpcode::new, RorOpcode.OPCODE, RorOpcode.OPCODE + 077);
+        addOpcode(RorOpcode::new, RorOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (RorOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new RolOpcode(this), RolOpcode.OPCODE, RolOpcode.OPCODE + 077);
-        addOpcode(new RolOpcode(this), RolOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(RolOpcode::new, RolOpcode.OPCODE, RolOpcode.OPCODE + 077);
+        addOpcode(RolOpcode::new, RolOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (RolOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new AdcOpcode(this), AdcOpcode.OPCODE, AdcOpcode.OPCODE + 077);
-        addOpcode(new AdcOpcode(this), AdcOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(AdcOpcode::new, AdcOpcode.OPCODE, AdcOpcode.OPCODE + 077);
+        addOpcode(AdcOpcode::new, AdcOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (AdcOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new SbcOpcode(this), SbcOpcode.OPCODE, SbcOpcode.OPCODE + 077);
-        addOpcode(new SbcOpcode(this), SbcOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(SbcOpcode::new, SbcOpcode.OPCODE, SbcOpcode.OPCODE + 077);
+        addOpcode(SbcOpcode::new, SbcOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (SbcOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 077);
-        addOpcode(new SxtOpcode(this), SxtOpcode.OPCODE, SxtOpcode.OPCODE + 077);
-        addOpcode(new SwabOpcode(this), SwabOpcode.OPCODE, SwabOpcode.OPCODE + 077);
-        addOpcode(new MarkOpcode(this), MarkOpcode.OPCODE, MarkOpcode.OPCODE + 077);
-        addOpcode(new MfpsOpcode(this), MfpsOpcode.OPCODE, MfpsOpcode.OPCODE + 077);
-        addOpcode(new MtpsOpcode(this), MtpsOpcode.OPCODE, MtpsOpcode.OPCODE + 077);
+        addOpcode(SxtOpcode::new, SxtOpcode.OPCODE, SxtOpcode.OPCODE + 077);
+        addOpcode(SwabOpcode::new, SwabOpcode.OPCODE, SwabOpcode.OPCODE + 077);
+        addOpcode(MarkOpcode::new, MarkOpcode.OPCODE, MarkOpcode.OPCODE + 077);
+        addOpcode(MfpsOpcode::new, MfpsOpcode.OPCODE, MfpsOpcode.OPCODE + 077);
+        addOpcode(MtpsOpcode::new, MtpsOpcode.OPCODE, MtpsOpcode.OPCODE + 077);
         // Branch opcodes
-        addOpcode(new BrOpcode(this), BrOpcode.OPCODE, BrOpcode.OPCODE + 0377);
-        addOpcode(new BneOpcode(this), BneOpcode.OPCODE, BneOpcode.OPCODE + 0377);
-        addOpcode(new BeqOpcode(this), BeqOpcode.OPCODE, BeqOpcode.OPCODE + 0377);
-        addOpcode(new BgeOpcode(this), BgeOpcode.OPCODE, BgeOpcode.OPCODE + 0377);
-        addOpcode(new BltOpcode(this), BltOpcode.OPCODE, BltOpcode.OPCODE + 0377);
-        addOpcode(new BgtOpcode(this), BgtOpcode.OPCODE, BgtOpcode.OPCODE + 0377);
-        addOpcode(new BleOpcode(this), BleOpcode.OPCODE, BleOpcode.OPCODE + 0377);
-        addOpcode(new BplOpcode(this), BplOpcode.OPCODE, BplOpcode.OPCODE + 0377);
-        addOpcode(new BmiOpcode(this), BmiOpcode.OPCODE, BmiOpcode.OPCODE + 0377);
-        addOpcode(new BhiOpcode(this), BhiOpcode.OPCODE, BhiOpcode.OPCODE + 0377);
-        addOpcode(new BlosOpcode(this), BlosOpcode.OPCODE, BlosOpcode.OPCODE + 0377);
-        addOpcode(new BvcOpcode(this), BvcOpcode.OPCODE, BvcOpcode.OPCODE + 0377);
-        addOpcode(new BvsOpcode(this), BvsOpcode.OPCODE, BvsOpcode.OPCODE + 0377);
-        addOpcode(new BccOpcode(this), BccOpcode.OPCODE, BccOpcode.OPCODE + 0377);
-        addOpcode(new BcsOpcode(this), BcsOpcode.OPCODE, BcsOpcode.OPCODE + 0377);
-        addOpcode(new SobOpcode(this), SobOpcode.OPCODE, SobOpcode.OPCODE + 0777);
+        addOpcode(BrOpcode::new, BrOpcode.OPCODE, BrOpcode.OPCODE + 0377);
+        addOpcode(BneOpcode::new, BneOpcode.OPCODE, BneOpcode.OPCODE + 0377);
+        addOpcode(BeqOpcode::new, BeqOpcode.OPCODE, BeqOpcode.OPCODE + 0377);
+        addOpcode(BgeOpcode::new, BgeOpcode.OPCODE, BgeOpcode.OPCODE + 0377);
+        addOpcode(BltOpcode::new, BltOpcode.OPCODE, BltOpcode.OPCODE + 0377);
+        addOpcode(BgtOpcode::new, BgtOpcode.OPCODE, BgtOpcode.OPCODE + 0377);
+        addOpcode(BleOpcode::new, BleOpcode.OPCODE, BleOpcode.OPCODE + 0377);
+        addOpcode(BplOpcode::new, BplOpcode.OPCODE, BplOpcode.OPCODE + 0377);
+        addOpcode(BmiOpcode::new, BmiOpcode.OPCODE, BmiOpcode.OPCODE + 0377);
+        addOpcode(BhiOpcode::new, BhiOpcode.OPCODE, BhiOpcode.OPCODE + 0377);
+        addOpcode(BlosOpcode::new, BlosOpcode.OPCODE, BlosOpcode.OPCODE + 0377);
+        addOpcode(BvcOpcode::new, BvcOpcode.OPCODE, BvcOpcode.OPCODE + 0377);
+        addOpcode(BvsOpcode::new, BvsOpcode.OPCODE, BvsOpcode.OPCODE + 0377);
+        addOpcode(BccOpcode::new, BccOpcode.OPCODE, BccOpcode.OPCODE + 0377);
+        addOpcode(BcsOpcode::new, BcsOpcode.OPCODE, BcsOpcode.OPCODE + 0377);
+        addOpcode(SobOpcode::new, SobOpcode.OPCODE, SobOpcode.OPCODE + 0777);
         // Double operand opcodes
-        addOpcode(new MovOpcode(this), MovOpcode.OPCODE, MovOpcode.OPCODE + 07777);
-        addOpcode(new MovOpcode(this), MovOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(MovOpcode::new, MovOpcode.OPCODE, MovOpcode.OPCODE + 07777);
+        addOpcode(MovOpcode::new, MovOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (MovOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 07777);
-        addOpcode(new CmpOpcode(this), CmpOpcode.OPCODE, CmpOpcode.OPCODE + 07777);
-        addOpcode(new CmpOpcode(this), CmpOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(CmpOpcode::new, CmpOpcode.OPCODE, CmpOpcode.OPCODE + 07777);
+        addOpcode(CmpOpcode::new, CmpOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (CmpOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 07777);
-        addOpcode(new BitOpcode(this), BitOpcode.OPCODE, BitOpcode.OPCODE + 07777);
-        addOpcode(new BitOpcode(this), BitOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(BitOpcode::new, BitOpcode.OPCODE, BitOpcode.OPCODE + 07777);
+        addOpcode(BitOpcode::new, BitOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (BitOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 07777);
-        addOpcode(new BicOpcode(this), BicOpcode.OPCODE, BicOpcode.OPCODE + 07777);
-        addOpcode(new BicOpcode(this), BicOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(BicOpcode::new, BicOpcode.OPCODE, BicOpcode.OPCODE + 07777);
+        addOpcode(BicOpcode::new, BicOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (BicOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 07777);
-        addOpcode(new BisOpcode(this), BisOpcode.OPCODE, BisOpcode.OPCODE + 07777);
-        addOpcode(new BisOpcode(this), BisOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
+        addOpcode(BisOpcode::new, BisOpcode.OPCODE, BisOpcode.OPCODE + 07777);
+        addOpcode(BisOpcode::new, BisOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG,
                 (BisOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG) + 07777);
-        addOpcode(new AddOpcode(this), AddOpcode.OPCODE, AddOpcode.OPCODE + 07777);
-        addOpcode(new SubOpcode(this), SubOpcode.OPCODE, SubOpcode.OPCODE + 07777);
-        addOpcode(new XorOpcode(this), XorOpcode.OPCODE, XorOpcode.OPCODE + 0777);
+        addOpcode(AddOpcode::new, AddOpcode.OPCODE, AddOpcode.OPCODE + 07777);
+        addOpcode(SubOpcode::new, SubOpcode.OPCODE, SubOpcode.OPCODE + 07777);
+        addOpcode(XorOpcode::new, XorOpcode.OPCODE, XorOpcode.OPCODE + 0777);
         // Jump and subroutine opcodes
-        addOpcode(new JmpOpcode(this), JmpOpcode.OPCODE, JmpOpcode.OPCODE + 077);
-        addOpcode(new JsrOpcode(this), JsrOpcode.OPCODE, JsrOpcode.OPCODE + 0777);
-        addOpcode(new RtsOpcode(this), RtsOpcode.OPCODE, RtsOpcode.OPCODE + 7);
+        addOpcode(JmpOpcode::new, JmpOpcode.OPCODE, JmpOpcode.OPCODE + 077);
+        addOpcode(JsrOpcode::new, JsrOpcode.OPCODE, JsrOpcode.OPCODE + 0777);
+        addOpcode(RtsOpcode::new, RtsOpcode.OPCODE, RtsOpcode.OPCODE + 7);
         // Control opcodes
-        addOpcode(new HaltOpcode(this), HaltOpcode.OPCODE, HaltOpcode.OPCODE);
-        addOpcode(new WaitOpcode(this), WaitOpcode.OPCODE, WaitOpcode.OPCODE);
-        addOpcode(new RtiOpcode(this), RtiOpcode.OPCODE, RtiOpcode.OPCODE);
-        addOpcode(new BptOpcode(this), BptOpcode.OPCODE, BptOpcode.OPCODE);
-        addOpcode(new IotOpcode(this), IotOpcode.OPCODE, IotOpcode.OPCODE);
-        addOpcode(new ResetOpcode(this), ResetOpcode.OPCODE, ResetOpcode.OPCODE);
-        addOpcode(new RttOpcode(this), RttOpcode.OPCODE, RttOpcode.OPCODE);
-        addOpcode(new EmtOpcode(this), EmtOpcode.OPCODE, EmtOpcode.OPCODE + 0377);
-        addOpcode(new TrapOpcode(this), TrapOpcode.OPCODE, TrapOpcode.OPCODE + 0377);
-    }
-
-    private void addOpcode(Opcode opcode, int startOpcode, int endOpcode) {
+        addOpcode(HaltOpcode::new, HaltOpcode.OPCODE, HaltOpcode.OPCODE);
+        addOpcode(WaitOpcode::new, WaitOpcode.OPCODE, WaitOpcode.OPCODE);
+        addOpcode(RtiOpcode::new, RtiOpcode.OPCODE, RtiOpcode.OPCODE);
+        addOpcode(BptOpcode::new, BptOpcode.OPCODE, BptOpcode.OPCODE);
+        addOpcode(IotOpcode::new, IotOpcode.OPCODE, IotOpcode.OPCODE);
+        addOpcode(ResetOpcode::new, ResetOpcode.OPCODE, ResetOpcode.OPCODE);
+        addOpcode(RttOpcode::new, RttOpcode.OPCODE, RttOpcode.OPCODE);
+        addOpcode(EmtOpcode::new, EmtOpcode.OPCODE, EmtOpcode.OPCODE + 0377);
+        addOpcode(TrapOpcode::new, TrapOpcode.OPCODE, TrapOpcode.OPCODE + 0377);
+    }
+
+    /**
+     * Add pre-decoded opcodes for given instruction codes range to the opcodes table.
+     * Separate opcode instance is created and decoded for each instruction code,
+     * so no instruction decoding is performed at execution time.
+     * @param opcodeFactory {@link OpcodeFactory} to create opcode instances
+     * @param startOpcode first instruction code of range (inclusive)
+     * @param endOpcode last instruction code of range (inclusive)
+     */
+    private static void addOpcode(OpcodeFactory opcodeFactory, int startOpcode, int endOpcode) {
         for (int opcodeTableIdx = startOpcode; opcodeTableIdx <= endOpcode; opcodeTableIdx++ ) {
-            if (opcodesTable[opcodeTableIdx] != null) {
+            Opcode opcode = opcodeFactory.create();
+            if (OPCODES_TABLE[opcodeTableIdx] != null) {
                 throw new IllegalArgumentException(String.format("Opcodes table conflict: " +
                         "trying to set %s for instruction code 0%o while it already set to %s",
                         opcode.getClass().getName(), opcodeTableIdx,
-                        opcodesTable[opcodeTableIdx].getClass().getName()));
+                        OPCODES_TABLE[opcodeTableIdx].getClass().getName()));
             }
-            opcodesTable[opcodeTableIdx] = opcode;
+            opcode.decode(opcodeTableIdx);
+            OPCODES_TABLE[opcodeTableIdx] = opcode;
+            INSTRUCTION_EXECUTION_TIMES[opcodeTableIdx] = opcode.getExecutionTime();
         }
     }
 
-    private void addAddressingMode(AddressingMode addressingMode) {
-        this.addressingModes[addressingMode.getCode()] = addressingMode;
+    private static void addAddressingMode(AddressingMode addressingMode) {
+        ADDRESSING_MODES[addressingMode.getCode()] = addressingMode;
     }
 
     public OnTrapListener getOnTrapListener() {
@@ -368,11 +469,76 @@ public class Cpu implements StatefulEntity {
         this.onTrapListener = onTrapListener;
     }
 
-    public void setOnOpcodeListener(int instruction, OnOpcodeListener opcodeListener) {
-        Opcode opcode = decodeInstruction(instruction);
-        if (opcode != null) {
-            opcodesTable[instruction] = new OpcodeInterceptor(opcode, opcodeListener);
+    /**
+     * Set or remove PC hook. Hook listener is called each time PC reaches hooked address,
+     * hooks are checked only at basic blocks entry and before single operations execution,
+     * so there is no instructions execution overhead while no hooks are set.
+     * @param address address to hook (even)
+     * @param listener {@link OnPcHookListener} to set or <code>null</code> to remove hook
+     */
+    public void setPcHook(int address, OnPcHookListener listener) {
+        address &= 0177776;
+        if (listener != null) {
+            if (pcHooks == null) {
+                pcHooks = new long[PC_HOOKS_BITMAP_SIZE];
+            }
+            pcHooks[address >> 7] |= 1L << (address >> 1);
+            pcHookListeners.put(address, listener);
+        } else if (pcHookListeners.remove(address) != null) {
+            pcHooks[address >> 7] &= ~(1L << (address >> 1));
+            if (pcHookListeners.isEmpty()) {
+                pcHooks = null;
+            }
+        }
+        // Blocks are built to start at hooked addresses
+        basicBlockCache.invalidateAll();
+    }
+
+    /**
+     * Check PC hook is set for given address.
+     * @param address address to check (even)
+     * @return <code>true</code> if PC hook is set, <code>false</code> otherwise
+     */
+    boolean isPcHooked(int address) {
+        long[] hooks = pcHooks;
+        return hooks != null && (hooks[address >> 7] & (1L << (address >> 1))) != 0;
+    }
+
+    /**
+     * Check PC hook for given address and call its listener. Execution is stopped if hook
+     * listener requested it or cut current execution slice (for example, by computer
+     * pausing).
+     * @param address current PC address
+     * @return {@link #PC_HOOK_CONTINUE} if instruction at given address can be executed,
+     * {@link #PC_HOOK_SKIP} if PC register was changed by listener, {@link #PC_HOOK_STOP}
+     * if execution must be stopped
+     */
+    private int checkPcHook(int address) {
+        int stoppedAddress = stoppedPcHookAddress;
+        stoppedPcHookAddress = NO_PC_HOOK_ADDRESS;
+        if (address == stoppedAddress || !isPcHooked(address)) {
+            return PC_HOOK_CONTINUE;
         }
+        OnPcHookListener listener = pcHookListeners.get(address);
+        if (listener != null && (listener.onPcHook(this, address)
+                || isExecutionSliceCut())) {
+            cutExecutionSlice();
+            if (readRegister(false, PC) == address) {
+                stoppedPcHookAddress = address;
+            }
+            return PC_HOOK_STOP;
+        }
+        return (readRegister(false, PC) != address) ? PC_HOOK_SKIP : PC_HOOK_CONTINUE;
+    }
+
+    /**
+     * Handle memory map change (memory banks or segments switching).
+     * @param startAddress changed address range start address (inclusive)
+     * @param endAddress changed address range end address (inclusive)
+     */
+    public void memoryMapChanged(int startAddress, int endAddress) {
+        basicBlockCache.invalidate(startAddress, endAddress);
+        resetFetchPage();
     }
 
     /**
@@ -436,13 +602,22 @@ public class Cpu implements StatefulEntity {
         time = timeToSet;
     }
 
+    /**
+     * Cancel accounting of not executed instruction time (used by superinstructions,
+     * which execution time is accounted before execution is completed).
+     * @param executionTime not executed instruction time (in clock ticks)
+     */
+    void cancelExecutionTime(int executionTime) {
+        time -= executionTime;
+    }
+
     /**
      * Get addressing mode by its code.
      * @param addressingModeCode addressing mode code to get (only three LSB are taken in account)
      * @return {@link AddressingMode} for given addressing mode code
      */
-    public AddressingMode getAddressingMode(int addressingModeCode) {
-        return addressingModes[addressingModeCode & 7];
+    public static AddressingMode getAddressingMode(int addressingModeCode) {
+        return ADDRESSING_MODES[addressingModeCode & 7];
     }
 
     /**
@@ -466,6 +641,9 @@ public class Cpu implements StatefulEntity {
      * @return processor status word value
      */
     public int getPswState() {
+        if (deferredPswFlagsOperation != PSW_FLAGS_OP_NONE) {
+            evaluateDeferredPswFlags();
+        }
         return processorStatusWord;
     }
 
@@ -474,9 +652,88 @@ public class Cpu implements StatefulEntity {
      * @param psw processor status word value to set
      */
     public void setPswState(int psw) {
+        deferredPswFlagsOperation = PSW_FLAGS_OP_NONE;
         this.processorStatusWord = psw;
     }
 
+    /**
+     * Defer PSW condition code flags update by given operation. Flags are evaluated from
+     * given operation operands and result only when PSW state is requested.
+     * @param operation deferred PSW flags operation (one of PSW_FLAGS_OP_* constants)
+     * @param isByteMode <code>true</code> for byte operation,
+     * <code>false</code> for word operation
+     * @param firstOperand operation first operand value (source value for addition,
+     * minuend for subtraction, not used for other operations)
+     * @param secondOperand operation second operand value (destination value for addition,
+     * subtrahend for subtraction, not used for other operations)
+     * @param result operation result value
+     */
+    public void deferPswFlagsUpdate(int operation, boolean isByteMode, int firstOperand,
+                                    int secondOperand, int result) {
+        // Evaluate previous deferred operation flags if they will not be overwritten
+        if ((PSW_FLAGS_OP_AFFECTED_FLAGS[deferredPswFlagsOperation]
+                & ~PSW_FLAGS_OP_AFFECTED_FLAGS[operation]) != 0) {
+            evaluateDeferredPswFlags();
+        }
+        deferredPswFlagsOperation = operation;
+        isDeferredPswFlagsByteMode = isByteMode;
+        deferredPswFlagsFirstOperand = firstOperand;
+        deferredPswFlagsSecondOperand = secondOperand;
+        deferredPswFlagsResult = result;
+    }
+
+    /**
+     * Evaluate PSW condition code flags from deferred PSW flags operation.
+     */
+    private void evaluateDeferredPswFlags() {
+        int operation = deferredPswFlagsOperation;
+        deferredPswFlagsOperation = PSW_FLAGS_OP_NONE;
+        int signBit = isDeferredPswFlagsByteMode ? 0200 : 0100000;
+        int valueMask = isDeferredPswFlagsByteMode ? 0377 : 0177777;
+        int first = deferredPswFlagsFirstOperand;
+        int second = deferredPswFlagsSecondOperand;
+        int result = deferredPswFlagsResult;
+        int flags = 0;
+        if ((result & signBit) != 0) {
+            flags |= PSW_FLAG_N;
+        }
+        if ((result & valueMask) == 0) {
+            flags |= PSW_FLAG_Z;
+        }
+        switch (operation) {
+            case PSW_FLAGS_OP_ADD:
+                if ((((~first ^ second) & (first ^ result)) & signBit) != 0) {
+                    flags |= PSW_FLAG_V;
+                }
+                if ((result & ~valueMask) != 0) {
+                    flags |= PSW_FLAG_C;
+                }
+                break;
+            case PSW_FLAGS_OP_SUB:
+                if ((((first ^ second) & (~second ^ result)) & signBit) != 0) {
+                    flags |= PSW_FLAG_V;
+                }
+                if ((result & ~valueMask) != 0) {
+                    flags |= PSW_FLAG_C;
+                }
+                break;
+            case PSW_FLAGS_OP_INC:
+                if ((result & valueMask) == signBit) {
+                    flags |= PSW_FLAG_V;
+                }
+                break;
+            case PSW_FLAGS_OP_DEC:
+                if ((result & valueMask) == signBit - 1) {
+                    flags |= PSW_FLAG_V;
+                }
+                break;
+            default:
+                break;
+        }
+        processorStatusWord = (processorStatusWord & ~PSW_FLAGS_OP_AFFECTED_FLAGS[operation])
+                | flags;
+    }
+
     /**
      * Get PSW flag state.
      * @param flag PSW flag to get bit mask
@@ -570,12 +827,35 @@ public class Cpu implements StatefulEntity {
         setPswFlag(PSW_FLAG_Z, (value & (isByteMode ? 0377 : 0177777)) == 0);
     }
 
+    /**
+     * Check given event is pending.
+     * @param event event bit (one of EVENT_* constants)
+     * @return <code>true</code> if event is pending, <code>false</code> otherwise
+     */
+    private boolean isPendingEvent(int event) {
+        return (pendingEvents.get() & event) != 0;
+    }
+
+    /**
+     * Set or clear pending event.
+     * @param event event bit (one of EVENT_* constants)
+     * @param isPending <code>true</code> to set event as pending, <code>false</code> to clear it
+     */
+    private void setPendingEvent(int event, boolean isPending) {
+        int events;
+        int newEvents;
+        do {
+            events = pendingEvents.get();
+            newEvents = isPending ? (events | event) : (events & ~event);
+        } while (events != newEvents && !pendingEvents.compareAndSet(events, newEvents));
+    }
+
     /**
      * Get bus error flag state.
      * @return <code>true</code> if was bus error, <code>false</code> otherwise
      */
     public boolean isBusError() {
-        return this.isBusError;
+        return isPendingEvent(EVENT_BUS_ERROR);
     }
 
     /**
@@ -583,7 +863,7 @@ public class Cpu implements StatefulEntity {
      * @param isBusError bus error flag state to set
      */
     public void setBusError(boolean isBusError) {
-        this.isBusError = isBusError;
+        setPendingEvent(EVENT_BUS_ERROR, isBusError);
     }
 
     /**
@@ -635,21 +915,22 @@ public class Cpu implements StatefulEntity {
      * @return <code>true</code> if IRQ1 requested, <code>false</code> otherwise
      */
     public boolean isIrq1Requested() {
-        return isIrq1Requested;
+        return isPendingEvent(EVENT_IRQ1);
     }
 
     /**
      * Request first radial interrupt (IRQ1).
      */
     public void requestIrq1() {
-        this.isIrq1Requested = true;
+        setPendingEvent(EVENT_IRQ1, true);
+        cutExecutionSlice();
     }
 
     /**
      * Clear pending first radial interrupt (IRQ1) request.
      */
     public void clearIrq1Request() {
-        this.isIrq1Requested = false;
+        setPendingEvent(EVENT_IRQ1, false);
     }
 
     /**
@@ -657,30 +938,33 @@ public class Cpu implements StatefulEntity {
      * @return <code>true</code> if IRQ2 requested, <code>false</code> otherwise
      */
     public boolean isIrq2Requested() {
-        return isIrq2Requested;
+        return isPendingEvent(EVENT_IRQ2);
     }
 
     /**
      * Request second radial interrupt (IRQ2).
      */
     public void requestIrq2() {
-        this.isIrq2Requested = true;
+        setPendingEvent(EVENT_IRQ2, true);
+        cutExecutionSlice();
     }
 
     /**
      * Clear pending second radial interrupt (IRQ2) request.
      */
     public void clearIrq2Request() {
-        this.isIrq2Requested = false;
+        setPendingEvent(EVENT_IRQ2, false);
     }
 
     /**
      * Request vector interrupt (VIRQ).
      * @param address vector interrupt address
      */
-    public synchronized void requestVirq(int address) {
-        this.isVirqRequested = true;
+    public void requestVirq(int address) {
+        // Address is set before the request flag, so it is visible when request is seen
         this.virqAddress = address;
+        setPendingEvent(EVENT_VIRQ, true);
+        cutExecutionSlice();
     }
 
     /**
@@ -688,21 +972,21 @@ public class Cpu implements StatefulEntity {
      * @return <code>true</code> if vector interrupt is requested, <code>false</code> if not
      */
     public boolean isVirqRequested() {
-        return this.isVirqRequested;
+        return isPendingEvent(EVENT_VIRQ);
     }
 
     /**
      * Clear pending vector interrupt (VIRQ) request.
      */
     public void clearVirqRequest() {
-        this.isVirqRequested = false;
+        setPendingEvent(EVENT_VIRQ, false);
     }
 
     /**
      * Get pending vector interrupt (VIRQ) address.
      * @return pending vector interrupt address
      */
-    public synchronized int getVirqAddress() {
+    public int getVirqAddress() {
         return virqAddress;
     }
 
@@ -711,7 +995,7 @@ public class Cpu implements StatefulEntity {
      * @return <code>true</code> if processor in interrupt wait mode, <code>false</code> otherwise
      */
     public boolean isInterruptWaitMode() {
-        return this.isInterruptWaitMode;
+        return isPendingEvent(EVENT_INTERRUPT_WAIT);
     }
 
     /**
@@ -719,7 +1003,7 @@ public class Cpu implements StatefulEntity {
      * @param isInterruptWaitMode interrupt wait mode flag state to set
      */
     public void setInterruptWaitMode(boolean isInterruptWaitMode) {
-        this.isInterruptWaitMode = isInterruptWaitMode;
+        setPendingEvent(EVENT_INTERRUPT_WAIT, isInterruptWaitMode);
     }
 
     /**
@@ -746,7 +1030,7 @@ public class Cpu implements StatefulEntity {
      * <code>false</code> if last fetched opcode was decoded successfully
      */
     public boolean isReservedOpcodeFetched() {
-        return isReservedOpcodeFetched;
+        return isPendingEvent(EVENT_RESERVED_OPCODE);
     }
 
     /**
@@ -754,7 +1038,7 @@ public class Cpu implements StatefulEntity {
      * @param isReservedOpcodeFetched reserved opcode fetched flag state to set
      */
     public void setReservedOpcodeFetched(boolean isReservedOpcodeFetched) {
-        this.isReservedOpcodeFetched = isReservedOpcodeFetched;
+        setPendingEvent(EVENT_RESERVED_OPCODE, isReservedOpcodeFetched);
     }
 
     /**
@@ -949,10 +1233,10 @@ public class Cpu implements StatefulEntity {
      */
     public boolean push(int value) {
         AddressingMode pushMode = getAddressingMode(AutodecrementAddressingMode.CODE);
-        pushMode.preAddressingAction(false, Cpu.SP);
-        boolean isPushed = pushMode.writeAddressedValue(false, Cpu.SP, value);
+        pushMode.preAddressingAction(this, false, Cpu.SP);
+        boolean isPushed = pushMode.writeAddressedValue(this, false, Cpu.SP, value);
         if (isPushed) {
-            pushMode.postAddressingAction(false, Cpu.SP);
+            pushMode.postAddressingAction(this, false, Cpu.SP);
         }
         return isPushed;
     }
@@ -964,10 +1248,10 @@ public class Cpu implements StatefulEntity {
      */
     public int pop() {
         AddressingMode popMode = getAddressingMode(AutoincrementAddressingMode.CODE);
-        popMode.preAddressingAction(false, Cpu.SP);
-        int value = popMode.readAddressedValue(false, Cpu.SP);
+        popMode.preAddressingAction(this, false, Cpu.SP);
+        int value = popMode.readAddressedValue(this, false, Cpu.SP);
         if (value != Computer.BUS_ERROR) {
-            popMode.postAddressingAction(false, Cpu.SP);
+            popMode.postAddressingAction(this, false, Cpu.SP);
         }
         return value;
     }
@@ -983,10 +1267,75 @@ public class Cpu implements StatefulEntity {
         int value = computer.readMemory(isByteMode, address);
         if (value == Computer.BUS_ERROR) {
             setBusError();
+        } else if (isPolledReadsRecording) {
+            recordPolledRead(address, value);
+        }
+        return value;
+    }
+
+    /**
+     * Read byte or word from instruction stream (instruction code, immediate operand,
+     * absolute address or index word). Words of the current code page are read directly
+     * from the backing RAM/ROM data, full memory read is done only when code page is
+     * changed or memory map is switched.
+     * @param isByteMode <code>true</code> to read byte, <code>false</code> to read word
+     * @param address memory location address to read
+     * @return read data or <code>Computer.BUS_ERROR</code> if given address is
+     * not mapped to memory or register
+     */
+    public int readInstructionStream(boolean isByteMode, int address) {
+        int offset = address - fetchPageStartAddress;
+        if (offset >= 0 && offset < fetchPageSize && (address & 1) == 0) {
+            int value = fetchPageData[fetchPageDataIndex + (offset >> 1)];
+            return value & (isByteMode ? 0377 : 0177777);
+        }
+        int value = readMemory(isByteMode, address);
+        if (value != Computer.BUS_ERROR) {
+            setFetchPage(address);
         }
         return value;
     }
 
+    /**
+     * Set instruction fetch page containing given address. Fetch page is not set if
+     * memory range at given address is not backed by the single RAM/ROM.
+     * @param address address to set fetch page for
+     */
+    private void setFetchPage(int address) {
+        resetFetchPage();
+        Computer.MemoryRange memoryRange = computer.getReadableMemoryRange(address);
+        if (memoryRange == null) {
+            return;
+        }
+        // Clip fetch page to the memory range and I/O registers area start
+        int pageStartAddress = Math.max(address & ~(FETCH_PAGE_SIZE - 1),
+                memoryRange.getStartAddress());
+        int pageEndAddress = Math.min(Math.min((address & ~(FETCH_PAGE_SIZE - 1))
+                + FETCH_PAGE_SIZE, memoryRange.getEndAddress() + 1),
+                Computer.IO_REGISTERS_MIN_ADDRESS);
+        RandomAccessMemory backingMemory = computer.getBackingMemory(pageStartAddress,
+                pageEndAddress - 2, false);
+        if (backingMemory != null) {
+            fetchPageData = backingMemory.getData();
+            fetchPageDataIndex = computer.getBackingMemoryWordIndex(pageStartAddress);
+            fetchPageStartAddress = pageStartAddress;
+            fetchPageSize = pageEndAddress - pageStartAddress;
+        }
+    }
+
+    private void resetFetchPage() {
+        fetchPageSize = 0;
+        fetchPageData = null;
+    }
+
+    private void recordPolledRead(int address, int value) {
+        if (polledReadsCount < MAX_POLLED_READS) {
+            polledReads[polledReadsCount * 2] = address;
+            polledReads[polledReadsCount * 2 + 1] = value;
+        }
+        polledReadsCount++;
+    }
+
     /**
      * Write byte or word to given memory location.
      * @param isByteMode <code>true</code> to write byte, <code>false</code> to write word
@@ -1048,19 +1397,31 @@ public class Cpu implements StatefulEntity {
      * @return fetched instruction code or BUS_ERROR in case of error
      */
     private int fetchInstruction() {
-        int instruction = readMemory(false, readRegister(false, PC));
+        int instruction = readInstructionStream(false, readRegister(false, PC));
         incrementRegister(false, PC);
         return instruction;
     }
 
     /**
-     * Decode opcode for given instruction code.
+     * Get pre-decoded opcode for given instruction code.
      * @param instruction instruction code to decode
      * @return decoded {@link Opcode} for given instruction code or <code>null</code> if no
      * opcode exist for given instruction code
      */
-    private Opcode decodeInstruction(int instruction) {
-        return opcodesTable[instruction & 0177777];
+    Opcode decodeInstruction(int instruction) {
+        return OPCODES_TABLE[instruction & 0177777];
+    }
+
+    /**
+     * Get pre-computed execution time for given instruction code. Instruction execution
+     * time depends only on instruction code, so it is computed once for each instruction
+     * code while opcodes table is built.
+     * @param instruction instruction code to get execution time
+     * @return instruction execution time (in clock ticks) or 0 if no opcode exist
+     * for given instruction code
+     */
+    public int getInstructionExecutionTime(int instruction) {
+        return INSTRUCTION_EXECUTION_TIMES[instruction & 0177777];
     }
 
     /**
@@ -1070,13 +1431,58 @@ public class Cpu implements StatefulEntity {
      * <code>false</code> if not allowed
      */
     private boolean isInstructionsExecutingAllowed() {
-        return !isInterruptWaitMode() && !isBusError();
+        return (pendingEvents.get() & (EVENT_INTERRUPT_WAIT | EVENT_BUS_ERROR)) == 0;
+    }
+
+    /**
+     * Check is there pending event which should be handled before the next instruction
+     * execution (bus error, trace trap or hardware interrupt request which is not masked).
+     * @return <code>true</code> if there is pending event, <code>false</code> otherwise
+     */
+    boolean isPendingEvent() {
+        int events = pendingEvents.get();
+        int psw = processorStatusWord;
+        if (events == 0) {
+            return (psw & PSW_FLAG_T) != 0;
+        }
+        return (events & (EVENT_BUS_ERROR | EVENT_RESERVED_OPCODE | EVENT_INTERRUPT_WAIT)) != 0
+                || (psw & PSW_FLAG_T) != 0 || isInterruptRequestPending(events, psw);
+    }
+
+    /**
+     * Check is there hardware interrupt request which is not masked.
+     * @param events pending events bitmask
+     * @param psw processor status word
+     * @return <code>true</code> if there is unmasked interrupt request,
+     * <code>false</code> otherwise
+     */
+    private static boolean isInterruptRequestPending(int events, int psw) {
+        return (psw & PSW_FLAG_H) == 0
+                && (((psw & PSW_FLAG_M) == 0 && (events & EVENT_IRQ1) != 0)
+                    || ((psw & PSW_FLAG_P) == 0 && (events & (EVENT_IRQ2 | EVENT_VIRQ)) != 0));
+    }
+
+    /**
+     * Fast-forward CPU time while in interrupt wait mode without pending interrupt requests.
+     * CPU time is advanced by the same steps as it would be advanced while waiting
+     * for interrupt instruction by instruction.
+     * @param untilTime CPU time to fast-forward until (in CPU ticks)
+     */
+    private void skipInterruptWait(long untilTime) {
+        if (untilTime > time) {
+            long waitStepTime = BaseOpcode.getBaseExecutionTime();
+            time += (untilTime - time + waitStepTime - 1) / waitStepTime * waitStepTime;
+        }
     }
 
     /**
      * Process pending interrupt requests.
      */
     private void processPendingInterrupts() {
+        if (pendingEvents.get() == 0 && (processorStatusWord & PSW_FLAG_T) == 0) {
+            // Nothing to process
+            return;
+        }
         if (isBusError()) {
             // Bus error handling
             if (processTrap(TRAP_VECTOR_BUS_ERROR, true)) {
@@ -1133,9 +1539,8 @@ public class Cpu implements StatefulEntity {
         if (instruction != Computer.BUS_ERROR) {
             Opcode instructionOpcode = decodeInstruction(instruction);
             if (instructionOpcode != null) {
-                instructionOpcode.decode(instruction);
-                instructionOpcode.execute();
-                time += instructionOpcode.getExecutionTime();
+                instructionOpcode.execute(this);
+                time += INSTRUCTION_EXECUTION_TIMES[instruction];
                 // Clear deferred trace trap flag if instruction was executed
                 // while trace bit is set
                 if (isPswFlagSet(PSW_FLAG_T) && instructionOpcode
@@ -1155,9 +1560,322 @@ public class Cpu implements StatefulEntity {
      */
     public void executeNextOperation() {
         if (isInstructionsExecutingAllowed()) {
-            executeSingleInstruction();
+            int pcHookResult = (pcHooks != null) ? checkPcHook(registers[PC] & 0177777)
+                    : PC_HOOK_CONTINUE;
+            if (pcHookResult == PC_HOOK_STOP) {
+                return;
+            }
+            if (pcHookResult == PC_HOOK_CONTINUE) {
+                executeSingleInstruction();
+            }
+        }
+        processPendingInterrupts();
+    }
+
+    /**
+     * Execute instructions until given CPU time is reached.
+     * @param untilTime CPU time to execute instructions until (in CPU ticks)
+     * @see #execute(long, long)
+     */
+    public void execute(long untilTime) {
+        execute(untilTime, untilTime);
+    }
+
+    /**
+     * Execute instructions until given CPU time is reached. Execution slice is cut short
+     * after the first interrupt request, so caller can handle interrupt consequences without
+     * waiting for the slice end. While CPU is idle (waits for interrupt or executes polling
+     * loop while polled values are not changed), CPU time is fast-forwarded up to given
+     * idle time limit instead of waiting or polling loop execution.
+     * @param untilTime CPU time to execute instructions until (in CPU ticks)
+     * @param idleUntilTime CPU time to fast-forward idle CPU until (in CPU ticks)
+     */
+    public void execute(long untilTime, long idleUntilTime) {
+        executionSliceIdleEndTime = Math.max(untilTime, idleUntilTime);
+        executionSliceEndTime = untilTime;
+        // Pending events are checked at the slice start, so earlier cut requests are dropped
+        isExecutionSliceCutRequested = false;
+        do {
+            int events = pendingEvents.get();
+            if ((events & EVENT_INTERRUPT_WAIT) != 0
+                    && (events & (EVENT_BUS_ERROR | EVENT_RESERVED_OPCODE)) == 0
+                    && !isInterruptRequestPending(events, processorStatusWord)) {
+                // Nothing can happen until the next interrupt request
+                skipInterruptWait(getExecutionSliceIdleEndTime());
+            } else {
+                executeNextBlock();
+            }
+        } while (time < executionSliceEndTime && !isExecutionSliceCut());
+        executionSliceEndTime = Long.MAX_VALUE;
+        executionSliceIdleEndTime = Long.MIN_VALUE;
+    }
+
+    /**
+     * Get current execution slice idle end time.
+     * @return time until idle CPU can be fast-forwarded (in CPU ticks),
+     * or {@link Long#MIN_VALUE} if CPU time fast-forwarding is not allowed
+     */
+    private long getExecutionSliceIdleEndTime() {
+        return !isExecutionSliceCut() ? executionSliceIdleEndTime : Long.MIN_VALUE;
+    }
+
+    /**
+     * Cut current execution slice short, so {@link #execute(long)} will return
+     * at the next instruction boundary. If slice is cut from PC hook listener,
+     * execution is stopped at hooked address. Can be called from any thread, cut request
+     * is applied in the emulation thread and is ignored if no slice is executing.
+     */
+    public void cutExecutionSlice() {
+        isExecutionSliceCutRequested = true;
+    }
+
+    /**
+     * Check current execution slice is cut.
+     * @return <code>true</code> if execution slice is executing and its cut is requested,
+     * <code>false</code> otherwise
+     */
+    private boolean isExecutionSliceCut() {
+        return isExecutionSliceCutRequested && executionSliceEndTime != Long.MAX_VALUE;
+    }
+
+    /**
+     * Execute next operations block (cached basic block of instructions starting at
+     * current PC and/or interrupts processing). Block execution is stopped on the first
+     * instruction which leaves pending event to handle, so interrupts are processed
+     * at the same instruction boundaries as with {@link #executeNextOperation()}.
+     * Hot blocks are chained directly to their successor blocks, so guest loops are
+     * executed without returning to the caller until chain execution time limit
+     * or current execution slice end time is reached. Chained block instructions are
+     * still interpreted by their {@link Opcode} implementations, chaining only saves
+     * the dispatch and block cache lookup between hot blocks.
+     */
+    public void executeNextBlock() {
+        if (pcHooks != null) {
+            if (isPcHooked(registers[PC] & 0177777)) {
+                // Hooked addresses are handled by single operation execution
+                executeNextOperation();
+                return;
+            }
+            stoppedPcHookAddress = NO_PC_HOOK_ADDRESS;
+        }
+        BasicBlock block = (isInstructionsExecutingAllowed() && !isPendingEvent())
+                ? basicBlockCache.getBlock(registers[PC] & 0177777) : null;
+        if (block == null) {
+            executeNextOperation();
+            return;
+        }
+        long chainEndTime = Math.min(time + MAX_BLOCKS_CHAIN_EXECUTION_TIME,
+                executionSliceEndTime);
+        long idleEndTime = getExecutionSliceIdleEndTime();
+        Opcode opcode;
+        boolean isBlockCompleted;
+        do {
+            boolean isPollingLoop = block.isPollingLoop() && idleEndTime > time;
+            if (isPollingLoop) {
+                polledReadsCount = 0;
+                isPolledReadsRecording = true;
+            }
+            Opcode[] blockOpcodes = block.getExecutionOpcodes();
+            int[] blockExecutionTimes = block.getExecutionTimes();
+            int blockLength = blockOpcodes.length;
+            if (block.getTransferLoop() != null && executeBlockTransferLoop(block)) {
+                opcode = blockOpcodes[blockLength - 1];
+                isBlockCompleted = true;
+            } else {
+                int index = 0;
+                do {
+                    opcode = blockOpcodes[index];
+                    registers[PC] += 2;
+                    opcode.execute(this);
+                    time += blockExecutionTimes[index];
+                    isBlockCompleted = (++index == blockLength);
+                } while (!isBlockCompleted && time < chainEndTime && block.isValid()
+                        && !isPendingEvent() && !isExecutionSliceCut());
+            }
+            if (isPollingLoop) {
+                isPolledReadsRecording = false;
+                if (isBlockCompleted) {
+                    skipPollingLoop(block, idleEndTime);
+                }
+            }
+        } while (isBlockCompleted && time < chainEndTime && !isExecutionSliceCut()
+                && (block = getChainedBlock(block)) != null);
+        // Clear deferred trace trap flag if instruction was executed
+        // while trace bit is set
+        if (isPswFlagSet(PSW_FLAG_T) && opcode.getOpcode() != RttOpcode.OPCODE) {
+            clearDeferredTraceTrap();
         }
         processPendingInterrupts();
     }
 
+    /**
+     * Execute block transfer loop iterations as bulk memory copy or fill operation
+     * in the backing RAM. Loop iterations are executed until loop counter becomes zero
+     * or execution slice end is reached, registers, PSW and CPU time are updated the same
+     * way as after loop iterations executing one by one.
+     * @param block block transfer loop block to execute
+     * @return <code>true</code> if loop iterations were executed, <code>false</code> if
+     * loop can't be executed as bulk operation and should be executed instruction by
+     * instruction
+     */
+    private boolean executeBlockTransferLoop(BasicBlock block) {
+        if (isPendingEvent() || isExecutionSliceCut()
+                || readRegister(false, PC) != block.getStartAddress()) {
+            return false;
+        }
+        BlockTransferLoop loop = block.getTransferLoop();
+        int iterationTime = block.getExecutionTime();
+        int counter = readRegister(false, loop.getCounterRegister());
+        // SOB with zero counter register value loops 65536 times
+        long iterations = (counter != 0) ? counter : 0200000;
+        long sliceEndTime = executionSliceEndTime;
+        if (sliceEndTime != Long.MAX_VALUE) {
+            iterations = Math.min(iterations, (sliceEndTime > time)
+                    ? (sliceEndTime - time + iterationTime - 1) / iterationTime : 0L);
+        }
+        if (iterations < MIN_BLOCK_TRANSFER_LOOP_ITERATIONS) {
+            return false;
+        }
+        int count = (int) iterations;
+        int destAddress = readRegister(false, loop.getDestRegister());
+        int destEndAddress = destAddress + (count - 1) * 2;
+        if ((destAddress & 1) != 0 || destEndAddress > 0177777) {
+            return false;
+        }
+        // Destination must not be overlaid by other writable memories
+        if (!computer.isDirectlyWritable(destAddress, destEndAddress)) {
+            return false;
+        }
+        RandomAccessMemory destMemory = computer.getBackingMemory(destAddress,
+                destEndAddress, true);
+        if (destMemory == null) {
+            return false;
+        }
+        int destWordIndex = computer.getBackingMemoryWordIndex(destAddress);
+        // Loop instructions must not be overwritten
+        if (block.isStoredIn(destMemory, destWordIndex, destWordIndex + count - 1)) {
+            return false;
+        }
+        switch (loop.getSourceType()) {
+            case BlockTransferLoop.SOURCE_MEMORY:
+                int srcAddress = readRegister(false, loop.getSourceRegister());
+                int srcEndAddress = srcAddress + (count - 1) * 2;
+                if ((srcAddress & 1) != 0 || srcEndAddress > 0177777) {
+                    return false;
+                }
+                RandomAccessMemory srcMemory = computer.getBackingMemory(srcAddress,
+                        srcEndAddress, false);
+                if (srcMemory == null) {
+                    return false;
+                }
+                int srcWordIndex = computer.getBackingMemoryWordIndex(srcAddress);
+                // Words copied forward to overlapping destination are read again as source
+                if (srcMemory == destMemory && destWordIndex > srcWordIndex
+                        && destWordIndex < srcWordIndex + count) {
+                    return false;
+                }
+                short[] srcData = srcMemory.getData();
+                int lastValue = srcData[srcWordIndex + count - 1] & 0177777;
+                destMemory.writeWords(destWordIndex, srcData, srcWordIndex, count);
+                writeRegister(false, loop.getSourceRegister(), srcEndAddress + 2);
+                deferPswFlagsUpdate(PSW_FLAGS_OP_LOGICAL, false, 0, 0, lastValue);
+                break;
+            case BlockTransferLoop.SOURCE_REGISTER:
+                int value = readRegister(false, loop.getSourceRegister());
+                destMemory.fillWords(destWordIndex, count, value);
+                deferPswFlagsUpdate(PSW_FLAGS_OP_LOGICAL, false, 0, 0, value);
+                break;
+            default:
+                destMemory.fillWords(destWordIndex, count, 0);
+                deferPswFlagsUpdate(PSW_FLAGS_OP_TEST, false, 0, 0, 0);
+                break;
+        }
+        writeRegister(false, loop.getDestRegister(), destEndAddress + 2);
+        counter = (counter - count) & 0177777;
+        writeRegister(false, loop.getCounterRegister(), counter);
+        // Exit from the loop after the last iteration
+        writeRegister(false, PC, (counter != 0) ? block.getStartAddress()
+                : block.getStartAddress() + 4);
+        time += (long) count * iterationTime;
+        return true;
+    }
+
+    /**
+     * Fast-forward CPU time while polling loop block is executed and values it reads
+     * are not changed. CPU time is advanced by whole loop iterations only if the last two
+     * loop iterations have read the same values, so CPU state after fast-forward is the same
+     * as after loop iterations executing one by one.
+     * @param block completed polling loop block
+     * @param idleEndTime CPU time to fast-forward until (in CPU ticks)
+     */
+    private void skipPollingLoop(BasicBlock block, long idleEndTime) {
+        int loopTime = block.getExecutionTime();
+        boolean isRepeatedIteration = block == lastPollingLoopBlock
+                && lastPollingLoopEndTime == time - loopTime
+                && polledReadsCount == lastPolledReadsCount
+                && isSamePolledReads();
+        // Keep this iteration reads to compare with the next iteration reads
+        int[] reads = lastPolledReads;
+        lastPolledReads = polledReads;
+        polledReads = reads;
+        lastPolledReadsCount = polledReadsCount;
+        lastPollingLoopBlock = block;
+        lastPollingLoopEndTime = time;
+        if (!isRepeatedIteration || polledReadsCount > MAX_POLLED_READS || !block.isValid()
+                || (registers[PC] & 0177777) != block.getStartAddress() || isPendingEvent()) {
+            return;
+        }
+        // Get the earliest time when polled values can change after the last iteration start
+        long iterationStartTime = time - loopTime;
+        long changeTime = PollableDevice.REGISTER_CHANGED_EXTERNALLY;
+        for (int i = 0; i < lastPolledReadsCount; i++) {
+            long readChangeTime = computer.getReadValueChangeTime(iterationStartTime,
+                    lastPolledReads[i * 2]);
+            if (readChangeTime == PollableDevice.REGISTER_NOT_POLLABLE) {
+                return;
+            }
+            changeTime = Math.min(changeTime, readChangeTime);
+        }
+        // Skip loop iterations which are completed before polled values can change
+        long iterations = (idleEndTime - time + loopTime - 1) / loopTime;
+        if (changeTime != PollableDevice.REGISTER_CHANGED_EXTERNALLY) {
+            iterations = Math.min(iterations, (changeTime - time) / loopTime);
+        }
+        if (iterations > 0) {
+            time += iterations * loopTime;
+            lastPollingLoopEndTime = time;
+        }
+    }
+
+    private boolean isSamePolledReads() {
+        for (int i = 0; i < polledReadsCount * 2 && i < polledReads.length; i++) {
+            if (polledReads[i] != lastPolledReads[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get block to execute after given completed block, if given block is hot.
+     * @param block completed block
+     * @return block to execute next or <code>null</code> if given block is not hot yet,
+     * was invalidated while executing, there is pending event to handle or no block can be
+     * built for the current PC
+     */
+    private BasicBlock getChainedBlock(BasicBlock block) {
+        if (!block.isValid() || !block.countExecution() || isPendingEvent()) {
+            return null;
+        }
+        int address = registers[PC] & 0177777;
+        BasicBlock chainedBlock = block.getChainedBlock();
+        if (chainedBlock == null || !chainedBlock.isValid()
+                || chainedBlock.getStartAddress() != address) {
+            chainedBlock = basicBlockCache.getBlock(address);
+            block.setChainedBlock(chainedBlock);
+        }
+        // Hooked block is executed only after hook listener call
+        return (pcHooks == null || !isPcHooked(address)) ? chainedBlock : null;
+    }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import su.comp.bk.arch.cpu.opcode.BranchOpcode;
+import su.comp.bk.arch.cpu.opcode.Opcode;
+import su.comp.bk.arch.cpu.opcode.SobOpcode;
+
+/**
+ * Superinstruction - pair of block instructions executed as the single instruction:
+ * any instruction followed by conditional branch or SOB instruction (CMP/TST/BIT
+ * with branch, DEC with BNE, MOV with SOB, etc). Execution time of superinstruction
+ * is the sum of the fused instructions execution times.
+ */
+class FusedOpcode implements Opcode {
+    // Block containing fused instructions
+    private final BasicBlock block;
+
+    // Fused instruction opcodes
+    private final Opcode firstOpcode;
+    private final Opcode secondOpcode;
+
+    FusedOpcode(BasicBlock block, Opcode firstOpcode, Opcode secondOpcode) {
+        this.block = block;
+        this.firstOpcode = firstOpcode;
+        this.secondOpcode = secondOpcode;
+    }
+
+    /**
+     * Check given instructions can be fused into superinstruction.
+     * @param firstOpcode first instruction opcode
+     * @param secondOpcode second instruction opcode
+     * @return <code>true</code> if instructions can be fused, <code>false</code> otherwise
+     */
+    static boolean isFusible(Opcode firstOpcode, Opcode secondOpcode) {
+        // Second instruction must not access memory, so it can be executed
+        // at the first instruction start time
+        return !firstOpcode.isFlowControl() && (secondOpcode instanceof BranchOpcode
+                || secondOpcode instanceof SobOpcode);
+    }
+
+    @Override
+    public int getOpcode() {
+        return secondOpcode.getOpcode();
+    }
+
+    @Override
+    public void decode(int instruction) {
+        // Fused instructions are already decoded
+    }
+
+    @Override
+    public int getExecutionTime() {
+        return firstOpcode.getExecutionTime() + secondOpcode.getExecutionTime();
+    }
+
+    @Override
+    public int getLength() {
+        return firstOpcode.getLength() + secondOpcode.getLength();
+    }
+
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
+    @Override
+    public boolean isSideEffectFree() {
+        return false;
+    }
+
+    @Override
+    public void execute(Cpu cpu) {
+        firstOpcode.execute(cpu);
+        if (block.isValid() && !cpu.isPendingEvent()) {
+            cpu.incrementRegister(false, Cpu.PC);
+            secondOpcode.execute(cpu);
+        } else {
+            // Second instruction is not executed, it will be executed after
+            // pending event handling or block rebuilding
+            cpu.cancelExecutionTime(secondOpcode.getExecutionTime());
+        }
+    }
+}
@@ -18,6 +18,8 @@
  */
 package su.comp.bk.arch.cpu.addressing;
 
+import su.comp.bk.arch.cpu.Cpu;
+
 /**
  * PDP-11 addressing mode interface.
  */
@@ -31,39 +33,44 @@ public interface AddressingMode {
 
     /**
      * Do preaddressing action (like predecrement)
+     * @param cpu {@link Cpu} to perform addressing on
      * @param isByteAddressing <code>true</code> if byte value addressed, <code>false</code> if
      * word value
      * @param register register number (0-7)
      */
-    void preAddressingAction(boolean isByteAddressing, int register);
+    void preAddressingAction(Cpu cpu, boolean isByteAddressing, int register);
 
     /**
      * Do postaddressing action (like postincrement)
+     * @param cpu {@link Cpu} to perform addressing on
      * @param isByteAddressing <code>true</code> if byte value addressed, <code>false</code> if
      * word value
      * @param register register number (0-7)
      */
-    void postAddressingAction(boolean isByteAddressing, int register);
+    void postAddressingAction(Cpu cpu, boolean isByteAddressing, int register);
 
     /**
      * Get address for this addressing mode.
+     * @param cpu {@link Cpu} to perform addressing on
      * @param register register number (0-7)
      * @return address for this addressing mode or Computer.BUS_ERROR
      */
-    int getAddress(int register);
+    int getAddress(Cpu cpu, int register);
 
     /**
      * Read value addressed by this addressing mode.
+     * @param cpu {@link Cpu} to perform addressing on
      * @param isByteAddressing <code>true</code> to get byte value, <code>false</code> to get
      * word value
      * @param register register number (0-7)
      * @return value addressed by this addressing mode or Computer.BUS_ERROR in case
      * if no memory/device is mapped to addressed location
      */
-    int readAddressedValue(boolean isByteAddressing, int register);
+    int readAddressedValue(Cpu cpu, boolean isByteAddressing, int register);
 
     /**
      * Write value addressed by this addressing mode.
+     * @param cpu {@link Cpu} to perform addressing on
      * @param isByteAddressing <code>true</code> to write byte value, <code>false</code> to write
      * word value
      * @param register register number (0-7)
@@ -71,5 +78,5 @@ public interface AddressingMode {
      * @return <code>true</code> if value successfully written, <code>false</code> if
      * no memory/device is mapped to addressed location
      */
-    boolean writeAddressedValue(boolean isByteAddressing, int register, int value);
+    boolean writeAddressedValue(Cpu cpu, boolean isByteAddressing, int register, int value);
 }
@@ -28,22 +28,18 @@ public class AutodecrementAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 4;
 
-    public AutodecrementAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public void preAddressingAction(boolean isByteAddressing, int register) {
+    public void preAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         cpu.decrementRegister(isByteAddressing, register);
     }
 
     @Override
-    public int getAddress(int register) {
+    public int getAddress(Cpu cpu, int register) {
         return cpu.readRegister(false, register);
     }
 
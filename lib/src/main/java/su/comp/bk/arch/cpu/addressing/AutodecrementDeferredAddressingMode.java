@@ -28,22 +28,18 @@ public class AutodecrementDeferredAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 5;
 
-    public AutodecrementDeferredAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public void preAddressingAction(boolean isByteAddressing, int register) {
+    public void preAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         cpu.decrementRegister(false, register);
     }
 
     @Override
-    public int getAddress(int register) {
+    public int getAddress(Cpu cpu, int register) {
         int address = cpu.readRegister(false, register);
         return cpu.readMemory(false, address);
     }
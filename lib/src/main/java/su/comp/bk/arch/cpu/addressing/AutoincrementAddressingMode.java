@@ -28,22 +28,27 @@ public class AutoincrementAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 2;
 
-    public AutoincrementAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public void postAddressingAction(boolean isByteAddressing, int register) {
+    public void postAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         cpu.incrementRegister(isByteAddressing, register);
     }
 
     @Override
-    public int getAddress(int register) {
+    public int readAddressedValue(Cpu cpu, boolean isByteAddressing, int register) {
+        if (register == Cpu.PC) {
+            // Immediate operand (code 27) is read from the instruction stream
+            return cpu.readInstructionStream(isByteAddressing, cpu.readRegister(false, Cpu.PC));
+        }
+        return super.readAddressedValue(cpu, isByteAddressing, register);
+    }
+
+    @Override
+    public int getAddress(Cpu cpu, int register) {
         return cpu.readRegister(false, register);
     }
 
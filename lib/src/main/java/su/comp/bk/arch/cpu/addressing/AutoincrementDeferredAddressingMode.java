@@ -28,24 +28,22 @@ public class AutoincrementDeferredAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 3;
 
-    public AutoincrementDeferredAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public void postAddressingAction(boolean isByteAddressing, int register) {
+    public void postAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         cpu.incrementRegister(false, register);
     }
 
     @Override
-    public int getAddress(int register) {
+    public int getAddress(Cpu cpu, int register) {
         int address = cpu.readRegister(false, register);
-        return cpu.readMemory(false, address);
+        // Absolute address (code 37) is read from the instruction stream
+        return (register == Cpu.PC) ? cpu.readInstructionStream(false, address)
+                : cpu.readMemory(false, address);
     }
 
 }
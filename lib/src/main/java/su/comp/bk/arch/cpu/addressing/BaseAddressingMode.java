@@ -26,23 +26,17 @@ import su.comp.bk.arch.cpu.Cpu;
  */
 public abstract class BaseAddressingMode implements AddressingMode {
 
-    protected final Cpu cpu;
-
-    public BaseAddressingMode(Cpu cpu) {
-        this.cpu = cpu;
-    }
-
     @Override
-    public int readAddressedValue(boolean isByteAddressing, int register) {
-        int address = getAddress(register);
+    public int readAddressedValue(Cpu cpu, boolean isByteAddressing, int register) {
+        int address = getAddress(cpu, register);
         return (address != Computer.BUS_ERROR) ? cpu.readMemory(isByteAddressing, address)
                 : Computer.BUS_ERROR;
     }
 
     @Override
-    public boolean writeAddressedValue(boolean isByteAddressing, int register, int value) {
+    public boolean writeAddressedValue(Cpu cpu, boolean isByteAddressing, int register, int value) {
         boolean isWritten = false;
-        int address = getAddress(register);
+        int address = getAddress(cpu, register);
         if (address != Computer.BUS_ERROR) {
             isWritten = cpu.writeMemory(isByteAddressing, address, value);
         }
@@ -50,12 +44,12 @@ public abstract class BaseAddressingMode implements AddressingMode {
     }
 
     @Override
-    public void preAddressingAction(boolean isByteAddressing, int register) {
+    public void preAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         // Do nothing
     }
 
     @Override
-    public void postAddressingAction(boolean isByteAddressing, int register) {
+    public void postAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         // Do nothing
     }
 
@@ -29,27 +29,23 @@ public class IndexDeferredAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 7;
 
-    public IndexDeferredAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public void postAddressingAction(boolean isByteAddressing, int register) {
+    public void postAddressingAction(Cpu cpu, boolean isByteAddressing, int register) {
         cpu.incrementRegister(false, Cpu.PC);
     }
 
     @Override
-    public int getAddress(int register) {
+    public int getAddress(Cpu cpu, int register) {
         int address = Computer.BUS_ERROR;
         // Read address of X
         int indexAddress = cpu.readRegister(false, Cpu.PC);
         // Read value of X
-        int indexValue = cpu.readMemory(false, indexAddress);
+        int indexValue = cpu.readInstructionStream(false, indexAddress);
         if (indexValue != Computer.BUS_ERROR) {
             // Read value of register
             int registerValue = cpu.readRegister(false, register);
@@ -29,28 +29,24 @@ public class RegisterAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 0;
 
-    public RegisterAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public int readAddressedValue(boolean isByteAddressing, int register) {
+    public int readAddressedValue(Cpu cpu, boolean isByteAddressing, int register) {
         return cpu.readRegister(isByteAddressing, register);
     }
 
     @Override
-    public boolean writeAddressedValue(boolean isByteAddressing, int register, int value) {
+    public boolean writeAddressedValue(Cpu cpu, boolean isByteAddressing, int register, int value) {
         cpu.writeRegister(isByteAddressing, register, value);
         return true;
     }
 
     @Override
-    public int getAddress(int register) {
+    public int getAddress(Cpu cpu, int register) {
         // No address for register addressing mode
         cpu.setBusError();
         return Computer.BUS_ERROR;
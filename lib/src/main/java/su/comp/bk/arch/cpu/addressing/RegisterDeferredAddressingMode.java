@@ -28,17 +28,13 @@ public class RegisterDeferredAddressingMode extends BaseAddressingMode {
 
     public final static int CODE = 1;
 
-    public RegisterDeferredAddressingMode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getCode() {
         return CODE;
     }
 
     @Override
-    public int getAddress(int register) {
+    public int getAddress(Cpu cpu, int register) {
         return cpu.readRegister(false, register);
     }
 
@@ -29,20 +29,15 @@ public class AdcOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05500;
 
-    public AdcOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             boolean carryFlag = cpu.isPswFlagSet(Cpu.PSW_FLAG_C);
@@ -54,7 +49,7 @@ public class AdcOpcode extends SingleOperandOpcode {
             cpu.setPswFlagV(carryFlag && data == (isByteMode ? Byte.MIN_VALUE & 0377
                     : Short.MIN_VALUE & 0177777));
             cpu.setPswFlagC(carryFlag && cpu.isPswFlagSet(Cpu.PSW_FLAG_Z));
-            singleOperandAddressingMode.writeAddressedValue(isByteMode,
+            singleOperandAddressingMode.writeAddressedValue(cpu, isByteMode,
                     singleOperandRegister, data);
         }
     }
@@ -29,20 +29,15 @@ public class AslOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 06300;
 
-    public AslOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             boolean carryFlag = (data & (isByteMode ? 0200 : 0100000)) != 0;
@@ -51,7 +46,7 @@ public class AslOpcode extends SingleOperandOpcode {
             cpu.setPswFlagN(isByteMode, data);
             cpu.setPswFlagC(carryFlag);
             cpu.setPswFlagV(carryFlag != cpu.isPswFlagSet(Cpu.PSW_FLAG_N));
-            singleOperandAddressingMode.writeAddressedValue(isByteMode,
+            singleOperandAddressingMode.writeAddressedValue(cpu, isByteMode,
                     singleOperandRegister, data);
         }
     }
@@ -19,6 +19,12 @@
 package su.comp.bk.arch.cpu.opcode;
 
 import su.comp.bk.arch.cpu.Cpu;
+import su.comp.bk.arch.cpu.addressing.AutodecrementAddressingMode;
+import su.comp.bk.arch.cpu.addressing.AutodecrementDeferredAddressingMode;
+import su.comp.bk.arch.cpu.addressing.AutoincrementAddressingMode;
+import su.comp.bk.arch.cpu.addressing.AutoincrementDeferredAddressingMode;
+import su.comp.bk.arch.cpu.addressing.IndexAddressingMode;
+import su.comp.bk.arch.cpu.addressing.RegisterAddressingMode;
 
 /**
  * Operation code base class.
@@ -37,14 +43,8 @@ public abstract class BaseOpcode implements Opcode {
     // Addressing times for unchanged destination operand by addressing code
     private static final int[] ADDRESSING_TIME_A2 = { 0, 20, 20, 28, 20, 28, 28, 36 };
 
-    private final Cpu cpu;
-
     private int instruction;
 
-    public BaseOpcode(Cpu cpu) {
-        this.cpu = cpu;
-    }
-
     /**
      * Check is this instruction uses byte-mode operation.
      * @return <code>true</code> if this instruction uses byte-mode operation,
@@ -54,11 +54,7 @@ public abstract class BaseOpcode implements Opcode {
         return (instruction & BYTE_OPERATION_FLAG) != 0;
     }
 
-    protected Cpu getCpu() {
-        return cpu;
-    }
-
-    protected int getInstruction() {
+    public int getInstruction() {
         return instruction;
     }
 
@@ -82,6 +78,81 @@ public abstract class BaseOpcode implements Opcode {
         return ADDRESSING_TIME_A2[addressingModeCode];
     }
 
+    /**
+     * Get number of index/immediate words used by operand with given addressing mode
+     * and register.
+     * @param addressingModeCode operand addressing mode code
+     * @param register operand register
+     * @return number of words following the instruction word used by the operand
+     */
+    protected static int getOperandLength(int addressingModeCode, int register) {
+        return (addressingModeCode >= IndexAddressingMode.CODE || (register == Cpu.PC
+                && (addressingModeCode == AutoincrementAddressingMode.CODE
+                    || addressingModeCode == AutoincrementDeferredAddressingMode.CODE)))
+                ? 1 : 0;
+    }
+
+    /**
+     * Check operand with given addressing mode and register is PC register.
+     * @param addressingModeCode operand addressing mode code
+     * @param register operand register
+     * @return <code>true</code> if operand is PC register, <code>false</code> otherwise
+     */
+    protected static boolean isProgramCounterOperand(int addressingModeCode, int register) {
+        return addressingModeCode == RegisterAddressingMode.CODE && register == Cpu.PC;
+    }
+
+    /**
+     * Check operand with given addressing mode and register is PC register autodecrement,
+     * so PC register is moved back and the next executed instruction is not the
+     * following one.
+     * @param addressingModeCode operand addressing mode code
+     * @param register operand register
+     * @return <code>true</code> if operand is PC register autodecrement,
+     * <code>false</code> otherwise
+     */
+    protected static boolean isProgramCounterAutodecrementOperand(int addressingModeCode,
+                                                                  int register) {
+        return register == Cpu.PC && (addressingModeCode == AutodecrementAddressingMode.CODE
+                || addressingModeCode == AutodecrementDeferredAddressingMode.CODE);
+    }
+
+    /**
+     * Check operand with given addressing mode and register is read without registers
+     * change (except of PC register advancing to the operand index/immediate word).
+     * @param addressingModeCode operand addressing mode code
+     * @param register operand register
+     * @return <code>true</code> if operand is read without registers change,
+     * <code>false</code> otherwise
+     */
+    protected static boolean isSideEffectFreeOperand(int addressingModeCode, int register) {
+        switch (addressingModeCode) {
+            case AutoincrementAddressingMode.CODE:
+            case AutoincrementDeferredAddressingMode.CODE:
+                return register == Cpu.PC;
+            case AutodecrementAddressingMode.CODE:
+            case AutodecrementDeferredAddressingMode.CODE:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public int getLength() {
+        return 1;
+    }
+
+    @Override
+    public boolean isFlowControl() {
+        return false;
+    }
+
+    @Override
+    public boolean isSideEffectFree() {
+        return false;
+    }
+
     @Override
     public void decode(int instructionToDecode) {
         this.instruction = instructionToDecode;
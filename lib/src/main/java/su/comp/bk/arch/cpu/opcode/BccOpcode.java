@@ -27,10 +27,6 @@ public class BccOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0103000;
 
-    public BccOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -27,10 +27,6 @@ public class BcsOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0103400;
 
-    public BcsOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
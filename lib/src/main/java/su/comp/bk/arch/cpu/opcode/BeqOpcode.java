@@ -27,10 +27,6 @@ public class BeqOpcode extends BranchOpcode {
 
     public final static int OPCODE = 01400;
 
-    public BeqOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
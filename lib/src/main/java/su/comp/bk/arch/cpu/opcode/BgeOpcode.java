@@ -27,10 +27,6 @@ public class BgeOpcode extends BranchOpcode {
 
     public final static int OPCODE = 02000;
 
-    public BgeOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
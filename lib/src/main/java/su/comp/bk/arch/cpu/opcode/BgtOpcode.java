@@ -27,10 +27,6 @@ public class BgtOpcode extends BranchOpcode {
 
     public final static int OPCODE = 03000;
 
-    public BgtOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
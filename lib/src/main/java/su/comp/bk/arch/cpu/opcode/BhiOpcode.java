@@ -27,10 +27,6 @@ public class BhiOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0101000;
 
-    public BhiOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
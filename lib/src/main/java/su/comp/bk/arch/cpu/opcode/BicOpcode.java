@@ -29,40 +29,34 @@ public class BicOpcode extends DoubleOperandOpcode {
 
     public final static int OPCODE = 040000;
 
-    public BicOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    public void execute() {
+    public void execute(Cpu cpu) {
         boolean isByteMode = isByteModeOperation();
         AddressingMode srcMode = getSrcOperandAddressingMode();
         int srcRegister = getSrcOperandRegister();
         // Read source value
-        srcMode.preAddressingAction(isByteMode, srcRegister);
-        int srcValue = srcMode.readAddressedValue(isByteMode, srcRegister);
-        srcMode.postAddressingAction(isByteMode, srcRegister);
+        srcMode.preAddressingAction(cpu, isByteMode, srcRegister);
+        int srcValue = srcMode.readAddressedValue(cpu, isByteMode, srcRegister);
+        srcMode.postAddressingAction(cpu, isByteMode, srcRegister);
         if (srcValue != Computer.BUS_ERROR) {
             // Read destination value
             AddressingMode destMode = getDestOperandAddressingMode();
             int destRegister = getDestOperandRegister();
-            destMode.preAddressingAction(isByteMode, destRegister);
-            int destValue = destMode.readAddressedValue(isByteMode, destRegister);
+            destMode.preAddressingAction(cpu, isByteMode, destRegister);
+            int destValue = destMode.readAddressedValue(cpu, isByteMode, destRegister);
             if (destValue != Computer.BUS_ERROR) {
                 int resultValue = ~srcValue & destValue;
                 // Set flags
-                Cpu cpu = getCpu();
-                cpu.setPswFlagN(isByteMode, resultValue);
-                cpu.setPswFlagZ(isByteMode, resultValue);
-                cpu.clearPswFlagV();
+                cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_LOGICAL, isByteMode,
+                        0, 0, resultValue);
                 // Write result to destination
-                destMode.writeAddressedValue(isByteMode, destRegister, resultValue);
-                destMode.postAddressingAction(isByteMode, destRegister);
+                destMode.writeAddressedValue(cpu, isByteMode, destRegister, resultValue);
+                destMode.postAddressingAction(cpu, isByteMode, destRegister);
             }
         }
     }
@@ -27,10 +27,6 @@ public class BleOpcode extends BranchOpcode {
 
     public final static int OPCODE = 03400;
 
-    public BleOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
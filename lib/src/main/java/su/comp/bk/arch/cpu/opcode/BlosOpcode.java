@@ -27,10 +27,6 @@ public class BlosOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0101400;
 
-    public BlosOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
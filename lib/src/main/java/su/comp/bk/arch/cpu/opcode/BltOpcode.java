@@ -27,10 +27,6 @@ public class BltOpcode extends BranchOpcode {
 
     public final static int OPCODE = 02400;
 
-    public BltOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
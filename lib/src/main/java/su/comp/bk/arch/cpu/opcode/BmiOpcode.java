@@ -27,10 +27,6 @@ public class BmiOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0100400;
 
-    public BmiOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
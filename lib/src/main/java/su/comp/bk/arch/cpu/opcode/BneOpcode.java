@@ -27,10 +27,6 @@ public class BneOpcode extends BranchOpcode {
 
     public final static int OPCODE = 01000;
 
-    public BneOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
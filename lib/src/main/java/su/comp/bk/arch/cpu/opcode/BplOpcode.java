@@ -27,10 +27,6 @@ public class BplOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0100000;
 
-    public BplOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
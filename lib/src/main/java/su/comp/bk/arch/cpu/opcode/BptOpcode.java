@@ -27,10 +27,6 @@ public class BptOpcode extends SoftwareTrapOpcode {
 
     public final static int OPCODE = 3;
 
-    public BptOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
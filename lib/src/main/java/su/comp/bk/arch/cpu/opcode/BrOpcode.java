@@ -18,8 +18,6 @@
  */
 package su.comp.bk.arch.cpu.opcode;
 
-import su.comp.bk.arch.cpu.Cpu;
-
 /**
  * Branch unconditionally opcode.
  */
@@ -27,10 +25,6 @@ public class BrOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0400;
 
-    public BrOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -28,8 +28,9 @@ public abstract class BranchOpcode extends BaseOpcode {
     // Branch instructions execution time (in CPU ticks)
     private static final int EXECUTION_TIME = 16;
 
-    public BranchOpcode(Cpu cpu) {
-        super(cpu);
+    @Override
+    public boolean isFlowControl() {
+        return true;
     }
 
     @Override
@@ -37,13 +38,19 @@ public abstract class BranchOpcode extends BaseOpcode {
         return EXECUTION_TIME;
     }
 
+    /**
+     * Get decoded branch offset.
+     * @return branch offset relative to the address of the next instruction (in bytes)
+     */
+    public int getBranchOffset() {
+        return (byte) getInstruction() * 2;
+    }
+
     @Override
-    public void execute() {
-        Cpu cpu = getCpu();
+    public void execute(Cpu cpu) {
         if (isBranchCondition(cpu.getPswState())) {
             int pc = cpu.readRegister(false, Cpu.PC);
-            int offset = (byte) getInstruction() * 2;
-            cpu.writeRegister(false, Cpu.PC, pc + offset);
+            cpu.writeRegister(false, Cpu.PC, pc + getBranchOffset());
         }
     }
 
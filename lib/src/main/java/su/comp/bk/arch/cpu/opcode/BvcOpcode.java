@@ -27,10 +27,6 @@ public class BvcOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0102000;
 
-    public BvcOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
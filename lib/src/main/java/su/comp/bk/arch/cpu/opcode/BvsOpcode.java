@@ -27,10 +27,6 @@ public class BvsOpcode extends BranchOpcode {
 
     public final static int OPCODE = 0102400;
 
-    public BvsOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
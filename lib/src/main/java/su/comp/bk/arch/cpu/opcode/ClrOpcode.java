@@ -28,22 +28,16 @@ public class ClrOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05000;
 
-    public ClrOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int operandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int operandRegister,
             AddressingMode operandAddressingMode) {
-        Cpu cpu = getCpu();
-        cpu.clearPswFlags();
-        cpu.setPswFlagZ();
-        operandAddressingMode.writeAddressedValue(isByteMode, operandRegister, 0);
+        cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_TEST, isByteMode, 0, 0, 0);
+        operandAddressingMode.writeAddressedValue(cpu, isByteMode, operandRegister, 0);
     }
 
 }
@@ -30,10 +30,6 @@ public class CmpOpcode extends DoubleOperandOpcode {
 
     public final static int OPCODE = 020000;
 
-    public CmpOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -49,30 +45,34 @@ public class CmpOpcode extends DoubleOperandOpcode {
     }
 
     @Override
-    public void execute() {
+    public boolean isSideEffectFree() {
+        return isSideEffectFreeOperand(getSrcOperandAddressingMode().getCode(),
+                getSrcOperandRegister())
+                && isSideEffectFreeOperand(getDestOperandAddressingMode().getCode(),
+                getDestOperandRegister());
+    }
+
+    @Override
+    public void execute(Cpu cpu) {
         boolean isByteMode = isByteModeOperation();
         AddressingMode srcMode = getSrcOperandAddressingMode();
         int srcRegister = getSrcOperandRegister();
         // Read source value
-        srcMode.preAddressingAction(isByteMode, srcRegister);
-        int srcValue = srcMode.readAddressedValue(isByteMode, srcRegister);
-        srcMode.postAddressingAction(isByteMode, srcRegister);
+        srcMode.preAddressingAction(cpu, isByteMode, srcRegister);
+        int srcValue = srcMode.readAddressedValue(cpu, isByteMode, srcRegister);
+        srcMode.postAddressingAction(cpu, isByteMode, srcRegister);
         if (srcValue != Computer.BUS_ERROR) {
             // Read destination value
             AddressingMode destMode = getDestOperandAddressingMode();
             int destRegister = getDestOperandRegister();
-            destMode.preAddressingAction(isByteMode, destRegister);
-            int destValue = destMode.readAddressedValue(isByteMode, destRegister);
-            destMode.postAddressingAction(isByteMode, destRegister);
+            destMode.preAddressingAction(cpu, isByteMode, destRegister);
+            int destValue = destMode.readAddressedValue(cpu, isByteMode, destRegister);
+            destMode.postAddressingAction(cpu, isByteMode, destRegister);
             if (destValue != Computer.BUS_ERROR) {
                 int resultValue = srcValue - destValue;
                 // Set flags
-                Cpu cpu = getCpu();
-                cpu.setPswFlagN(isByteMode, resultValue);
-                cpu.setPswFlagZ(isByteMode, resultValue);
-                cpu.setPswFlagV((((srcValue ^ destValue) & (~destValue ^ resultValue))
-                        & (isByteMode ? 0200 : 0100000)) != 0);
-                cpu.setPswFlagC((resultValue & (isByteMode ? ~0377 : ~0177777)) != 0);
+                cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_SUB, isByteMode,
+                        srcValue, destValue, resultValue);
             }
         }
     }
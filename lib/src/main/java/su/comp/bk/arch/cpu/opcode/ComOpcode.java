@@ -29,20 +29,15 @@ public class ComOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05100;
 
-    public ComOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             data = ~data;
@@ -50,7 +45,7 @@ public class ComOpcode extends SingleOperandOpcode {
             cpu.clearPswFlagV();
             cpu.setPswFlagZ(isByteMode, data);
             cpu.setPswFlagN(isByteMode, data);
-            singleOperandAddressingMode.writeAddressedValue(isByteMode,
+            singleOperandAddressingMode.writeAddressedValue(cpu, isByteMode,
                     singleOperandRegister, data);
         }
     }
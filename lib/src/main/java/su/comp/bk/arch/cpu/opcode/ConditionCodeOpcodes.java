@@ -61,10 +61,6 @@ public class ConditionCodeOpcodes extends ZeroOperandOpcode {
     public final static int OPCODE_SENZV = 0276;
     public final static int OPCODE_SCC = 0277;
 
-    public ConditionCodeOpcodes(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return getInstruction();
@@ -76,12 +72,12 @@ public class ConditionCodeOpcodes extends ZeroOperandOpcode {
     }
 
     @Override
-    public void execute() {
+    public void execute(Cpu cpu) {
         int instruction = getInstruction();
-        int psw = getCpu().getPswState();
+        int psw = cpu.getPswState();
         int conditionMask = instruction & 017;
         psw = (instruction & 020) != 0 ? (psw | conditionMask) : (psw & ~conditionMask);
-        getCpu().setPswState((short) psw);
+        cpu.setPswState((short) psw);
     }
 
 }
@@ -33,16 +33,12 @@ public abstract class DoubleOperandOpcode extends BaseOpcode {
     private int destOperandRegister;
     private AddressingMode destOperandAddressingMode;
 
-    public DoubleOperandOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     private void decodeSrcOperandRegister() {
         this.srcOperandRegister = (getInstruction() >> 6) & 7;
     }
 
     private void decodeSrcOperandAddressingMode() {
-        this.srcOperandAddressingMode = getCpu().getAddressingMode(getInstruction() >> 9);
+        this.srcOperandAddressingMode = Cpu.getAddressingMode(getInstruction() >> 9);
     }
 
     private void decodeDestOperandRegister() {
@@ -50,7 +46,7 @@ public abstract class DoubleOperandOpcode extends BaseOpcode {
     }
 
     private void decodeDestOperandAddressingMode() {
-        this.destOperandAddressingMode = getCpu().getAddressingMode(getInstruction() >> 3);
+        this.destOperandAddressingMode = Cpu.getAddressingMode(getInstruction() >> 3);
     }
 
     protected int getSrcOperandRegister() {
@@ -78,6 +74,21 @@ public abstract class DoubleOperandOpcode extends BaseOpcode {
         decodeDestOperandAddressingMode();
     }
 
+    @Override
+    public int getLength() {
+        return 1 + getOperandLength(srcOperandAddressingMode.getCode(), srcOperandRegister)
+                + getOperandLength(destOperandAddressingMode.getCode(), destOperandRegister);
+    }
+
+    @Override
+    public boolean isFlowControl() {
+        int srcAddrCode = srcOperandAddressingMode.getCode();
+        int destAddrCode = destOperandAddressingMode.getCode();
+        return isProgramCounterOperand(destAddrCode, destOperandRegister)
+                || isProgramCounterAutodecrementOperand(destAddrCode, destOperandRegister)
+                || isProgramCounterAutodecrementOperand(srcAddrCode, srcOperandRegister);
+    }
+
     @Override
     public int getExecutionTime() {
         int srcAddrCode = srcOperandAddressingMode.getCode();
@@ -27,10 +27,6 @@ public class EmtOpcode extends SoftwareTrapOpcode {
 
     public final static int OPCODE = 0104000;
 
-    public EmtOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
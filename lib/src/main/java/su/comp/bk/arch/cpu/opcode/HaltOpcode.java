@@ -29,23 +29,24 @@ public class HaltOpcode extends BaseOpcode {
 
     private static final int EXECUTION_TIME = 144;
 
-    public HaltOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
     }
 
     @Override
-    public void execute() {
-        getCpu().enterHaltMode();
+    public void execute(Cpu cpu) {
+        cpu.enterHaltMode();
     }
 
 }
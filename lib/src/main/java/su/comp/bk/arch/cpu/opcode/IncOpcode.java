@@ -29,28 +29,20 @@ public class IncOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05200;
 
-    public IncOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             data += 1;
-            cpu.setPswFlagZ(isByteMode, data);
-            cpu.setPswFlagN(isByteMode, data);
-            cpu.setPswFlagV(data == (isByteMode ? Byte.MIN_VALUE & 0377
-                    : Short.MIN_VALUE & 0177777));
-            singleOperandAddressingMode.writeAddressedValue(isByteMode,
+            cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_INC, isByteMode, 0, 0, data);
+            singleOperandAddressingMode.writeAddressedValue(cpu, isByteMode,
                     singleOperandRegister, data);
         }
     }
@@ -27,10 +27,6 @@ public class IotOpcode extends SoftwareTrapOpcode {
 
     public final static int OPCODE = 4;
 
-    public IotOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -32,10 +32,6 @@ public class JmpOpcode extends BaseOpcode {
     private int addressingRegister;
     private AddressingMode addressingMode;
 
-    public JmpOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -46,7 +42,7 @@ public class JmpOpcode extends BaseOpcode {
     }
 
     private void decodeAddressingMode() {
-        this.addressingMode = getCpu().getAddressingMode(getInstruction() >> 3);
+        this.addressingMode = Cpu.getAddressingMode(getInstruction() >> 3);
     }
 
     @Override
@@ -56,18 +52,28 @@ public class JmpOpcode extends BaseOpcode {
         decodeAddressingMode();
     }
 
+    @Override
+    public int getLength() {
+        return 1 + getOperandLength(addressingMode.getCode(), addressingRegister);
+    }
+
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return getBaseExecutionTime() + getAddressingTimeA2(addressingMode.getCode());
     }
 
     @Override
-    public void execute() {
-        addressingMode.preAddressingAction(false, addressingRegister);
-        int jumpAddress = addressingMode.getAddress(addressingRegister);
-        addressingMode.postAddressingAction(false, addressingRegister);
+    public void execute(Cpu cpu) {
+        addressingMode.preAddressingAction(cpu, false, addressingRegister);
+        int jumpAddress = addressingMode.getAddress(cpu, addressingRegister);
+        addressingMode.postAddressingAction(cpu, false, addressingRegister);
         if (jumpAddress != Computer.BUS_ERROR) {
-            getCpu().writeRegister(false, Cpu.PC, jumpAddress);
+            cpu.writeRegister(false, Cpu.PC, jumpAddress);
         }
     }
 
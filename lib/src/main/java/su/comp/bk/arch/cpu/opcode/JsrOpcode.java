@@ -35,10 +35,6 @@ public class JsrOpcode extends BaseOpcode {
     private int addressingRegister;
     private AddressingMode addressingMode;
 
-    public JsrOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -53,7 +49,7 @@ public class JsrOpcode extends BaseOpcode {
     }
 
     private void decodeAddressingMode() {
-        this.addressingMode = getCpu().getAddressingMode(getInstruction() >> 3);
+        this.addressingMode = Cpu.getAddressingMode(getInstruction() >> 3);
     }
 
     @Override
@@ -64,18 +60,27 @@ public class JsrOpcode extends BaseOpcode {
         decodeLinkageRegister();
     }
 
+    @Override
+    public int getLength() {
+        return 1 + getOperandLength(addressingMode.getCode(), addressingRegister);
+    }
+
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return getBaseExecutionTime() + ADDRESSING_TIME[addressingMode.getCode()];
     }
 
     @Override
-    public void execute() {
-        addressingMode.preAddressingAction(false, addressingRegister);
-        int subroutineAddress = addressingMode.getAddress(addressingRegister);
-        addressingMode.postAddressingAction(false, addressingRegister);
+    public void execute(Cpu cpu) {
+        addressingMode.preAddressingAction(cpu, false, addressingRegister);
+        int subroutineAddress = addressingMode.getAddress(cpu, addressingRegister);
+        addressingMode.postAddressingAction(cpu, false, addressingRegister);
         if (subroutineAddress != Computer.BUS_ERROR) {
-            Cpu cpu = getCpu();
             // Push linkage register to stack
             if (cpu.push(cpu.readRegister(false, linkageRegister))) {
                 // Write PC value to linkage register
@@ -32,28 +32,28 @@ public class MarkOpcode extends BaseOpcode {
 
     private static final int EXECUTION_TIME = 36;
 
-    public MarkOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
     }
 
     @Override
-    public void execute() {
-        Cpu cpu = getCpu();
+    public void execute(Cpu cpu) {
         int n = getInstruction() & 077;
         cpu.writeRegister(false, Cpu.SP, cpu.readRegister(false, Cpu.PC) + (n << 1));
         cpu.writeRegister(false, Cpu.PC, cpu.readRegister(false, Cpu.R5));
-        AddressingMode autoincrementMode = cpu.getAddressingMode(AutoincrementAddressingMode.CODE);
-        autoincrementMode.preAddressingAction(false, Cpu.SP);
+        AddressingMode autoincrementMode = Cpu.getAddressingMode(AutoincrementAddressingMode.CODE);
+        autoincrementMode.preAddressingAction(cpu, false, Cpu.SP);
         int value = cpu.pop();
         if (value != Computer.BUS_ERROR) {
             cpu.writeRegister(false, Cpu.R5, value);
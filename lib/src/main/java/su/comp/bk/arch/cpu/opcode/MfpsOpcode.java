@@ -28,24 +28,19 @@ public class MfpsOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 0106700;
 
-    public MfpsOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
         int psw = (byte) cpu.getPswState();
         cpu.clearPswFlagV();
         cpu.setPswFlagN(true, psw);
         cpu.setPswFlagZ(true, psw);
-        singleOperandAddressingMode.writeAddressedValue(true, singleOperandRegister, psw);
+        singleOperandAddressingMode.writeAddressedValue(cpu, true, singleOperandRegister, psw);
     }
 
 }
@@ -30,43 +30,36 @@ public class MovOpcode extends DoubleOperandOpcode {
 
     public final static int OPCODE = 010000;
 
-    public MovOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    public void execute() {
+    public void execute(Cpu cpu) {
         boolean isByteMode = isByteModeOperation();
         AddressingMode srcMode = getSrcOperandAddressingMode();
         int srcRegister = getSrcOperandRegister();
         // Read source value (byte or word)
-        srcMode.preAddressingAction(isByteMode, srcRegister);
-        int srcValue = srcMode.readAddressedValue(isByteMode, srcRegister);
-        srcMode.postAddressingAction(isByteMode, srcRegister);
+        srcMode.preAddressingAction(cpu, isByteMode, srcRegister);
+        int srcValue = srcMode.readAddressedValue(cpu, isByteMode, srcRegister);
+        srcMode.postAddressingAction(cpu, isByteMode, srcRegister);
         if (srcValue != Computer.BUS_ERROR) {
             // Set flags
-            Cpu cpu = getCpu();
-            cpu.setPswFlagN(isByteMode, srcValue);
-            cpu.setPswFlagZ(isByteMode, srcValue);
-            cpu.clearPswFlagV();
+            cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_LOGICAL, isByteMode, 0, 0, srcValue);
             // Copy source value to destination
             AddressingMode destMode = getDestOperandAddressingMode();
             int destRegister = getDestOperandRegister();
-            destMode.preAddressingAction(isByteMode, destRegister);
+            destMode.preAddressingAction(cpu, isByteMode, destRegister);
             if (isByteModeOperation() && getDestOperandAddressingMode().getCode() ==
                     RegisterAddressingMode.CODE) {
                 // Sign extension in case of byte operation with register destination
-                destMode.writeAddressedValue(false, destRegister, (byte) srcValue);
+                destMode.writeAddressedValue(cpu, false, destRegister, (byte) srcValue);
             } else {
                 // Word operation or destination is not register
-                destMode.writeAddressedValue(isByteMode, destRegister, srcValue);
+                destMode.writeAddressedValue(cpu, isByteMode, destRegister, srcValue);
             }
-            destMode.postAddressingAction(isByteMode, destRegister);
+            destMode.postAddressingAction(cpu, isByteMode, destRegister);
         }
     }
 
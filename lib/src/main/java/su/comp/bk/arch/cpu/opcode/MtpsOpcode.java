@@ -29,20 +29,15 @@ public class MtpsOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 0106400;
 
-    public MtpsOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(true,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, true,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             int psw = cpu.getPswState();
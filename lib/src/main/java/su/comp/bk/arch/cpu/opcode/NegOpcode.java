@@ -29,20 +29,15 @@ public class NegOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05400;
 
-    public NegOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             data = isByteMode ? -(byte) data & 0377 : -(short) data & 0177777;
@@ -51,7 +46,7 @@ public class NegOpcode extends SingleOperandOpcode {
             cpu.setPswFlagV(data == (isByteMode ? Byte.MIN_VALUE & 0377
                     : Short.MIN_VALUE & 0177777));
             cpu.setPswFlagC(!cpu.isPswFlagSet(Cpu.PSW_FLAG_Z));
-            singleOperandAddressingMode.writeAddressedValue(isByteMode,
+            singleOperandAddressingMode.writeAddressedValue(cpu, isByteMode,
                     singleOperandRegister, data);
         }
     }
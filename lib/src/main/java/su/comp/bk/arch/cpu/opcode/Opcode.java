@@ -18,6 +18,8 @@
  */
 package su.comp.bk.arch.cpu.opcode;
 
+import su.comp.bk.arch.cpu.Cpu;
+
 /**
  * PDP-11 operation code interface.
  */
@@ -33,7 +35,8 @@ public interface Opcode {
     int getOpcode();
 
     /**
-     * Decode instruction.
+     * Decode instruction. Called once for each instruction code while building
+     * the CPU opcodes table, decoded state is never changed after that.
      * @param instruction instruction word to decode
      */
     void decode(int instruction);
@@ -44,9 +47,33 @@ public interface Opcode {
      */
     int getExecutionTime();
 
+    /**
+     * Get decoded instruction length (instruction word and operand index/immediate words).
+     * @return decoded instruction length (in words)
+     */
+    int getLength();
+
+    /**
+     * Check decoded instruction is flow control instruction, i.e. it can pass control
+     * to other than the next instruction (branches, jumps, traps, writes to PC register,
+     * etc) or change CPU execution mode (HALT, WAIT, RESET).
+     * @return <code>true</code> if decoded instruction is flow control instruction,
+     * <code>false</code> otherwise
+     */
+    boolean isFlowControl();
+
+    /**
+     * Check decoded instruction has no side effects except condition codes update, i.e.
+     * it only reads its operands and doesn't change registers, memory or devices state.
+     * @return <code>true</code> if decoded instruction has no side effects,
+     * <code>false</code> otherwise
+     */
+    boolean isSideEffectFree();
+
     /**
      * Execute decoded instruction.
+     * @param cpu {@link Cpu} to execute instruction on
      */
-    void execute();
+    void execute(Cpu cpu);
 
 }
@@ -29,23 +29,24 @@ public class ResetOpcode extends BaseOpcode {
 
     private static final int EXECUTION_TIME = 1160;
 
-    public ResetOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
     }
 
     @Override
-    public void execute() {
-        getCpu().initDevices(false);
+    public void execute(Cpu cpu) {
+        cpu.initDevices(false);
     }
 
 }
@@ -32,15 +32,16 @@ public class RtsOpcode extends BaseOpcode {
 
     private int linkageRegister;
 
-    public RtsOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
@@ -57,8 +58,7 @@ public class RtsOpcode extends BaseOpcode {
     }
 
     @Override
-    public void execute() {
-        Cpu cpu = getCpu();
+    public void execute(Cpu cpu) {
         // Write linkage register value to PC
         cpu.writeRegister(false, Cpu.PC, cpu.readRegister(false, linkageRegister));
         // Pop linkage register value from stack
@@ -29,23 +29,24 @@ public class RttOpcode extends BaseOpcode {
 
     private static final int EXECUTION_TIME = 40;
 
-    public RttOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
     }
 
     @Override
-    public void execute() {
-        getCpu().returnFromTrap(true);
+    public void execute(Cpu cpu) {
+        cpu.returnFromTrap(true);
     }
 
 }
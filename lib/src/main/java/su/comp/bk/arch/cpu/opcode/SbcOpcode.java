@@ -29,20 +29,15 @@ public class SbcOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05600;
 
-    public SbcOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             boolean carryFlag = cpu.isPswFlagSet(Cpu.PSW_FLAG_C);
@@ -54,7 +49,7 @@ public class SbcOpcode extends SingleOperandOpcode {
             }
             cpu.setPswFlagZ(isByteMode, data);
             cpu.setPswFlagN(isByteMode, data);
-            singleOperandAddressingMode.writeAddressedValue(isByteMode,
+            singleOperandAddressingMode.writeAddressedValue(cpu, isByteMode,
                     singleOperandRegister, data);
         }
     }
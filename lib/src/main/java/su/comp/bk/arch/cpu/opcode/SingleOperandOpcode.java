@@ -29,16 +29,12 @@ public abstract class SingleOperandOpcode extends BaseOpcode {
     private int operandRegister;
     private AddressingMode operandAddressingMode;
 
-    public SingleOperandOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     private void decodeOperandRegister() {
         this.operandRegister = getInstruction() & 7;
     }
 
     private void decodeOperandAddressingMode() {
-        this.operandAddressingMode = getCpu().getAddressingMode(getInstruction() >> 3);
+        this.operandAddressingMode = Cpu.getAddressingMode(getInstruction() >> 3);
     }
 
     protected int getOperandRegister() {
@@ -56,20 +52,32 @@ public abstract class SingleOperandOpcode extends BaseOpcode {
         decodeOperandAddressingMode();
     }
 
+    @Override
+    public int getLength() {
+        return 1 + getOperandLength(operandAddressingMode.getCode(), operandRegister);
+    }
+
+    @Override
+    public boolean isFlowControl() {
+        int addrCode = operandAddressingMode.getCode();
+        return isProgramCounterOperand(addrCode, operandRegister)
+                || isProgramCounterAutodecrementOperand(addrCode, operandRegister);
+    }
+
     @Override
     public int getExecutionTime() {
         return getBaseExecutionTime() + getAddressingTimeAb(operandAddressingMode.getCode());
     }
 
     @Override
-    public void execute() {
+    public void execute(Cpu cpu) {
         boolean isByteModeOperation = isByteModeOperation();
-        operandAddressingMode.preAddressingAction(isByteModeOperation, operandRegister);
-        executeSingleOperand(isByteModeOperation(), operandRegister, operandAddressingMode);
-        operandAddressingMode.postAddressingAction(isByteModeOperation, operandRegister);
+        operandAddressingMode.preAddressingAction(cpu, isByteModeOperation, operandRegister);
+        executeSingleOperand(cpu, isByteModeOperation(), operandRegister, operandAddressingMode);
+        operandAddressingMode.postAddressingAction(cpu, isByteModeOperation, operandRegister);
     }
 
-    protected abstract void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected abstract void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode);
 
 }
@@ -32,15 +32,16 @@ public class SobOpcode extends BaseOpcode {
     private int branchOffset;
     private int subtractRegister;
 
-    public SobOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
@@ -54,8 +55,7 @@ public class SobOpcode extends BaseOpcode {
     }
 
     @Override
-    public void execute() {
-        Cpu cpu = getCpu();
+    public void execute(Cpu cpu) {
         int registerValue = cpu.readRegister(false, subtractRegister);
         registerValue -= 1;
         cpu.writeRegister(false, subtractRegister, registerValue);
@@ -28,8 +28,9 @@ public abstract class SoftwareTrapOpcode extends BaseOpcode {
     // Software trap instructions execution time (in CPU ticks)
     private static final int EXECUTION_TIME = 68;
 
-    public SoftwareTrapOpcode(Cpu cpu) {
-        super(cpu);
+    @Override
+    public boolean isFlowControl() {
+        return true;
     }
 
     @Override
@@ -38,8 +39,8 @@ public abstract class SoftwareTrapOpcode extends BaseOpcode {
     }
 
     @Override
-    public void execute() {
-        getCpu().processTrap(getTrapVectorAddress(), true);
+    public void execute(Cpu cpu) {
+        cpu.processTrap(getTrapVectorAddress(), true);
     }
 
     /**
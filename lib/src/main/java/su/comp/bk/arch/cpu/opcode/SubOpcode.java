@@ -29,41 +29,33 @@ public class SubOpcode extends DoubleOperandOpcode {
 
     public final static int OPCODE = 0160000;
 
-    public SubOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    public void execute() {
+    public void execute(Cpu cpu) {
         AddressingMode srcMode = getSrcOperandAddressingMode();
         int srcRegister = getSrcOperandRegister();
         // Read source value
-        srcMode.preAddressingAction(false, srcRegister);
-        int srcValue = srcMode.readAddressedValue(false, srcRegister);
-        srcMode.postAddressingAction(false, srcRegister);
+        srcMode.preAddressingAction(cpu, false, srcRegister);
+        int srcValue = srcMode.readAddressedValue(cpu, false, srcRegister);
+        srcMode.postAddressingAction(cpu, false, srcRegister);
         if (srcValue != Computer.BUS_ERROR) {
             // Read destination value
             AddressingMode destMode = getDestOperandAddressingMode();
             int destRegister = getDestOperandRegister();
-            destMode.preAddressingAction(false, destRegister);
-            int destValue = destMode.readAddressedValue(false, destRegister);
+            destMode.preAddressingAction(cpu, false, destRegister);
+            int destValue = destMode.readAddressedValue(cpu, false, destRegister);
             if (destValue != Computer.BUS_ERROR) {
                 int resultValue = destValue - srcValue;
                 // Set flags
-                Cpu cpu = getCpu();
-                cpu.setPswFlagN(false, resultValue);
-                cpu.setPswFlagZ(false, resultValue);
-                cpu.setPswFlagV((((srcValue ^ destValue) & (~srcValue ^ resultValue))
-                        & 0100000) != 0);
-                cpu.setPswFlagC((resultValue & ~0177777) != 0);
+                cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_SUB, false,
+                        destValue, srcValue, resultValue);
                 // Write result to destination
-                destMode.writeAddressedValue(false, destRegister, resultValue);
-                destMode.postAddressingAction(false, destRegister);
+                destMode.writeAddressedValue(cpu, false, destRegister, resultValue);
+                destMode.postAddressingAction(cpu, false, destRegister);
             }
         }
     }
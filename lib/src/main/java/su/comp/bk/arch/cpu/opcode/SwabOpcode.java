@@ -29,27 +29,22 @@ public class SwabOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 0300;
 
-    public SwabOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(false,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, false,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
             data = (data & 0377) << 8 | (data & 0177400) >> 8;
             cpu.clearPswFlags();
             cpu.setPswFlagN(true, data);
             cpu.setPswFlagZ(true, data);
-            singleOperandAddressingMode.writeAddressedValue(false,
+            singleOperandAddressingMode.writeAddressedValue(cpu, false,
                     singleOperandRegister, data);
         }
     }
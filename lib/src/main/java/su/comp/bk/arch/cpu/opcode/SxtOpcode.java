@@ -28,24 +28,19 @@ public class SxtOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 06700;
 
-    public SxtOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int operandRegister,
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int operandRegister,
             AddressingMode operandAddressingMode) {
-        Cpu cpu = getCpu();
         boolean negativeFlag = cpu.isPswFlagSet(Cpu.PSW_FLAG_N);
         cpu.setPswFlagZ(!negativeFlag);
         cpu.clearPswFlagV();
         int data = negativeFlag ? 0177777 : 0;
-        operandAddressingMode.writeAddressedValue(false, operandRegister, data);
+        operandAddressingMode.writeAddressedValue(cpu, false, operandRegister, data);
     }
 
 }
@@ -27,10 +27,6 @@ public class TrapOpcode extends SoftwareTrapOpcode {
 
     public final static int OPCODE = 0104400;
 
-    public TrapOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -29,10 +29,6 @@ public class TstOpcode extends SingleOperandOpcode {
 
     public final static int OPCODE = 05700;
 
-    public TstOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
@@ -45,15 +41,18 @@ public class TstOpcode extends SingleOperandOpcode {
     }
 
     @Override
-    protected void executeSingleOperand(boolean isByteMode, int singleOperandRegister,
+    public boolean isSideEffectFree() {
+        return isSideEffectFreeOperand(getOperandAddressingMode().getCode(),
+                getOperandRegister());
+    }
+
+    @Override
+    protected void executeSingleOperand(Cpu cpu, boolean isByteMode, int singleOperandRegister,
             AddressingMode singleOperandAddressingMode) {
-        Cpu cpu = getCpu();
-        int data = singleOperandAddressingMode.readAddressedValue(isByteMode,
+        int data = singleOperandAddressingMode.readAddressedValue(cpu, isByteMode,
                 singleOperandRegister);
         if (data != Computer.BUS_ERROR) {
-            cpu.clearPswFlags();
-            cpu.setPswFlagZ(isByteMode, data);
-            cpu.setPswFlagN(isByteMode, data);
+            cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_TEST, isByteMode, 0, 0, data);
         }
     }
 
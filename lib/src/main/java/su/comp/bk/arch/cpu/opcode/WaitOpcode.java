@@ -29,23 +29,24 @@ public class WaitOpcode extends BaseOpcode {
 
     private static final int EXECUTION_TIME = 144;
 
-    public WaitOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public boolean isFlowControl() {
+        return true;
+    }
+
     @Override
     public int getExecutionTime() {
         return EXECUTION_TIME;
     }
 
     @Override
-    public void execute() {
-        getCpu().setInterruptWaitMode();
+    public void execute(Cpu cpu) {
+        cpu.setInterruptWaitMode();
     }
 
 }
@@ -29,15 +29,18 @@ public class XorOpcode extends DoubleOperandOpcode {
 
     public final static int OPCODE = 074000;
 
-    public XorOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public int getOpcode() {
         return OPCODE;
     }
 
+    @Override
+    public int getLength() {
+        // Source operand is always register
+        return 1 + getOperandLength(getDestOperandAddressingMode().getCode(),
+                getDestOperandRegister());
+    }
+
     @Override
     public int getExecutionTime() {
         return getBaseExecutionTime() + getAddressingTimeA2(
@@ -45,25 +48,22 @@ public class XorOpcode extends DoubleOperandOpcode {
     }
 
     @Override
-    public void execute() {
-        Cpu cpu = getCpu();
+    public void execute(Cpu cpu) {
         // Read source value from register
         int srcRegister = getSrcOperandRegister();
         int srcValue = cpu.readRegister(false, srcRegister);
         // Read destination value
         AddressingMode destMode = getDestOperandAddressingMode();
         int destRegister = getDestOperandRegister();
-        destMode.preAddressingAction(false, destRegister);
-        int destValue = destMode.readAddressedValue(false, destRegister);
+        destMode.preAddressingAction(cpu, false, destRegister);
+        int destValue = destMode.readAddressedValue(cpu, false, destRegister);
         if (destValue != Computer.BUS_ERROR) {
             int resultValue = srcValue ^ destValue;
             // Set flags
-            cpu.setPswFlagN(false, resultValue);
-            cpu.setPswFlagZ(false, resultValue);
-            cpu.clearPswFlagV();
+            cpu.deferPswFlagsUpdate(Cpu.PSW_FLAGS_OP_LOGICAL, false, 0, 0, resultValue);
             // Write result to destination
-            destMode.writeAddressedValue(false, destRegister, resultValue);
-            destMode.postAddressingAction(false, destRegister);
+            destMode.writeAddressedValue(cpu, false, destRegister, resultValue);
+            destMode.postAddressingAction(cpu, false, destRegister);
         }
     }
 
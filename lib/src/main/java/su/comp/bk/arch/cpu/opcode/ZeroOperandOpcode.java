@@ -18,17 +18,11 @@
  */
 package su.comp.bk.arch.cpu.opcode;
 
-import su.comp.bk.arch.cpu.Cpu;
-
 /**
  * Zero operand operation codes base class.
  */
 public abstract class ZeroOperandOpcode extends BaseOpcode {
 
-    public ZeroOperandOpcode(Cpu cpu) {
-        super(cpu);
-    }
-
     @Override
     public void decode(int instruction) {
         super.decode(instruction);
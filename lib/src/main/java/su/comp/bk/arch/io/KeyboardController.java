@@ -25,7 +25,7 @@ import su.comp.bk.state.State;
 /**
  * BK-0010 keyboard controller (К1801ВП1-014).
  */
-public class KeyboardController implements Device {
+public class KeyboardController implements PollableDevice {
     /** Keyboard status register address */
     public final static int STATUS_REGISTER_ADDRESS = 0177660;
     // Keyboard status register - vector interrupt masking flag (read/write)
@@ -235,7 +235,24 @@ public class KeyboardController implements Device {
         setButtonPressed(computer.getCpu().getTime(), isPressed);
     }
 
-    public void handleButton(BkButton bkButton, int bkKeyCode, boolean isPressed) {
+    /**
+     * Handle button press or release. Button event is handled in the emulation thread
+     * between CPU execution slices.
+     * @param bkButton pressed or released {@link BkButton}
+     * @param bkKeyCode button key code
+     * @param isPressed <code>true</code> if button is pressed, <code>false</code> if released
+     */
+    public void handleButton(final BkButton bkButton, final int bkKeyCode,
+                             final boolean isPressed) {
+        computer.submitCommand(new Runnable() {
+            @Override
+            public void run() {
+                doHandleButton(bkButton, bkKeyCode, isPressed);
+            }
+        });
+    }
+
+    private void doHandleButton(BkButton bkButton, int bkKeyCode, boolean isPressed) {
         if (isPressed) {
             // Ignore repeated button press events if already in pressed state
             if (!isButtonPressed()) {
@@ -302,6 +319,24 @@ public class KeyboardController implements Device {
         }
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        switch (address) {
+            case STATUS_REGISTER_ADDRESS:
+                return REGISTER_CHANGED_EXTERNALLY;
+            case DATA_REGISTER_ADDRESS:
+                // Data register reading clears data ready flag
+                return REGISTER_NOT_POLLABLE;
+            default:
+                if (!isButtonPressed() && checkButtonPressed(cpuTime)) {
+                    // Button pressed state is held for MIN_KEY_PRESS_TIME after button press
+                    return lastButtonPressTimestamp
+                            + computer.nanosToCpuTime(MIN_KEY_PRESS_TIME) + 1;
+                }
+                return REGISTER_CHANGED_EXTERNALLY;
+        }
+    }
+
     @Override
     public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         boolean isWritten = false;
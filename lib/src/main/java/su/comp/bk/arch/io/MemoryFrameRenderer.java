@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package su.comp.bk.arch.io;
+
+import static su.comp.bk.arch.io.VideoController.SCREEN_DATA_LENGTH;
+import static su.comp.bk.arch.io.VideoController.SCREEN_HEIGHT_NORMAL;
+
+/**
+ * {@link su.comp.bk.arch.io.VideoController.FrameRenderer} implementation
+ * keeping the last rendered frame data in memory (for headless emulation).
+ */
+public class MemoryFrameRenderer implements VideoController.FrameRenderer {
+    // Last rendered frame pixel data
+    private final short[] pixelData = new short[SCREEN_DATA_LENGTH];
+    // Last rendered frame lines palette indexes
+    private final int[] linePaletteIndexes = new int[SCREEN_HEIGHT_NORMAL];
+    // Last rendered frame full screen mode flag
+    private boolean isFullScreenMode;
+    // Display mode
+    private VideoController.DisplayMode displayMode;
+    // Number of rendered frames
+    private long renderedFramesCount;
+
+    @Override
+    public synchronized void setDisplayMode(VideoController.DisplayMode displayMode) {
+        this.displayMode = displayMode;
+    }
+
+    @Override
+    public synchronized void renderFrame(VideoController.FrameData frameData) {
+        System.arraycopy(frameData.getPixelData(), 0, pixelData, 0, pixelData.length);
+        System.arraycopy(frameData.getLinePaletteIndexes(), 0, linePaletteIndexes, 0,
+                linePaletteIndexes.length);
+        isFullScreenMode = frameData.isFullScreenMode();
+        renderedFramesCount++;
+    }
+
+    /**
+     * Get display mode.
+     * @return display mode
+     */
+    public synchronized VideoController.DisplayMode getDisplayMode() {
+        return displayMode;
+    }
+
+    /**
+     * Get last rendered frame pixel data (as video memory words, 2 bits per pixel
+     * in color mode or 1 bit per pixel in black and white mode).
+     * @return copy of last rendered frame pixel data
+     */
+    public synchronized short[] getPixelData() {
+        return pixelData.clone();
+    }
+
+    /**
+     * Get last rendered frame color palette index of given screen line.
+     * @param lineNum screen line number (numbered from 0)
+     * @return color palette index
+     */
+    public synchronized int getPaletteIndex(int lineNum) {
+        return linePaletteIndexes[lineNum];
+    }
+
+    /**
+     * Check last rendered frame is in full screen mode.
+     * @return <code>true</code> if frame is in full screen mode, <code>false</code>
+     * if only lower quarter of screen is displayed
+     */
+    public synchronized boolean isFullScreenMode() {
+        return isFullScreenMode;
+    }
+
+    /**
+     * Get number of rendered frames.
+     * @return rendered frames count
+     */
+    public synchronized long getRenderedFramesCount() {
+        return renderedFramesCount;
+    }
+}
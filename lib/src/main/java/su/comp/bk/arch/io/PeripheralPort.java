@@ -24,7 +24,7 @@ import su.comp.bk.state.State;
 /**
  * BK-0010 peripheral port.
  */
-public class PeripheralPort implements Device {
+public class PeripheralPort implements PollableDevice {
     private final static int[] ADDRESSES = {Cpu.REG_SEL2 };
 
     // Current port state
@@ -45,6 +45,11 @@ public class PeripheralPort implements Device {
         return getState();
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        return REGISTER_CHANGED_EXTERNALLY;
+    }
+
     @Override
     public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         // TODO
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package su.comp.bk.arch.io;
+
+/**
+ * I/O device which registers can be polled by guest code in idle loops. For such devices
+ * CPU time can be fast-forwarded to the moment polled register value can change.
+ */
+public interface PollableDevice extends Device {
+    /** Register value is changed only by external events (user input, register writes) */
+    long REGISTER_CHANGED_EXTERNALLY = Long.MAX_VALUE;
+
+    /** Register value change time is unknown or register reading has side effects */
+    long REGISTER_NOT_POLLABLE = -1L;
+
+    /**
+     * Get CPU time when value read from given register can change next time without
+     * registers writing. Repeated register reads at the same CPU time must return the same
+     * value and should have no other side effects.
+     * @param cpuTime current CPU time (in clock ticks)
+     * @param address register address (from address list this device is mapped to)
+     * @return CPU time (in clock ticks, greater than given CPU time) when register value
+     * can change, {@link #REGISTER_CHANGED_EXTERNALLY} if register value is changed only by
+     * external events or {@link #REGISTER_NOT_POLLABLE} if register can't be polled
+     */
+    long getRegisterChangeTime(long cpuTime, int address);
+}
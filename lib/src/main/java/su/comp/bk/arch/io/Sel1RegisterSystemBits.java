@@ -25,7 +25,7 @@ import su.comp.bk.state.State;
  * SEL1 register (0177716) system bits (8-15 bits - power-on CPU startup address (read only),
  * bit 2 - write flag, set on register write, cleared after register read.
  */
-public class Sel1RegisterSystemBits implements Device {
+public class Sel1RegisterSystemBits implements PollableDevice {
 
     // Write to register flag bit mask
     public final static int WRITE_FLAG = (1 << 2);
@@ -61,6 +61,11 @@ public class Sel1RegisterSystemBits implements Device {
         return result;
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        return REGISTER_CHANGED_EXTERNALLY;
+    }
+
     @Override
     public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         // Only set write flag
@@ -25,7 +25,7 @@ import su.comp.bk.state.State;
 /**
  * BK0011 system timer (50 Hz, connected to CPU IRQ2 pin).
  */
-public class SystemTimer implements Device, VideoController.FrameSyncListener {
+public class SystemTimer implements PollableDevice, VideoController.FrameSyncListener {
 
     /** Timer state register address */
     public final static int STATE_REGISTER_ADDRESS = 0177662;
@@ -80,6 +80,11 @@ public class SystemTimer implements Device, VideoController.FrameSyncListener {
         return 0;
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        return REGISTER_CHANGED_EXTERNALLY;
+    }
+
     @Override
     public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         setInterruptEnabled((value & STATE_ENABLED_FLAG) == 0);
@@ -23,7 +23,7 @@ import su.comp.bk.state.State;
 /**
  * K1801VM1 on-chip timer (legacy of K1801VE1 MCU).
  */
-public class Timer implements Device {
+public class Timer implements PollableDevice {
 
     /** Timer preset register address */
     public final static int PRESET_REGISTER_ADDRESS = 0177706;
@@ -137,6 +137,17 @@ public class Timer implements Device {
         }
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        if (address == PRESET_REGISTER_ADDRESS || !isTimerEnabled()) {
+            return REGISTER_CHANGED_EXTERNALLY;
+        }
+        // Counter and control registers can change on the next timer tick
+        long prescalerValue = getPrescalerValue();
+        return settingsChangeTime + ((cpuTime - settingsChangeTime) / prescalerValue + 1)
+                * prescalerValue;
+    }
+
     @Override
     public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         switch (address & 0177776) {
@@ -232,7 +243,7 @@ public class Timer implements Device {
         return value & 0177777;
     }
 
-    private long getElapsedTimerTicks(long cpuTime) {
+    private long getPrescalerValue() {
         long prescalerValue = PRESCALER;
         if ((controlRegister & CONTROL_PRESCALER_4) != 0) {
             prescalerValue *= 4;
@@ -240,7 +251,11 @@ public class Timer implements Device {
         if ((controlRegister & CONTROL_PRESCALER_16) != 0) {
             prescalerValue *= 16;
         }
-        return (cpuTime - settingsChangeTime) / prescalerValue;
+        return prescalerValue;
+    }
+
+    private long getElapsedTimerTicks(long cpuTime) {
+        return (cpuTime - settingsChangeTime) / getPrescalerValue();
     }
 
 }
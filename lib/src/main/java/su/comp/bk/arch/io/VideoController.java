@@ -19,6 +19,7 @@
 package su.comp.bk.arch.io;
 
 import su.comp.bk.arch.Computer;
+import su.comp.bk.arch.EventScheduler;
 import su.comp.bk.arch.memory.Memory;
 import su.comp.bk.state.State;
 
@@ -28,7 +29,7 @@ import java.util.List;
 /**
  * BK-0010 video output controller (К1801ВП1-037).
  */
-public class VideoController implements Device, Computer.UptimeListener {
+public class VideoController implements PollableDevice, EventScheduler.EventHandler {
 
     /** Scroll/mode register address */
     public final static int CONTROL_REGISTER_ADDRESS = 0177664;
@@ -57,6 +58,9 @@ public class VideoController implements Device, Computer.UptimeListener {
     // FrameRenderer reference
     private final FrameRenderer frameRenderer;
 
+    // Computer reference
+    private final Computer computer;
+
     // Screen lines pixel data
     private short[] linesPixelData = new short[SCREEN_DATA_LENGTH];
 
@@ -123,8 +127,22 @@ public class VideoController implements Device, Computer.UptimeListener {
     private long currentLine;
     // Current displayed frame number
     private long currentFrame;
+    // Captured frames decimation factor (only every Nth frame is captured)
+    private int frameDecimation = 1;
     // List of frame horizontal/vertical sync listeners
     private final List<FrameSyncListener> frameSyncListeners = new ArrayList<>();
+    // Vertical sync events handler
+    private final EventScheduler.InterruptEventHandler verticalSyncEventHandler =
+            new EventScheduler.InterruptEventHandler() {
+        @Override
+        public long handleEvent(long time) {
+            long uptime = computer.cpuTimeToNanos(time);
+            updateLines(uptime);
+            // Schedule next vertical sync
+            return Math.max(time + 1, computer.nanosToCpuTime(
+                    getNextVerticalSyncUptime(uptime)));
+        }
+    };
     // Last displayed frame data
     private final FrameData lastDisplayedFrameData = new FrameData();
     // Last rendered frame data
@@ -202,7 +220,8 @@ public class VideoController implements Device, Computer.UptimeListener {
         void renderFrame(FrameData frameData);
     }
 
-    public VideoController(Memory videoMemory, FrameRenderer frameRenderer) {
+    public VideoController(Computer computer, Memory videoMemory, FrameRenderer frameRenderer) {
+        this.computer = computer;
         this.videoMemory = videoMemory;
         this.frameRenderer = frameRenderer;
         writeScrollRegister(EXTMEM_CONTROL_BIT | SCROLL_BASE_VALUE);
@@ -234,6 +253,37 @@ public class VideoController implements Device, Computer.UptimeListener {
         frameRenderer.setDisplayMode(displayMode);
     }
 
+    /**
+     * Get captured frames decimation factor.
+     * @return frames decimation factor
+     */
+    public int getFrameDecimation() {
+        return frameDecimation;
+    }
+
+    /**
+     * Set captured frames decimation factor. Only every Nth frame video data is captured
+     * for displaying (for example, while emulation is fast-forwarded), frame sync
+     * events are generated for every frame.
+     * @param frameDecimation frames decimation factor (N) to set, 1 to capture every frame
+     */
+    public void setFrameDecimation(int frameDecimation) {
+        if (frameDecimation < 1) {
+            throw new IllegalArgumentException("Invalid frame decimation factor to set: "
+                    + frameDecimation);
+        }
+        this.frameDecimation = frameDecimation;
+    }
+
+    /**
+     * Check current frame video data is captured for displaying.
+     * @return <code>true</code> if current frame is captured, <code>false</code> if it is
+     * skipped due to frames decimation
+     */
+    private boolean isCurrentFrameCaptured() {
+        return frameDecimation == 1 || currentFrame % frameDecimation == 0;
+    }
+
     public void renderFrame() {
         synchronized (lastDisplayedFrameData) {
             lastRenderedFrameData.copyFrom(lastDisplayedFrameData);
@@ -252,42 +302,85 @@ public class VideoController implements Device, Computer.UptimeListener {
     }
 
     @Override
-    public void uptimeUpdated(long uptime) {
+    public long handleEvent(long time) {
+        updateLines(computer.cpuTimeToNanos(time));
+        // Schedule next screen line start
+        return Math.max(time + 1, computer.nanosToCpuTime((currentLine + 1)
+                * FRAME_SYNC_PERIOD_HORIZONTAL));
+    }
+
+    /**
+     * Process screen lines started up to given uptime.
+     * @param uptime computer uptime (in nanoseconds)
+     */
+    private void updateLines(long uptime) {
         // Get current displayed screen line number since emulator start (numbered from 0)
         long line = uptime / FRAME_SYNC_PERIOD_HORIZONTAL;
         if (line < currentLine) {
             // Resync current line and frame
             currentLine = line;
             currentFrame = line / FRAME_LINES_TOTAL;
-        } else if (line > currentLine) {
-            // New screen line started
-            currentLine = line;
-            // Get screen line number inside displayed frame (numbered from 0)
-            int currentLineFrameLine = (int) (currentLine % FRAME_LINES_TOTAL);
-            // Check for HSync
-            if (currentLineFrameLine < FRAME_LINES_VISIBLE) {
-                // HSync
-                // Store pixel data for displayed screen line
-                int videoDataIdx = ((currentLineFrameLine + frameScrollShift)
-                        * SCREEN_SCANLINE_LENGTH) % SCREEN_DATA_LENGTH;
-                int pixelDataIdx = currentLineFrameLine * SCREEN_SCANLINE_LENGTH;
-                videoMemory.getData(linesPixelData, videoDataIdx, pixelDataIdx,
-                        SCREEN_SCANLINE_LENGTH);
-                // Store color palette index for displayed screen line
-                lineColorPaletteIndexes[currentLineFrameLine] = colorPaletteIndex;
-            } else {
-                // Check for VSync
-                // Get displayed frame number (numbered from 0)
-                long currentLineFrame = currentLine / FRAME_LINES_TOTAL;
-                if (currentLineFrameLine >= FRAME_SYNC_LINE_VERTICAL
-                        && currentLineFrame >= currentFrame) {
-                    // VSync
+        } else {
+            // Process all screen lines started since last update (at most one frame),
+            // so lines skipped while CPU time was fast-forwarded are displayed too
+            for (long nextLine = Math.max(currentLine + 1, line - FRAME_LINES_TOTAL + 1);
+                 nextLine <= line; nextLine++) {
+                startLine(nextLine);
+            }
+        }
+    }
+
+    /**
+     * Get vertical sync events handler. Vertical sync can request CPU interrupt, so
+     * its events are scheduled separately from screen lines processing events.
+     * @return vertical sync {@link EventScheduler.InterruptEventHandler}
+     */
+    public EventScheduler.InterruptEventHandler getVerticalSyncEventHandler() {
+        return verticalSyncEventHandler;
+    }
+
+    private long getNextVerticalSyncUptime(long uptime) {
+        long frameStartLine = (uptime / FRAME_SYNC_PERIOD_HORIZONTAL / FRAME_LINES_TOTAL)
+                * FRAME_LINES_TOTAL;
+        long vsyncUptime = (frameStartLine + FRAME_SYNC_LINE_VERTICAL)
+                * FRAME_SYNC_PERIOD_HORIZONTAL;
+        return (vsyncUptime > uptime) ? vsyncUptime
+                : vsyncUptime + FRAME_LINES_TOTAL * FRAME_SYNC_PERIOD_HORIZONTAL;
+    }
+
+    private void startLine(long line) {
+        // New screen line started
+        currentLine = line;
+        // Get screen line number inside displayed frame (numbered from 0)
+        int currentLineFrameLine = (int) (currentLine % FRAME_LINES_TOTAL);
+        // Check for HSync
+        if (currentLineFrameLine < FRAME_LINES_VISIBLE) {
+            if (!isCurrentFrameCaptured()) {
+                return;
+            }
+            // HSync
+            // Store pixel data for displayed screen line
+            int videoDataIdx = ((currentLineFrameLine + frameScrollShift)
+                    * SCREEN_SCANLINE_LENGTH) % SCREEN_DATA_LENGTH;
+            int pixelDataIdx = currentLineFrameLine * SCREEN_SCANLINE_LENGTH;
+            videoMemory.getData(linesPixelData, videoDataIdx, pixelDataIdx,
+                    SCREEN_SCANLINE_LENGTH);
+            // Store color palette index for displayed screen line
+            lineColorPaletteIndexes[currentLineFrameLine] = colorPaletteIndex;
+        } else {
+            // Check for VSync
+            // Get displayed frame number (numbered from 0)
+            long currentLineFrame = currentLine / FRAME_LINES_TOTAL;
+            if (currentLineFrameLine >= FRAME_SYNC_LINE_VERTICAL
+                    && currentLineFrame >= currentFrame) {
+                // VSync
+                if (isCurrentFrameCaptured()) {
                     storeLastFrameVideoData();
-                    notifyFrameSyncListenersVerticalSync();
-                    currentFrame = currentLineFrame + 1;
-                    // Frame scroll shift value is updated on VSync
-                    frameScrollShift = (readScrollRegister() - SCROLL_BASE_VALUE) & 0377;
                 }
+                notifyFrameSyncListenersVerticalSync();
+                currentFrame = currentLineFrame + 1;
+                // Frame scroll shift value is updated on VSync
+                frameScrollShift = (readScrollRegister() - SCROLL_BASE_VALUE) & 0377;
             }
         }
     }
@@ -341,6 +434,11 @@ public class VideoController implements Device, Computer.UptimeListener {
         return readScrollRegister();
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        return REGISTER_CHANGED_EXTERNALLY;
+    }
+
     @Override
     public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         writeScrollRegister(value);
@@ -44,6 +44,19 @@ public class AudioMixer implements Runnable {
 
     private final List<AudioOutput<?>> audioOutputs = new ArrayList<>();
 
+    /**
+     * Audio handling mode while emulation is fast-forwarded.
+     */
+    public enum FastForwardMode {
+        /** Audio outputs are decimated, so audio is played with raised pitch */
+        DECIMATE,
+        /** Audio outputs are muted */
+        MUTE
+    }
+
+    // Audio handling mode while emulation is fast-forwarded
+    private volatile FastForwardMode fastForwardMode = FastForwardMode.DECIMATE;
+
     // Mix buffer written to AudioPlayer
     private final short[] mixBuffer;
     // Reusable single stereo sample scratch buffer [left, right]
@@ -82,6 +95,22 @@ public class AudioMixer implements Runnable {
         updateAudioPlayerGain();
     }
 
+    /**
+     * Get audio handling mode while emulation is fast-forwarded.
+     * @return {@link FastForwardMode} value
+     */
+    public FastForwardMode getFastForwardMode() {
+        return fastForwardMode;
+    }
+
+    /**
+     * Set audio handling mode while emulation is fast-forwarded.
+     * @param fastForwardMode {@link FastForwardMode} value to set
+     */
+    public void setFastForwardMode(FastForwardMode fastForwardMode) {
+        this.fastForwardMode = fastForwardMode;
+    }
+
     private void updateAudioPlayerGain() {
         player.setGain(convertVolumeToGain(masterVolume));
     }
@@ -207,6 +236,14 @@ public class AudioMixer implements Runnable {
         long playbackDelayCompensation = (long) (PLAYBACK_DELAY_COMPENSATION_BETA * playbackDelay);
         long sampleTimestep = (getSamplesBufferSizeInCpuTicks() + playbackDelayCompensation)
                 / getSamplesBufferSize();
+        boolean isMuted = false;
+        if (computer.isFastForwarding()) {
+            // Decimate audio outputs to catch up with the fast-forwarded CPU time
+            // in a single buffer
+            sampleTimestep = Math.max(sampleTimestep, (currentPlaybackDelay
+                    + getSamplesBufferSizeInCpuTicks()) / getSamplesBufferSize());
+            isMuted = (fastForwardMode == FastForwardMode.MUTE);
+        }
         int bufferIndex = 0;
         while (bufferIndex < mixBuffer.length) {
             int leftChannelAccum = 0;
@@ -218,8 +255,8 @@ public class AudioMixer implements Runnable {
                 leftChannelAccum += (int) (sampleBuf[0] * audioOutputGain);
                 rightChannelAccum += (int) (sampleBuf[1] * audioOutputGain);
             }
-            mixBuffer[bufferIndex++] = clipSample(leftChannelAccum);
-            mixBuffer[bufferIndex++] = clipSample(rightChannelAccum);
+            mixBuffer[bufferIndex++] = isMuted ? 0 : clipSample(leftChannelAccum);
+            mixBuffer[bufferIndex++] = isMuted ? 0 : clipSample(rightChannelAccum);
             nextSampleTimestamp += sampleTimestep;
         }
     }
@@ -22,13 +22,13 @@ import org.slf4j.LoggerFactory;
 
 import su.comp.bk.arch.Computer;
 import su.comp.bk.arch.cpu.opcode.BaseOpcode;
-import su.comp.bk.arch.io.Device;
+import su.comp.bk.arch.io.PollableDevice;
 import su.comp.bk.state.State;
 
 /**
  * Base sampled audio output device.
  */
-public abstract class AudioOutput<U extends AudioOutputUpdate> implements Device {
+public abstract class AudioOutput<U extends AudioOutputUpdate> implements PollableDevice {
     private final Logger logger = LoggerFactory.getLogger(getClass().getSimpleName());
 
     public static final int MIN_VOLUME = 0;
@@ -143,6 +143,19 @@ public abstract class AudioOutput<U extends AudioOutputUpdate> implements Device
      */
     public void setVolume(int volume) {
         this.volume = Math.max(MIN_VOLUME, Math.min(MAX_VOLUME, volume));
+        if (isWriteSkippedWhenMuted()) {
+            computer.setDeviceWriteEnabled(this, this.volume > MIN_VOLUME);
+        }
+    }
+
+    /**
+     * Check writes to this audio output registers can be skipped while it is muted.
+     * Audio output state must not depend on values written while muted.
+     * @return <code>true</code> if muted audio output is not called on register writes,
+     * <code>false</code> otherwise
+     */
+    protected boolean isWriteSkippedWhenMuted() {
+        return false;
     }
 
     /**
@@ -168,6 +181,11 @@ public abstract class AudioOutput<U extends AudioOutputUpdate> implements Device
         return 0;
     }
 
+    @Override
+    public long getRegisterChangeTime(long cpuTime, int address) {
+        return REGISTER_CHANGED_EXTERNALLY;
+    }
+
     private synchronized void resetAudioOutputUpdates() {
         putAudioOutputUpdateIndex = 0;
         getAudioOutputUpdateIndex = 0;
@@ -176,8 +194,9 @@ public abstract class AudioOutput<U extends AudioOutputUpdate> implements Device
 
     synchronized U putAudioOutputUpdate() {
         if (audioOutputUpdatesCapacity == 0) {
-            // Warn about buffer overflows only if we are not in the free running CPU mode
-            if (computer.getClockFrequency() > 0) {
+            // Warn about buffer overflows only if we are not in the free running CPU
+            // or fast-forward mode
+            if (computer.getClockFrequency() > 0 && !computer.isFastForwarding()) {
                 logger.warn("Audio output updates buffer overflow!");
             }
             // Discard the least recent element from the circular buffer
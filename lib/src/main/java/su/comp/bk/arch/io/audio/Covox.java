@@ -65,6 +65,11 @@ public class Covox extends PcmOutput {
         return MIN_VOLUME; // covox is muted by default
     }
 
+    @Override
+    protected boolean isWriteSkippedWhenMuted() {
+        return true; // each write sets the whole output state
+    }
+
     @Override
     public synchronized void init(long cpuTime, boolean isHardwareReset) {
         super.init(cpuTime, isHardwareReset);
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package su.comp.bk.arch.io.audio;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AudioPlayer} implementation which discards played audio data (for headless
+ * emulation). Audio data playing takes the same time as with the real audio device.
+ */
+public class NullAudioPlayer implements AudioPlayer {
+    /** Default output sample rate (in Hz) */
+    public final static int DEFAULT_SAMPLE_RATE = 44100;
+    /** Default buffer size (in bytes, 2 channels x 2 bytes per sample) */
+    public final static int DEFAULT_BUFFER_SIZE = 4096;
+
+    private static final long NANOSECS_IN_SECOND = 1000000000L;
+
+    private final int sampleRate;
+    private final int bufferSize;
+
+    public NullAudioPlayer() {
+        this(DEFAULT_SAMPLE_RATE, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NullAudioPlayer(int sampleRate, int bufferSize) {
+        this.sampleRate = sampleRate;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public void setGain(float gain) {
+        // Do nothing
+    }
+
+    @Override
+    public void play(short[] audioData, int offsetInShorts, int sizeInShorts) {
+        // Wait for stereo samples playing time
+        LockSupport.parkNanos(this, sizeInShorts / 2 * NANOSECS_IN_SECOND / sampleRate);
+    }
+
+    @Override
+    public void resume() {
+        // Do nothing
+    }
+
+    @Override
+    public void pause() {
+        // Do nothing
+    }
+
+    @Override
+    public void stop() {
+        // Do nothing
+    }
+
+    @Override
+    public void release() {
+        // Do nothing
+    }
+}
@@ -26,9 +26,10 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ShortBuffer;
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
 
 import su.comp.bk.arch.Computer;
-import su.comp.bk.arch.io.Device;
+import su.comp.bk.arch.io.PollableDevice;
 import su.comp.bk.state.State;
 import su.comp.bk.util.Crc16Utils;
 import su.comp.bk.util.SparseBooleanArray;
@@ -36,7 +37,7 @@ import su.comp.bk.util.SparseBooleanArray;
 /**
  * Floppy drive controller (К1801ВП1-128).
  */
-public class FloppyController implements Device {
+public class FloppyController implements PollableDevice {
     private final Logger logger = LoggerFactory.getLogger(getClass().getSimpleName());
 
     // Also execute "adb shell setprop log.tag.FloppyController DEBUG"
@@ -204,6 +205,9 @@ public class FloppyController implements Device {
     // Floppy drives array
     private final FloppyDrive[] floppyDrives = new FloppyDrive[4];
 
+    // Computer reference
+    private final Computer computer;
+
     // Floppy drives motor started flag
     private boolean isMotorStarted;
 
@@ -656,6 +660,7 @@ public class FloppyController implements Device {
     }
 
     public FloppyController(Computer computer) {
+        this.computer = computer;
         this.clockTicksPerTrack = computer.nanosToCpuTime(NANOSECS_PER_TRACK);
         this.clockTicksPerWord = computer.nanosToCpuTime(NANOSECS_PER_TRACK / WORDS_PER_TRACK);
         this.clockTicksPerIndexHole = computer.nanosToCpuTime(NANOSECS_PER_INDEX_HOLE);
@@ -791,6 +796,30 @@ public class FloppyController implements Device {
                 : readDataRegister(cpuTime);
     }
 
+    @Override
+    public synchronized long getRegisterChangeTime(long cpuTime, int address) {
+        if (address != CONTROL_REGISTER_ADDRESS || isWriteOperation()) {
+            // Data register reading changes controller state, control register reading
+            // in write mode writes data to the track
+            return REGISTER_NOT_POLLABLE;
+        }
+        FloppyDrive drive = getSelectedFloppyDrive();
+        if (drive == null) {
+            return REGISTER_CHANGED_EXTERNALLY;
+        }
+        // Control register state can change at the next track position
+        long changeTime = (cpuTime / clockTicksPerWord + 1) * clockTicksPerWord;
+        if (drive.isDiskImageMounted()) {
+            // or at the next index hole activity change
+            long trackStartTime = cpuTime - cpuTime % clockTicksPerTrack;
+            long indexHoleChangeTime = drive.isDiskIndexHoleActive(cpuTime)
+                    ? trackStartTime + clockTicksPerIndexHole
+                    : trackStartTime + clockTicksPerTrack;
+            changeTime = Math.min(changeTime, indexHoleChangeTime);
+        }
+        return changeTime;
+    }
+
     @Override
     public synchronized boolean write(long cpuTime, boolean isByteMode, int address, int value) {
         if (isDebugEnabled) {
@@ -1153,7 +1182,19 @@ public class FloppyController implements Device {
      * @param isWriteProtectMode <code>true</code> to mount disk image in write protect mode
      * @throws Exception in case of disk image mounting error
      */
-    public synchronized void mountDiskImage(DiskImage diskImage, FloppyDriveIdentifier drive,
+    public void mountDiskImage(final DiskImage diskImage, final FloppyDriveIdentifier drive,
+            final boolean isWriteProtectMode) throws Exception {
+        // Mount disk image in the emulation thread between CPU execution slices
+        computer.executeCommand(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                doMountDiskImage(diskImage, drive, isWriteProtectMode);
+                return null;
+            }
+        });
+    }
+
+    private synchronized void doMountDiskImage(DiskImage diskImage, FloppyDriveIdentifier drive,
             boolean isWriteProtectMode) throws Exception {
         getFloppyDrive(drive).mountDiskImage(diskImage, isWriteProtectMode);
     }
@@ -1163,14 +1204,25 @@ public class FloppyController implements Device {
      * @param drive {@link FloppyDriveIdentifier} of drive to unmount disk image
      * @throws Exception in case of disk image unmounting error
      */
-    public synchronized void unmountDiskImage(FloppyDriveIdentifier drive) throws Exception {
+    public void unmountDiskImage(final FloppyDriveIdentifier drive) throws Exception {
+        // Unmount disk image in the emulation thread between CPU execution slices
+        computer.executeCommand(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                doUnmountDiskImage(drive);
+                return null;
+            }
+        });
+    }
+
+    private synchronized void doUnmountDiskImage(FloppyDriveIdentifier drive) throws Exception {
         getFloppyDrive(drive).unmountDiskImage();
     }
 
     /**
      * Unmount floppy drive disk image from all drives.
      */
-    public synchronized void unmountDiskImages() {
+    public void unmountDiskImages() {
         for (FloppyDriveIdentifier drive : FloppyDriveIdentifier.values()) {
             try {
                 if (isFloppyDriveMounted(drive)) {
@@ -41,6 +41,8 @@ public class Bk11MemoryManager implements Device {
     /** Number of ROM banks in second banked memory window */
     public final static int NUM_ROM_BANKS = 4;
 
+    private final Computer computer;
+
     // First banked memory window (addresses 040000-0100000)
     private final BankedMemory firstBankedMemory;
 
@@ -55,10 +57,13 @@ public class Bk11MemoryManager implements Device {
 
     /**
      * Create memory manager with given memory banks.
+     * @param computer {@link Computer} to notify about memory map changes
      * @param firstBankedMemory first banked memory window (addresses 040000-0100000)
      * @param secondBankedMemory second banked memory window (addresses 0100000-0140000)
      */
-    public Bk11MemoryManager(BankedMemory firstBankedMemory, BankedMemory secondBankedMemory) {
+    public Bk11MemoryManager(Computer computer, BankedMemory firstBankedMemory,
+                             BankedMemory secondBankedMemory) {
+        this.computer = computer;
         this.firstBankedMemory = firstBankedMemory;
         this.secondBankedMemory = secondBankedMemory;
     }
@@ -105,7 +110,8 @@ public class Bk11MemoryManager implements Device {
         // Update current memory configuration value
         currentMemoryConfiguration = value;
         // Set first memory bank configuration
-        firstBankedMemory.setActiveBankIndex((value >> 12) & 7);
+        setActiveBankIndex(firstBankedMemory, (value >> 12) & 7,
+                Computer.BK0011_BANKED_MEMORY_0_ADDRESS);
         // Set second memory bank configuration
         int romBankMask = value & 033;
         int romBankIndex = -1;
@@ -126,6 +132,14 @@ public class Bk11MemoryManager implements Device {
                     break;
             }
         }
-        secondBankedMemory.setActiveBankIndex((romBankIndex < 0) ? (value >> 8) & 7 : romBankIndex);
+        setActiveBankIndex(secondBankedMemory, (romBankIndex < 0) ? (value >> 8) & 7
+                : romBankIndex, Computer.BK0011_BANKED_MEMORY_1_ADDRESS);
+    }
+
+    private void setActiveBankIndex(BankedMemory bankedMemory, int bankIndex, int address) {
+        if (bankedMemory.getActiveBankIndex() != bankIndex) {
+            bankedMemory.setActiveBankIndex(bankIndex);
+            computer.notifyMemoryMapChanged(address, address + (bankedMemory.getSize() << 1) - 1);
+        }
     }
 }
@@ -80,9 +80,12 @@ public class SmkMemoryManager implements Device {
 
     private int currentMemoryLayoutValue;
 
-    public SmkMemoryManager(List<SegmentedMemory> smkMemorySegments,
+    private final Computer computer;
+
+    public SmkMemoryManager(Computer computer, List<SegmentedMemory> smkMemorySegments,
                             SelectableMemory selectableSmkBiosRom0,
                             SelectableMemory selectableSmkBiosRom1) {
+        this.computer = computer;
         for (int segment = 0; segment < NUM_MEMORY_SEGMENTS; segment++) {
             setMemorySegment(smkMemorySegments.get(segment), segment);
         }
@@ -191,6 +194,8 @@ public class SmkMemoryManager implements Device {
         int memoryLayoutPageValue = memoryLayoutValue & MEMORY_LAYOUT_PAGE_MASK;
         int memoryLayoutModeValue = memoryLayoutValue & MEMORY_LAYOUT_MODE_MASK;
         setupMemoryLayout(memoryLayoutPageValue, memoryLayoutModeValue);
+        // All the memory layout changes are above the SMK memory window start address
+        computer.notifyMemoryMapChanged(MEMORY_START_ADDRESS, 0177777);
     }
 
     private void setupMemoryLayout(int pageValue, int modeValue) {
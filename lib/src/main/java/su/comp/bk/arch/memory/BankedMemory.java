@@ -122,6 +122,18 @@ public class BankedMemory extends AbstractMemory {
         }
     }
 
+    @Override
+    public RandomAccessMemory getBackingMemory(int offset) {
+        Memory bank = activeBank;
+        return (bank != null) ? bank.getBackingMemory(offset) : null;
+    }
+
+    @Override
+    public int getBackingMemoryOffset(int offset) {
+        Memory bank = activeBank;
+        return (bank != null) ? bank.getBackingMemoryOffset(offset) : offset;
+    }
+
     @Override
     public boolean isReadable(int offset) {
         return activeBank != null && activeBank.isReadable(offset);
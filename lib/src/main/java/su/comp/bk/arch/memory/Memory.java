@@ -49,6 +49,23 @@ public interface Memory {
      */
     void getData(short[] buf, int srcOffset, int dstOffset, int length);
 
+    /**
+     * Get RAM/ROM physically backing this memory at given offset
+     * in current memory configuration.
+     * @param offset memory offset (in bytes)
+     * @return backing {@link RandomAccessMemory} or <code>null</code> if given offset
+     * is not mapped to RAM/ROM
+     */
+    RandomAccessMemory getBackingMemory(int offset);
+
+    /**
+     * Get offset in RAM/ROM physically backing this memory at given offset
+     * in current memory configuration.
+     * @param offset memory offset (in bytes)
+     * @return offset in backing RAM/ROM (in bytes)
+     */
+    int getBackingMemoryOffset(int offset);
+
     /**
      * Check memory is readable.
      * @param offset memory offset to check
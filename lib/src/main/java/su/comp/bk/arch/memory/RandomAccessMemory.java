@@ -18,6 +18,9 @@
  */
 package su.comp.bk.arch.memory;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 /**
  * RAM (read/write) class.
  */
@@ -25,6 +28,29 @@ public class RandomAccessMemory extends AbstractMemory {
     private final int size;
     private final short[] data;
 
+    // Watched words bit set (null if no words are watched)
+    private long[] watchedWords;
+    // Watched words write listener
+    private WriteWatchListener writeWatchListener;
+
+    /** Write tracking line size shift (64 words lines) */
+    public final static int WRITE_TRACKING_LINE_SHIFT = 6;
+    // Dirty lines bit set (null if write tracking is disabled)
+    private AtomicLongArray dirtyLines;
+
+    /**
+     * Watched memory words write listener interface.
+     */
+    public interface WriteWatchListener {
+        /**
+         * Called when value of watched word is changed. Word watch is cleared
+         * before this call.
+         * @param memory changed memory reference
+         * @param wordIndex changed word index or -1 if the whole memory data was changed
+         */
+        void watchedWordChanged(RandomAccessMemory memory, int wordIndex);
+    }
+
     /**
      * RAM types enumeration.
      */
@@ -106,6 +132,8 @@ public class RandomAccessMemory extends AbstractMemory {
 
     public void putData(short[] wordData) {
         System.arraycopy(wordData, 0, data, 0, wordData.length);
+        markLinesDirty(0, wordData.length);
+        notifyAllWatchedWordsChanged();
     }
 
     public void putData(byte[] byteData) {
@@ -115,6 +143,190 @@ public class RandomAccessMemory extends AbstractMemory {
             int value = (byteData[idx++] & 0377) | ((byteData[idx++] << 8) & 0177400);
             data[wordIdx] = (short) value;
         }
+        markLinesDirty(0, byteData.length >> 1);
+        notifyAllWatchedWordsChanged();
+    }
+
+    /**
+     * Set watched words write listener.
+     * @param writeWatchListener {@link WriteWatchListener} to set
+     */
+    public void setWriteWatchListener(WriteWatchListener writeWatchListener) {
+        this.writeWatchListener = writeWatchListener;
+    }
+
+    /**
+     * Get watched words write listener.
+     * @return {@link WriteWatchListener} reference or <code>null</code> if not set
+     */
+    public WriteWatchListener getWriteWatchListener() {
+        return writeWatchListener;
+    }
+
+    /**
+     * Watch word at given index for changes. Write watch listener is notified once
+     * on the first change of watched word value.
+     * @param wordIndex index of word to watch
+     */
+    public void watchWord(int wordIndex) {
+        if (watchedWords == null) {
+            watchedWords = new long[(getSize() + 63) >> 6];
+        }
+        watchedWords[wordIndex >> 6] |= 1L << wordIndex;
+    }
+
+    /**
+     * Check word at given index is watched for changes.
+     * @param wordIndex index of word to check
+     * @return <code>true</code> if word is watched, <code>false</code> otherwise
+     */
+    public boolean isWordWatched(int wordIndex) {
+        return watchedWords != null && (watchedWords[wordIndex >> 6] & (1L << wordIndex)) != 0;
+    }
+
+    /**
+     * Clear all word watches.
+     */
+    public void clearWatchedWords() {
+        watchedWords = null;
+    }
+
+    /**
+     * Enable or disable tracking of written memory lines. All lines are clean
+     * after write tracking is enabled.
+     * @param isEnabled <code>true</code> to enable write tracking, <code>false</code>
+     * to disable
+     */
+    public void setWriteTrackingEnabled(boolean isEnabled) {
+        if (isEnabled != isWriteTrackingEnabled()) {
+            dirtyLines = isEnabled ? new AtomicLongArray((getLinesCount() + 63) >> 6) : null;
+        }
+    }
+
+    /**
+     * Check tracking of written memory lines is enabled.
+     * @return <code>true</code> if write tracking is enabled, <code>false</code> otherwise
+     */
+    public boolean isWriteTrackingEnabled() {
+        return dirtyLines != null;
+    }
+
+    /**
+     * Get number of write tracking lines in this memory.
+     * @return number of lines (each line is 64 words, the last line can be shorter)
+     */
+    public int getLinesCount() {
+        return (getSize() + (1 << WRITE_TRACKING_LINE_SHIFT) - 1) >> WRITE_TRACKING_LINE_SHIFT;
+    }
+
+    /**
+     * Check memory line at given index was written since write tracking was enabled
+     * or dirty lines were cleared last time.
+     * @param lineIndex line index (word index shifted right by
+     * {@link #WRITE_TRACKING_LINE_SHIFT})
+     * @return <code>true</code> if line is dirty, <code>false</code> if line is clean
+     * or write tracking is disabled
+     */
+    public boolean isLineDirty(int lineIndex) {
+        AtomicLongArray lines = dirtyLines;
+        return lines != null && (lines.get(lineIndex >> 6) & (1L << lineIndex)) != 0;
+    }
+
+    /**
+     * Get dirty lines bit set and clear it. Each bit set element is atomically read and
+     * cleared, so writes made concurrently with this call are never lost (but can be
+     * reported again on the next call).
+     * @param lines array to store dirty lines bit set to (bit {@code i % 64} of element
+     * {@code i / 64} is set if line {@code i} is dirty), must be at least
+     * {@code (getLinesCount() + 63) / 64} elements long
+     * @return <code>true</code> if any line is dirty, <code>false</code> if all lines are
+     * clean or write tracking is disabled
+     */
+    public boolean getAndClearDirtyLines(long[] lines) {
+        AtomicLongArray currentLines = dirtyLines;
+        if (currentLines == null) {
+            Arrays.fill(lines, 0L);
+            return false;
+        }
+        boolean isDirty = false;
+        for (int i = 0, length = currentLines.length(); i < length; i++) {
+            long dirtyLinesBits = (currentLines.get(i) != 0) ? currentLines.getAndSet(i, 0L) : 0L;
+            lines[i] = dirtyLinesBits;
+            isDirty |= (dirtyLinesBits != 0);
+        }
+        return isDirty;
+    }
+
+    private static void markLineDirty(AtomicLongArray lines, int lineIndex) {
+        // Line bit is stored unconditionally (after the data store), so concurrent clear
+        // either sees the written data or is followed by this store. Concurrent clear
+        // can be lost here, this only leads to extra dirty lines reported
+        lines.lazySet(lineIndex >> 6, lines.get(lineIndex >> 6) | (1L << lineIndex));
+    }
+
+    private void markLinesDirty(int wordIndex, int length) {
+        AtomicLongArray lines = dirtyLines;
+        if (lines != null && length > 0) {
+            int lastLineIndex = (wordIndex + length - 1) >> WRITE_TRACKING_LINE_SHIFT;
+            for (int lineIndex = wordIndex >> WRITE_TRACKING_LINE_SHIFT;
+                 lineIndex <= lastLineIndex; lineIndex++) {
+                markLineDirty(lines, lineIndex);
+            }
+        }
+    }
+
+    private void notifyAllWatchedWordsChanged() {
+        if (watchedWords != null) {
+            clearWatchedWords();
+            if (writeWatchListener != null) {
+                writeWatchListener.watchedWordChanged(this, -1);
+            }
+        }
+    }
+
+    /**
+     * Write words from given data array to this memory. Overlapping source and
+     * destination ranges in the same data array are handled as if source words were
+     * copied to a temporary array first.
+     * @param wordIndex index of the first word to write
+     * @param srcData source data array
+     * @param srcWordIndex index of the first source word
+     * @param length number of words to write
+     */
+    public void writeWords(int wordIndex, short[] srcData, int srcWordIndex, int length) {
+        if (watchedWords != null) {
+            for (int i = 0; i < length; i++) {
+                checkWatchedWordChange(wordIndex + i, srcData[srcWordIndex + i]);
+            }
+        }
+        System.arraycopy(srcData, srcWordIndex, data, wordIndex, length);
+        markLinesDirty(wordIndex, length);
+    }
+
+    /**
+     * Fill words of this memory with given value.
+     * @param wordIndex index of the first word to fill
+     * @param length number of words to fill
+     * @param value value to fill
+     */
+    public void fillWords(int wordIndex, int length, int value) {
+        if (watchedWords != null) {
+            for (int i = 0; i < length; i++) {
+                checkWatchedWordChange(wordIndex + i, (short) value);
+            }
+        }
+        Arrays.fill(data, wordIndex, wordIndex + length, (short) value);
+        markLinesDirty(wordIndex, length);
+    }
+
+    private void checkWatchedWordChange(int wordIndex, short value) {
+        if (watchedWords != null && (watchedWords[wordIndex >> 6] & (1L << wordIndex)) != 0
+                && data[wordIndex] != value) {
+            watchedWords[wordIndex >> 6] &= ~(1L << wordIndex);
+            if (writeWatchListener != null) {
+                writeWatchListener.watchedWordChanged(this, wordIndex);
+            }
+        }
     }
 
     private int getWordIndex(int offset) {
@@ -126,7 +338,36 @@ public class RandomAccessMemory extends AbstractMemory {
     }
 
     protected void writeWord(int offset, int wordData) {
-        data[getWordIndex(offset)] = (short) wordData;
+        int wordIndex = getWordIndex(offset);
+        if (watchedWords != null && (watchedWords[wordIndex >> 6] & (1L << wordIndex)) != 0
+                && data[wordIndex] != (short) wordData) {
+            data[wordIndex] = (short) wordData;
+            markWordLineDirty(wordIndex);
+            watchedWords[wordIndex >> 6] &= ~(1L << wordIndex);
+            if (writeWatchListener != null) {
+                writeWatchListener.watchedWordChanged(this, wordIndex);
+            }
+            return;
+        }
+        data[wordIndex] = (short) wordData;
+        markWordLineDirty(wordIndex);
+    }
+
+    private void markWordLineDirty(int wordIndex) {
+        AtomicLongArray lines = dirtyLines;
+        if (lines != null) {
+            markLineDirty(lines, wordIndex >> WRITE_TRACKING_LINE_SHIFT);
+        }
+    }
+
+    @Override
+    public RandomAccessMemory getBackingMemory(int offset) {
+        return this;
+    }
+
+    @Override
+    public int getBackingMemoryOffset(int offset) {
+        return offset;
     }
 
     @Override
@@ -88,6 +88,18 @@ public class SegmentedMemory extends AbstractMemory {
         memory.getData(buf, srcOffset, dstOffset, length);
     }
 
+    @Override
+    public RandomAccessMemory getBackingMemory(int offset) {
+        return (activeSegmentIndex >= 0)
+                ? memory.getBackingMemory(getActiveSegmentOffset() + offset)
+                : null;
+    }
+
+    @Override
+    public int getBackingMemoryOffset(int offset) {
+        return memory.getBackingMemoryOffset(getActiveSegmentOffset() + offset);
+    }
+
     @Override
     public int read(int offset) {
         return !isReadable(offset) || (activeSegmentIndex < 0)
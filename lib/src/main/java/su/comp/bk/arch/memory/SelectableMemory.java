@@ -34,6 +34,11 @@ public class SelectableMemory extends AbstractMemory {
         setSelected(isSelected);
     }
 
+    /**
+     * Set this memory selected state. Caller must notify computer about memory map change
+     * after selected state of memory added to the address space is changed.
+     * @param isSelected <code>true</code> to select memory, <code>false</code> to deselect
+     */
     public void setSelected(boolean isSelected) {
         this.isSelected = isSelected;
     }
@@ -53,6 +58,16 @@ public class SelectableMemory extends AbstractMemory {
         memory.getData(buf, srcOffset, dstOffset, length);
     }
 
+    @Override
+    public RandomAccessMemory getBackingMemory(int offset) {
+        return isSelected ? memory.getBackingMemory(offset) : null;
+    }
+
+    @Override
+    public int getBackingMemoryOffset(int offset) {
+        return memory.getBackingMemoryOffset(offset);
+    }
+
     @Override
     public boolean isReadable(int offset) {
         return isSelected && memory.isReadable(offset);
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package su.comp.bk.resource;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ResourceManager} implementation for accessing the data stored in files
+ * of the given directory (ROM files are named the same as application raw resources).
+ */
+public class FileResourceManager implements ResourceManager {
+    private final Map<String, String> romFileNames = new HashMap<>();
+
+    private final File directory;
+
+    public FileResourceManager(File directory) {
+        this.directory = directory;
+        addReadOnlyMemoryFileNames();
+    }
+
+    private void addReadOnlyMemoryFileNames() {
+        addReadOnlyMemoryFileName(ROM_MONITOR_10, "monit10.rom");
+        addReadOnlyMemoryFileName(ROM_BASIC_10_1, "basic10_1.rom");
+        addReadOnlyMemoryFileName(ROM_BASIC_10_2, "basic10_2.rom");
+        addReadOnlyMemoryFileName(ROM_BASIC_10_3, "basic10_3.rom");
+        addReadOnlyMemoryFileName(ROM_FOCAL_10, "focal.rom");
+        addReadOnlyMemoryFileName(ROM_MSTD_10, "tests.rom");
+        addReadOnlyMemoryFileName(ROM_FLOPPY_BIOS, "disk_327.rom");
+        addReadOnlyMemoryFileName(ROM_MSTD_11M, "mstd11m.rom");
+        addReadOnlyMemoryFileName(ROM_SMK_BIOS, "disk_smk512_v205.rom");
+        addReadOnlyMemoryFileName(ROM_BASIC_11M_0, "basic11m_0.rom");
+        addReadOnlyMemoryFileName(ROM_BASIC_11M_1, "basic11m_1.rom");
+        addReadOnlyMemoryFileName(ROM_EXT_BOS_11M, "ext11m.rom");
+        addReadOnlyMemoryFileName(ROM_BOS_11M, "bos11m.rom");
+    }
+
+    private void addReadOnlyMemoryFileName(String romId, String romFileName) {
+        romFileNames.put(romId, romFileName);
+    }
+
+    /**
+     * Get resources directory.
+     * @return resources directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public byte[] getReadOnlyMemoryData(String romId) throws IOException {
+        String romFileName = romFileNames.get(romId);
+        if (romFileName == null) {
+            throw new IOException("Unknown ROM ID: " + romId);
+        }
+        return loadFileData(new File(directory, romFileName));
+    }
+
+    /**
+     * Load file data.
+     * @param file file to load
+     * @return read file data
+     * @throws IOException in case of loading error
+     */
+    private static byte[] loadFileData(File file) throws IOException {
+        byte[] fileData = new byte[(int) file.length()];
+        try (DataInputStream fileDataStream = new DataInputStream(new FileInputStream(file))) {
+            fileDataStream.readFully(fileData);
+        }
+        return fileData;
+    }
+}
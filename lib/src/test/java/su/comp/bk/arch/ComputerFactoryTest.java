@@ -137,6 +137,10 @@ public class ComputerFactoryTest extends ResourceFileTestBase {
     }
 
     protected String execute(int address, String expectedOutput) {
+        return execute(address, expectedOutput, false);
+    }
+
+    protected String execute(int address, String expectedOutput, boolean isBlockExecution) {
         boolean isSuccess = false;
         Cpu cpu = computer.getCpu();
         cpu.writeRegister(false, Cpu.PC, address);
@@ -148,7 +152,11 @@ public class ComputerFactoryTest extends ResourceFileTestBase {
                     // Test error, halt opcode encountered
                     break;
                 }
-                cpu.executeNextOperation();
+                if (isBlockExecution) {
+                    cpu.executeNextBlock();
+                } else {
+                    cpu.executeNextOperation();
+                }
                 // Check fot pending terminal interrupt requested by the test fixture
                 if (pendingInterruptTicks >= 0 && --pendingInterruptTicks < 0) {
                     computer.getCpu().requestVirq(064);
@@ -183,6 +191,14 @@ public class ComputerFactoryTest extends ResourceFileTestBase {
                 execute(0200, "\r\nK pPOXOd"));
     }
 
+    // General instructions test (basic blocks execution)
+    @Test
+    public void test791401BlockExecution() throws Exception {
+        setupTestData("791401");
+        assertNull("Failed fixture octal number",
+                execute(0200, "\r\n\016k prohod", true));
+    }
+
     // Memory test
     @Test
     public void test791323() throws Exception {
@@ -193,4 +209,14 @@ public class ComputerFactoryTest extends ResourceFileTestBase {
                         "pEPEM\r\nTCT13 bAHK   00\r\nK pPOXOd #   01"));
     }
 
+    // Memory test (basic blocks execution)
+    @Test
+    public void test791323BlockExecution() throws Exception {
+        setupTestData("791323");
+        assertNull("Failed fixture octal number",
+                execute(0200, "\r\npAMqTx\r\n000000-077776\r\nTCT13 bAHK   00\r\n" +
+                        "TCT13 bAHK   01\r\nTCT13 bAHK   02\r\nTCT13 bAHK   03\r\n" +
+                        "pEPEM\r\nTCT13 bAHK   00\r\nK pPOXOd #   01", true));
+    }
+
 }
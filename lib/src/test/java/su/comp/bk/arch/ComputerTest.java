@@ -21,9 +21,20 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
 import su.comp.bk.arch.cpu.Cpu;
+import su.comp.bk.arch.io.Device;
 import su.comp.bk.arch.io.Sel1RegisterSystemBits;
+import su.comp.bk.arch.memory.BankedMemory;
 import su.comp.bk.arch.memory.RandomAccessMemory;
+import su.comp.bk.arch.memory.ReadOnlyMemory;
+import su.comp.bk.arch.memory.SelectableMemory;
+import su.comp.bk.state.State;
 
 /**
  * {@link Computer} class unit tests.
@@ -97,4 +108,309 @@ public class ComputerTest {
         assertEquals(0340, computer.getCpu().getPswState());
     }
 
+    @Test
+    public void testInstructionStreamReading() {
+        Computer computer = new Computer();
+        Cpu cpu = computer.getCpu();
+        BankedMemory bankedMemory = new BankedMemory("TestBankedMemory", 4, 2);
+        bankedMemory.setBank(0, new RandomAccessMemory("TestBank0",
+                new short[] { 1, 2, 3, 4 }, RandomAccessMemory.Type.K565RU6));
+        bankedMemory.setBank(1, new RandomAccessMemory("TestBank1",
+                new short[] { 5, 6, 7, 8 }, RandomAccessMemory.Type.K565RU6));
+        bankedMemory.setActiveBankIndex(0);
+        computer.addMemory(0, bankedMemory);
+        assertEquals(1, cpu.readInstructionStream(false, 0));
+        assertEquals(2, cpu.readInstructionStream(false, 2));
+        assertEquals(4, cpu.readInstructionStream(true, 6));
+        // Memory writes should be visible through the instruction stream
+        assertTrue(computer.writeMemory(false, 2, 0177777));
+        assertEquals(0177777, cpu.readInstructionStream(false, 2));
+        // Bank switching should be taken into account after memory map change notification
+        bankedMemory.setActiveBankIndex(1);
+        computer.notifyMemoryMapChanged(0, 7);
+        assertEquals(5, cpu.readInstructionStream(false, 0));
+        assertEquals(8, cpu.readInstructionStream(false, 6));
+        assertEquals(Computer.BUS_ERROR, cpu.readInstructionStream(false, 010));
+    }
+
+    @Test
+    public void testMemoryPageTable() {
+        Computer computer = new Computer();
+        RandomAccessMemory ram = new RandomAccessMemory("TestMemory", 01000,
+                RandomAccessMemory.Type.OTHER);
+        computer.addMemory(0, ram);
+        short[] romData = new short[0200];
+        romData[0] = (short) 0123456;
+        SelectableMemory selectableRom = new SelectableMemory("TestRom",
+                new ReadOnlyMemory("TestRom", romData), false);
+        computer.addMemory(0400, selectableRom);
+        BankedMemory bankedMemory = new BankedMemory("TestBankedMemory", 0200, 2);
+        bankedMemory.setBank(0, new RandomAccessMemory("TestBank0", 0200,
+                RandomAccessMemory.Type.OTHER));
+        bankedMemory.setBank(1, new RandomAccessMemory("TestBank1", 0200,
+                RandomAccessMemory.Type.OTHER));
+        bankedMemory.setActiveBankIndex(0);
+        computer.addMemory(01000, bankedMemory);
+        // Unselected ROM page should be transparent for RAM accesses
+        assertTrue(computer.writeMemory(false, 0400, 0154321));
+        assertEquals(0154321, computer.readMemory(false, 0400));
+        assertEquals(0321, computer.readMemory(true, 0400));
+        assertEquals(0330, computer.readMemory(true, 0401));
+        // Selected ROM page should be read from ROM and written to the RAM below it
+        selectableRom.setSelected(true);
+        computer.notifyMemoryMapChanged(0400, 0777);
+        assertEquals(0123456, computer.readMemory(false, 0400));
+        assertTrue(computer.writeMemory(true, 0401, 0377));
+        assertEquals(0123456, computer.readMemory(false, 0400));
+        selectableRom.setSelected(false);
+        computer.notifyMemoryMapChanged(0400, 0777);
+        assertEquals(0177721, computer.readMemory(false, 0400));
+        // Banked memory page should follow bank switching
+        assertTrue(computer.writeMemory(false, 01002, 1));
+        bankedMemory.setActiveBankIndex(1);
+        computer.notifyMemoryMapChanged(01000, 01377);
+        assertEquals(0, computer.readMemory(false, 01002));
+        assertTrue(computer.writeMemory(false, 01002, 2));
+        bankedMemory.setActiveBankIndex(0);
+        computer.notifyMemoryMapChanged(01000, 01377);
+        assertEquals(1, computer.readMemory(false, 01002));
+        // Watched word writes should be reported
+        final int[] changedWordIndex = { -2 };
+        ram.setWriteWatchListener(new RandomAccessMemory.WriteWatchListener() {
+            @Override
+            public void watchedWordChanged(RandomAccessMemory memory, int wordIndex) {
+                changedWordIndex[0] = wordIndex;
+            }
+        });
+        ram.watchWord(3);
+        assertTrue(computer.writeMemory(false, 6, 1));
+        assertEquals(3, changedWordIndex[0]);
+    }
+
+    @Test
+    public void testDeviceWriteDispatch() {
+        Computer computer = new Computer();
+        TestDevice firstDevice = new TestDevice();
+        TestDevice secondDevice = new TestDevice();
+        computer.addDevice(firstDevice);
+        computer.addDevice(secondDevice);
+        assertTrue(computer.isDeviceWriteEnabled(firstDevice));
+        assertTrue(computer.writeMemory(false, Cpu.REG_SEL2, 1));
+        assertEquals(1, firstDevice.writeCount);
+        assertEquals(1, secondDevice.writeCount);
+        // Disabled device should not be called on writes
+        computer.setDeviceWriteEnabled(firstDevice, false);
+        assertFalse(computer.isDeviceWriteEnabled(firstDevice));
+        assertTrue(computer.writeMemory(false, Cpu.REG_SEL2, 2));
+        assertEquals(1, firstDevice.writeCount);
+        assertEquals(2, secondDevice.writeCount);
+        // Writes to the address with all devices disabled should be acknowledged
+        computer.setDeviceWriteEnabled(secondDevice, false);
+        assertTrue(computer.writeMemory(true, Cpu.REG_SEL2, 3));
+        assertEquals(1, firstDevice.writeCount);
+        assertEquals(2, secondDevice.writeCount);
+        // Reads should be dispatched to disabled devices
+        assertEquals(0, computer.readMemory(false, Cpu.REG_SEL2));
+        computer.setDeviceWriteEnabled(firstDevice, true);
+        computer.setDeviceWriteEnabled(secondDevice, true);
+        assertTrue(computer.writeMemory(false, Cpu.REG_SEL2, 4));
+        assertEquals(2, firstDevice.writeCount);
+        assertEquals(3, secondDevice.writeCount);
+    }
+
+    @Test
+    public void testCommandQueue() throws Exception {
+        Computer computer = new Computer();
+        RandomAccessMemory ram = new RandomAccessMemory("TestMemory", 020000,
+                RandomAccessMemory.Type.OTHER);
+        ram.getData()[01000 >> 1] = 0777; // BR .
+        computer.addMemory(0, ram);
+        computer.addDevice(new Sel1RegisterSystemBits(01000));
+        computer.setClockFrequency(Computer.CLOCK_FREQUENCY_BK0010);
+        Callable<String> threadNameCommand = new Callable<String>() {
+            @Override
+            public String call() {
+                return Thread.currentThread().getName();
+            }
+        };
+        // Commands are executed in the calling thread if computer is not running
+        assertEquals(Thread.currentThread().getName(),
+                computer.executeCommand(threadNameCommand));
+        computer.start();
+        try {
+            // Commands are executed in the emulation thread while computer is paused
+            assertEquals("ComputerClockThread", computer.executeCommand(threadNameCommand));
+            computer.resume();
+            // Commands are executed in the emulation thread in submission order
+            final List<Integer> executedCommands = new ArrayList<>();
+            Future<?> lastCommandFuture = null;
+            for (int i = 0; i < 10; i++) {
+                final int commandIndex = i;
+                lastCommandFuture = computer.submitCommand(new Runnable() {
+                    @Override
+                    public void run() {
+                        executedCommands.add(commandIndex);
+                    }
+                });
+            }
+            lastCommandFuture.get();
+            assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", executedCommands.toString());
+            assertEquals("ComputerClockThread", computer.executeCommand(threadNameCommand));
+            // Command exceptions are passed to the caller
+            try {
+                computer.executeCommand(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        throw new IOException("test");
+                    }
+                });
+                fail("IOException expected");
+            } catch (IOException e) {
+                assertEquals("test", e.getMessage());
+            }
+            computer.reset();
+            assertFalse(computer.isPaused());
+        } finally {
+            computer.stop();
+        }
+    }
+
+    @Test
+    public void testPause() throws Exception {
+        final Computer computer = new Computer();
+        RandomAccessMemory ram = new RandomAccessMemory("TestMemory", 020000,
+                RandomAccessMemory.Type.OTHER);
+        ram.getData()[01000 >> 1] = 005200; // INC R0
+        ram.getData()[01002 >> 1] = 0776; // BR 1000
+        computer.addMemory(0, ram);
+        computer.addDevice(new Sel1RegisterSystemBits(01000));
+        computer.setClockFrequency(Computer.CLOCK_FREQUENCY_BK0010);
+        final Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.PC, 01000);
+        computer.start();
+        long startTime = cpu.getTime();
+        try {
+            computer.resume();
+            // Wait for CPU progress
+            for (int i = 0; i < 100 && cpu.getTime() == startTime; i++) {
+                Thread.sleep(10L);
+            }
+            // CPU state must not be changed after return from pause
+            computer.pause();
+            assertTrue(computer.isPaused());
+            long pausedTime = cpu.getTime();
+            int pausedCounter = cpu.readRegister(false, Cpu.R0);
+            assertTrue(pausedTime > startTime);
+            Thread.sleep(100L);
+            assertEquals(pausedTime, computer.executeCommand(new Callable<Long>() {
+                @Override
+                public Long call() {
+                    return cpu.getTime();
+                }
+            }).longValue());
+            assertEquals(pausedCounter, cpu.readRegister(false, Cpu.R0));
+            // Pause from the emulation thread stops execution at the next instruction
+            cpu.setPcHook(01002, new Cpu.OnPcHookListener() {
+                @Override
+                public boolean onPcHook(Cpu cpu, int address) {
+                    if (cpu.readRegister(false, Cpu.R0) == 10) {
+                        computer.pause();
+                    }
+                    return false;
+                }
+            });
+            cpu.writeRegister(false, Cpu.R0, 0);
+            computer.resume();
+            for (int i = 0; i < 100 && !computer.isPaused(); i++) {
+                Thread.sleep(10L);
+            }
+            assertTrue(computer.isPaused());
+            int[] registers = computer.executeCommand(new Callable<int[]>() {
+                @Override
+                public int[] call() {
+                    return new int[] { cpu.readRegister(false, Cpu.R0),
+                            cpu.readRegister(false, Cpu.PC) };
+                }
+            });
+            assertEquals(10, registers[0]);
+            assertEquals(01002, registers[1]);
+        } finally {
+            computer.stop();
+        }
+    }
+
+    @Test
+    public void testSpeedMultiplier() throws Exception {
+        Computer computer = new Computer();
+        RandomAccessMemory ram = new RandomAccessMemory("TestMemory", 020000,
+                RandomAccessMemory.Type.OTHER);
+        ram.getData()[01000 >> 1] = 0777; // BR .
+        computer.addMemory(0, ram);
+        computer.addDevice(new Sel1RegisterSystemBits(01000));
+        computer.setClockFrequency(Computer.CLOCK_FREQUENCY_BK0010);
+        try {
+            computer.setSpeedMultiplier(-1);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertFalse(computer.isFastForwarding());
+        computer.start();
+        try {
+            computer.setSpeedMultiplier(4);
+            assertEquals(4, computer.getSpeedMultiplier());
+            assertTrue(computer.isFastForwarding());
+            computer.resume();
+            computer.getEffectiveClockFrequency();
+            Thread.sleep(300L);
+            // Fast-forwarded emulation must run faster than real time
+            assertTrue(computer.getEffectiveClockFrequency()
+                    > 2 * Computer.CLOCK_FREQUENCY_BK0010);
+            computer.setSpeedMultiplier(Computer.SPEED_MULTIPLIER_NORMAL);
+            assertFalse(computer.isFastForwarding());
+            computer.getEffectiveClockFrequency();
+            Thread.sleep(300L);
+            // Emulation must be throttled back to real time
+            assertTrue(computer.getEffectiveClockFrequency()
+                    < 2 * Computer.CLOCK_FREQUENCY_BK0010);
+        } finally {
+            computer.stop();
+        }
+    }
+
+    private static class TestDevice implements Device {
+        private final static int[] ADDRESSES = { Cpu.REG_SEL2 };
+
+        int writeCount;
+
+        @Override
+        public int[] getAddresses() {
+            return ADDRESSES;
+        }
+
+        @Override
+        public void init(long cpuTime, boolean isHardwareReset) {
+            writeCount = 0;
+        }
+
+        @Override
+        public int read(long cpuTime, int address) {
+            return 0;
+        }
+
+        @Override
+        public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
+            writeCount++;
+            return true;
+        }
+
+        @Override
+        public void saveState(State outState) {
+            // Do nothing
+        }
+
+        @Override
+        public void restoreState(State inState) {
+            // Do nothing
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link EventScheduler} class unit tests.
+ */
+public class EventSchedulerTest {
+
+    private static class PeriodicEventHandler implements EventScheduler.EventHandler {
+        private final String name;
+        private final long period;
+        private final List<String> events;
+
+        PeriodicEventHandler(String name, long period, List<String> events) {
+            this.name = name;
+            this.period = period;
+            this.events = events;
+        }
+
+        @Override
+        public long handleEvent(long time) {
+            events.add(name + time);
+            return (time / period + 1) * period;
+        }
+    }
+
+    @Test
+    public void testEventsDispatching() {
+        EventScheduler scheduler = new EventScheduler();
+        List<String> events = new ArrayList<>();
+        PeriodicEventHandler lineHandler = new PeriodicEventHandler("L", 10, events);
+        PeriodicEventHandler frameHandler = new PeriodicEventHandler("F", 25, events);
+        assertEquals(EventScheduler.NO_EVENT, scheduler.getNextEventTime());
+        scheduler.schedule(frameHandler, 25);
+        scheduler.schedule(lineHandler, 10);
+        assertEquals(10, scheduler.getNextEventTime());
+        scheduler.dispatchEvents(9);
+        assertTrue(events.isEmpty());
+        scheduler.dispatchEvents(10);
+        assertEquals(20, scheduler.getEventTime(lineHandler));
+        scheduler.dispatchEvents(25);
+        scheduler.dispatchEvents(30);
+        assertEquals("[L10, L25, F25, L30]", events.toString());
+        assertEquals(40, scheduler.getNextEventTime());
+        // Cancelled events should not be dispatched
+        scheduler.cancel(lineHandler);
+        assertEquals(EventScheduler.NO_EVENT, scheduler.getEventTime(lineHandler));
+        assertEquals(50, scheduler.getNextEventTime());
+        // Rescheduled events should be dispatched at the new time
+        scheduler.schedule(frameHandler, 31);
+        scheduler.rescheduleAll(35);
+        events.clear();
+        scheduler.dispatchEvents(35);
+        assertEquals("[F35]", events.toString());
+        assertEquals(50, scheduler.getNextEventTime());
+    }
+
+    @Test
+    public void testEventsOrdering() {
+        EventScheduler scheduler = new EventScheduler();
+        List<String> events = new ArrayList<>();
+        for (int i = 7; i >= 0; i--) {
+            scheduler.schedule(new PeriodicEventHandler(Integer.toString(i), 1000, events),
+                    i * 10);
+        }
+        scheduler.dispatchEvents(999);
+        assertEquals("[0999, 1999, 2999, 3999, 4999, 5999, 6999, 7999]", events.toString());
+        assertEquals(1000, scheduler.getNextEventTime());
+    }
+
+    private static class PeriodicInterruptEventHandler extends PeriodicEventHandler
+            implements EventScheduler.InterruptEventHandler {
+        PeriodicInterruptEventHandler(String name, long period, List<String> events) {
+            super(name, period, events);
+        }
+    }
+
+    @Test
+    public void testInterruptEvents() {
+        EventScheduler scheduler = new EventScheduler();
+        List<String> events = new ArrayList<>();
+        PeriodicEventHandler lineHandler = new PeriodicEventHandler("L", 10, events);
+        PeriodicEventHandler frameHandler = new PeriodicInterruptEventHandler("F", 25, events);
+        scheduler.schedule(lineHandler, 10);
+        assertEquals(EventScheduler.NO_EVENT, scheduler.getNextInterruptEventTime());
+        scheduler.schedule(frameHandler, 25);
+        assertEquals(10, scheduler.getNextEventTime());
+        assertEquals(25, scheduler.getNextInterruptEventTime());
+        scheduler.dispatchEvents(25);
+        assertEquals("[L25, F25]", events.toString());
+        assertEquals(30, scheduler.getNextEventTime());
+        assertEquals(50, scheduler.getNextInterruptEventTime());
+        // Removed interrupt capable event handler shouldn't affect remaining handlers
+        scheduler.cancel(frameHandler);
+        assertEquals(EventScheduler.NO_EVENT, scheduler.getNextInterruptEventTime());
+        scheduler.schedule(lineHandler, 40);
+        scheduler.schedule(frameHandler, 35);
+        assertEquals(35, scheduler.getNextEventTime());
+        assertEquals(35, scheduler.getNextInterruptEventTime());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInvalidNextEventTime() {
+        EventScheduler scheduler = new EventScheduler();
+        scheduler.schedule(new EventScheduler.EventHandler() {
+            @Override
+            public long handleEvent(long time) {
+                return time;
+            }
+        }, 0);
+        scheduler.dispatchEvents(0);
+    }
+}
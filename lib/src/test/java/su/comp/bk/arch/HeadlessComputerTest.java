@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import su.comp.bk.ResourceFileTestBase;
+import su.comp.bk.arch.cpu.Cpu;
+import su.comp.bk.resource.FileResourceManager;
+
+/**
+ * {@link HeadlessComputer} class unit tests.
+ */
+public class HeadlessComputerTest extends ResourceFileTestBase {
+    private final static String MONITOR_ROM_FILE_NAME = "monit10.rom";
+
+    // Monitor keyboard input waiting loop address
+    private final static int MONITOR_KEY_WAIT_ADDRESS = 0101044;
+    // Maximum CPU time to wait for monitor initialization (in CPU ticks)
+    private final static long MAX_INITIALIZATION_TICKS = 10000000L;
+
+    private HeadlessComputer createHeadlessComputer() throws Exception {
+        return new HeadlessComputer(Computer.Configuration.BK_0010_MONITOR,
+                new FileResourceManager(getTestResourceFile(MONITOR_ROM_FILE_NAME)
+                        .getParentFile()));
+    }
+
+    @Test
+    public void testRunUntilPc() throws Exception {
+        HeadlessComputer headlessComputer = createHeadlessComputer();
+        Computer computer = headlessComputer.getComputer();
+        assertTrue(headlessComputer.runUntilPc(MONITOR_KEY_WAIT_ADDRESS,
+                MAX_INITIALIZATION_TICKS));
+        assertEquals(MONITOR_KEY_WAIT_ADDRESS, computer.getCpu().readRegister(false, Cpu.PC));
+        assertTrue(computer.getUptimeTicks() < MAX_INITIALIZATION_TICKS);
+        // Monitor must display something on the screen after initialization
+        headlessComputer.renderFrame();
+        assertEquals(1, headlessComputer.getFrameRenderer().getRenderedFramesCount());
+        boolean isScreenEmpty = true;
+        for (short pixels : headlessComputer.getFrameRenderer().getPixelData()) {
+            if (pixels != 0) {
+                isScreenEmpty = false;
+                break;
+            }
+        }
+        assertFalse(isScreenEmpty);
+        // Not reached address
+        long uptimeTicks = computer.getUptimeTicks();
+        assertFalse(headlessComputer.runUntilPc(0500, 100000L));
+        assertTrue(computer.getUptimeTicks() >= uptimeTicks + 100000L);
+        assertTrue(computer.getCpu().readRegister(false, Cpu.PC) >= 0100000);
+    }
+
+    @Test
+    public void testRun() throws Exception {
+        HeadlessComputer headlessComputer = createHeadlessComputer();
+        Computer computer = headlessComputer.getComputer();
+        long uptimeTicks = computer.getUptimeTicks();
+        headlessComputer.run(Computer.CLOCK_FREQUENCY_BK0010 * 1000L);
+        assertTrue(computer.getUptimeTicks() >= uptimeTicks
+                + Computer.CLOCK_FREQUENCY_BK0010 * 1000L);
+        // Headless emulation must not be throttled to real time
+        assertTrue(computer.isFastForwarding());
+        // Condition is checked at execution slice boundaries
+        final int[] checksCount = new int[1];
+        assertTrue(headlessComputer.runUntil(new HeadlessComputer.StopCondition() {
+            @Override
+            public boolean isMet(Computer computer) {
+                return ++checksCount[0] == 10;
+            }
+        }, MAX_INITIALIZATION_TICKS));
+        assertEquals(10, checksCount[0]);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+import static org.junit.Assert.*;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import su.comp.bk.ResourceFileTestBase;
+import su.comp.bk.arch.cpu.Cpu;
+import su.comp.bk.arch.io.Device;
+import su.comp.bk.arch.io.KeyboardController;
+import su.comp.bk.arch.io.PeripheralPort;
+import su.comp.bk.arch.io.Sel1RegisterSystemBits;
+import su.comp.bk.arch.io.VideoController;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+import su.comp.bk.arch.memory.ReadOnlyMemory;
+import su.comp.bk.resource.ResourceManager;
+import su.comp.bk.state.State;
+
+/**
+ * {@link MonitorServicesEmulator} class unit tests.
+ */
+public class MonitorServicesEmulatorTest extends ResourceFileTestBase {
+    private final static String MONITOR_ROM_FILE_NAME = "monit10.rom";
+
+    private final static int PROGRAM_ADDRESS = 01000;
+    private final static int STACK_AREA_START_ADDRESS = 0600;
+    private final static int KEY_CODE_ADDRESS = 01776;
+    private final static long MAX_EXECUTION_TIME = 100000000L;
+
+    // Test program: print characters (with line wrapping and screen scrolling),
+    // strings (with line feeds, screen clearing and not emulated control characters)
+    // and read already received key
+    private final static int[] PROGRAM = {
+            0012706, 001000,         // 01000: MOV #1000,SP
+            0104014,                 // 01004: EMT 14
+            0012700, 000101,         // 01006: MOV #101,R0
+            0012703, 003100,         // 01012: MOV #3100,R3
+            0104016,                 // 01016: EMT 16
+            0005200,                 // 01020: INC R0
+            0042700, 0177600,        // 01022: BIC #177600,R0
+            0052700, 000040,         // 01026: BIS #40,R0
+            0077307,                 // 01032: SOB R3,01016
+            0012701, 001200,         // 01034: MOV #1200,R1
+            0012702, 000025,         // 01040: MOV #25,R2
+            0104020,                 // 01044: EMT 20
+            0012701, 001300,         // 01046: MOV #1300,R1
+            0012702, 0027377,        // 01052: MOV #<'.'*400+377>,R2
+            0104020,                 // 01056: EMT 20
+            0012701, 001400,         // 01060: MOV #1400,R1
+            0012702, 000377,         // 01064: MOV #377,R2
+            0104020,                 // 01070: EMT 20
+            0012700, 000010,         // 01072: MOV #10,R0
+            0104016,                 // 01076: EMT 16
+            0112737, 000113, 000104, // 01100: MOVB #113,@#104
+            0112737, 000001, 000105, // 01106: MOVB #1,@#105
+            0104006,                 // 01114: EMT 6
+            0010037, 001776,         // 01116: MOV R0,@#1776
+            0000777                  // 01122: BR 01122
+    };
+    private final static int PROGRAM_END_ADDRESS = 01122;
+
+    // Test program strings
+    private final static int[] STRING_ADDRESSES = { 01200, 01300, 01400 };
+    private final static String[] STRINGS = {
+            "Hello, world!\n\u00f0\u00f1\u00f2\u00f3\n\u00ff\u00e0",
+            "\u000ccleared\n\n\nThe end. Not printed",
+            "Not emulated\u0001\u0000"
+    };
+
+    // Video controller scroll register
+    static class TestScrollRegister implements Device {
+        private final static int[] ADDRESSES = { VideoController.CONTROL_REGISTER_ADDRESS };
+
+        private int value = 01330;
+
+        @Override
+        public int[] getAddresses() {
+            return ADDRESSES;
+        }
+
+        @Override
+        public void init(long cpuTime, boolean isHardwareReset) {
+            // Do nothing
+        }
+
+        @Override
+        public void saveState(State outState) {
+            // Do nothing
+        }
+
+        @Override
+        public void restoreState(State inState) {
+            // Do nothing
+        }
+
+        @Override
+        public int read(long cpuTime, int address) {
+            return value;
+        }
+
+        @Override
+        public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
+            this.value = value & 01377;
+            return true;
+        }
+    }
+
+    private Computer createComputer(boolean isEmulationEnabled) throws Exception {
+        Computer computer = new Computer();
+        computer.setConfiguration(Computer.Configuration.BK_0010_MONITOR);
+        computer.setClockFrequency(Computer.CLOCK_FREQUENCY_BK0010);
+        RandomAccessMemory workMemory = new RandomAccessMemory("TestWorkMemory",
+                020000, RandomAccessMemory.Type.K565RU6);
+        computer.addMemory(0, workMemory);
+        RandomAccessMemory videoMemory = new RandomAccessMemory("TestVideoMemory",
+                020000, RandomAccessMemory.Type.K565RU6);
+        computer.addMemory(040000, videoMemory);
+        computer.addMemory(0100000, new ReadOnlyMemory(ResourceManager.ROM_MONITOR_10,
+                FileUtils.readFileToByteArray(getTestResourceFile(MONITOR_ROM_FILE_NAME))));
+        computer.addDevice(new Sel1RegisterSystemBits(0100000));
+        computer.addDevice(new KeyboardController(computer));
+        computer.addDevice(new PeripheralPort());
+        computer.addDevice(new TestScrollRegister());
+        computer.writeMemory(false, Cpu.TRAP_VECTOR_EMT,
+                MonitorServicesEmulator.EMT_HANDLER_ADDRESS);
+        computer.writeMemory(false, Cpu.TRAP_VECTOR_EMT + 2, Cpu.PSW_FLAG_P);
+        for (int i = 0; i < PROGRAM.length; i++) {
+            computer.writeMemory(false, PROGRAM_ADDRESS + i * 2, PROGRAM[i]);
+        }
+        for (int i = 0; i < STRINGS.length; i++) {
+            for (int j = 0; j < STRINGS[i].length(); j++) {
+                computer.writeMemory(true, STRING_ADDRESSES[i] + j, STRINGS[i].charAt(j));
+            }
+        }
+        MonitorServicesEmulator emulator = new MonitorServicesEmulator(computer);
+        emulator.setEnabled(isEmulationEnabled);
+        assertEquals(isEmulationEnabled, emulator.isEnabled());
+        Cpu cpu = computer.getCpu();
+        cpu.setPswState(0);
+        cpu.writeRegister(false, Cpu.PC, PROGRAM_ADDRESS);
+        return computer;
+    }
+
+    private void executeProgram(Computer computer) {
+        Cpu cpu = computer.getCpu();
+        while (cpu.readRegister(false, Cpu.PC) != PROGRAM_END_ADDRESS
+                && cpu.getTime() < MAX_EXECUTION_TIME) {
+            cpu.executeNextBlock();
+        }
+        assertEquals(PROGRAM_END_ADDRESS, cpu.readRegister(false, Cpu.PC));
+    }
+
+    @Test
+    public void testServicesEmulation() throws Exception {
+        Computer referenceComputer = createComputer(false);
+        executeProgram(referenceComputer);
+        Computer computer = createComputer(true);
+        executeProgram(computer);
+        Cpu referenceCpu = referenceComputer.getCpu();
+        Cpu cpu = computer.getCpu();
+        // Emulated services should be executed faster than monitor ROM routines
+        assertTrue(cpu.getTime() < referenceCpu.getTime() / 2);
+        // Check CPU state
+        assertEquals(referenceCpu.getPswState(), cpu.getPswState());
+        for (int register = Cpu.R0; register <= Cpu.PC; register++) {
+            assertEquals("R" + register, referenceCpu.readRegister(false, register),
+                    cpu.readRegister(false, register));
+        }
+        assertEquals('K', computer.readMemory(false, KEY_CODE_ADDRESS));
+        assertEquals(0, computer.readMemory(true, 0105));
+        // Check memory and scroll register state (excluding stack area)
+        for (int address = 0; address < 0100000; address += 2) {
+            if (address < STACK_AREA_START_ADDRESS || address >= PROGRAM_ADDRESS) {
+                assertEquals("address " + Integer.toOctalString(address),
+                        referenceComputer.readMemory(false, address),
+                        computer.readMemory(false, address));
+            }
+        }
+        assertEquals(referenceComputer.readMemory(false, VideoController.CONTROL_REGISTER_ADDRESS),
+                computer.readMemory(false, VideoController.CONTROL_REGISTER_ADDRESS));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * {@link PacingStatistics} class unit tests.
+ */
+public class PacingStatisticsTest {
+
+    @Test
+    public void testStatistics() {
+        PacingStatistics statistics = new PacingStatistics();
+        assertEquals(0, statistics.getAverageJitter());
+        assertEquals(0, statistics.getJitterDeviation());
+        statistics.update(false, 1000L);
+        statistics.update(false, 3000L);
+        statistics.update(true, 0L);
+        PacingStatistics snapshot = new PacingStatistics(statistics);
+        statistics.reset();
+        assertEquals(0, statistics.getFramesCount());
+        assertEquals(3, snapshot.getFramesCount());
+        assertEquals(1, snapshot.getLateFramesCount());
+        assertEquals(2, snapshot.getSleepsCount());
+        assertEquals(2000L, snapshot.getAverageJitter());
+        assertEquals(1000L, snapshot.getJitterDeviation());
+        assertEquals(3000L, snapshot.getMaximumJitter());
+        assertEquals("frames: 3, late: 1, jitter avg/dev/max (us): 2/1/3", snapshot.toString());
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import su.comp.bk.arch.Computer;
+import su.comp.bk.arch.cpu.opcode.BeqOpcode;
+import su.comp.bk.arch.cpu.opcode.BrOpcode;
+import su.comp.bk.arch.cpu.opcode.ConditionCodeOpcodes;
+import su.comp.bk.arch.cpu.opcode.IncOpcode;
+import su.comp.bk.arch.cpu.opcode.MovOpcode;
+import su.comp.bk.arch.cpu.opcode.TstOpcode;
+import su.comp.bk.arch.cpu.opcode.WaitOpcode;
+import su.comp.bk.arch.io.Sel1RegisterSystemBits;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+
+/**
+ * {@link BasicBlockCache} class unit tests.
+ */
+public class BasicBlockCacheTest {
+
+    private Computer computer;
+
+    private BasicBlockCache basicBlockCache;
+
+    @Before
+    public void setUp() {
+        computer = new Computer();
+        computer.addDevice(new Sel1RegisterSystemBits(0100000));
+        computer.addMemory(01000, new RandomAccessMemory("TestRam", new short[] {
+                MovOpcode.OPCODE | (027 << 6),   // 01000: MOV #1, R0
+                1,
+                IncOpcode.OPCODE | 1,            // 01004: INC R1
+                ConditionCodeOpcodes.OPCODE_NOP, // 01006: NOP
+                (short) (BrOpcode.OPCODE | 0377), // 01010: BR 01010
+                ConditionCodeOpcodes.OPCODE_NOP, // 01012: NOP
+                TstOpcode.OPCODE | 037,          // 01014: TST @#01024
+                01024,
+                BeqOpcode.OPCODE | 0375,         // 01020: BEQ 01014
+                ConditionCodeOpcodes.OPCODE_NOP, // 01022: NOP
+                0                                // 01024: polled word
+        }, RandomAccessMemory.Type.OTHER));
+        basicBlockCache = new BasicBlockCache(computer.getCpu(), computer);
+    }
+
+    @Test
+    public void testBlockBuilding() {
+        BasicBlock block = basicBlockCache.getBlock(01000);
+        assertNotNull(block);
+        assertEquals(01000, block.getStartAddress());
+        assertEquals(4, block.getOpcodes().length);
+        assertEquals(BrOpcode.OPCODE, block.getOpcodes()[3].getOpcode());
+        assertSame(block, basicBlockCache.getBlock(01000));
+        // Block starting in the middle of other block
+        block = basicBlockCache.getBlock(01004);
+        assertNotNull(block);
+        assertEquals(3, block.getOpcodes().length);
+        // Odd and not mapped addresses
+        assertNull(basicBlockCache.getBlock(01001));
+        assertNull(basicBlockCache.getBlock(02000));
+    }
+
+    @Test
+    public void testProgramCounterAutodecrementFlowControl() {
+        Cpu cpu = computer.getCpu();
+        // Instructions moving PC register back should terminate the block
+        assertTrue(cpu.decodeInstruction(MovOpcode.OPCODE | (047 << 6)).isFlowControl());
+        assertTrue(cpu.decodeInstruction(MovOpcode.OPCODE | 057).isFlowControl());
+        assertTrue(cpu.decodeInstruction(TstOpcode.OPCODE | 047).isFlowControl());
+        // Immediate and absolute operands advance PC register only
+        assertFalse(cpu.decodeInstruction(MovOpcode.OPCODE | (027 << 6) | 037).isFlowControl());
+        assertFalse(cpu.decodeInstruction(TstOpcode.OPCODE | 037).isFlowControl());
+    }
+
+    @Test
+    public void testBlockInvalidationOnWrite() {
+        BasicBlock block = basicBlockCache.getBlock(01000);
+        // Immediate operand change should not invalidate the block
+        assertTrue(computer.writeMemory(false, 01002, 2));
+        assertTrue(block.isValid());
+        // Same instruction value write should not invalidate the block
+        assertTrue(computer.writeMemory(false, 01006, ConditionCodeOpcodes.OPCODE_NOP));
+        assertTrue(block.isValid());
+        // Instruction change should invalidate the block
+        assertTrue(computer.writeMemory(true, 01006, ConditionCodeOpcodes.OPCODE_SCC));
+        assertFalse(block.isValid());
+        BasicBlock rebuiltBlock = basicBlockCache.getBlock(01000);
+        assertNotSame(block, rebuiltBlock);
+        assertEquals(ConditionCodeOpcodes.OPCODE_SCC, rebuiltBlock.getOpcodes()[2].getOpcode());
+    }
+
+    @Test
+    public void testBlockInvalidationOnMemoryMapChange() {
+        BasicBlock block = basicBlockCache.getBlock(01000);
+        basicBlockCache.invalidate(02000, 03777);
+        assertTrue(block.isValid());
+        basicBlockCache.invalidate(0, 01777);
+        assertFalse(block.isValid());
+        assertNotSame(block, basicBlockCache.getBlock(01000));
+    }
+
+    @Test
+    public void testBlockExecution() {
+        Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.PC, 01000);
+        // Masked interrupt request should not stop block execution
+        cpu.setPswState(Cpu.PSW_FLAG_P);
+        cpu.requestIrq2();
+        cpu.executeNextBlock();
+        assertEquals(01010, cpu.readRegister(false, Cpu.PC));
+        assertEquals(1, cpu.readRegister(false, Cpu.R0));
+        assertEquals(1, cpu.readRegister(false, Cpu.R1));
+        assertEquals(24 + 12 + 12 + 16, cpu.getTime());
+        assertTrue(cpu.isIrq2Requested());
+    }
+
+    @Test
+    public void testHotBlockChaining() {
+        Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.PC, 01010);
+        for (int i = 1; i < BasicBlock.HOT_BLOCK_THRESHOLD; i++) {
+            cpu.executeNextBlock();
+            assertEquals(i * 16L, cpu.getTime());
+        }
+        // Hot block should be chained to itself and executed repeatedly
+        // until chain execution time limit is reached
+        long startTime = cpu.getTime();
+        cpu.executeNextBlock();
+        assertEquals(01010, cpu.readRegister(false, Cpu.PC));
+        assertTrue(cpu.getTime() - startTime > 16);
+    }
+
+    @Test
+    public void testExecutionSlice() {
+        Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.PC, 01010);
+        cpu.execute(1000);
+        assertTrue(cpu.getTime() >= 1000 && cpu.getTime() < 1000 + 16);
+        long endTime = cpu.getTime() + 20000;
+        cpu.execute(endTime);
+        assertTrue(cpu.getTime() >= endTime && cpu.getTime() < endTime + 16);
+    }
+
+    @Test
+    public void testPollingLoopFastForward() {
+        BasicBlock block = basicBlockCache.getBlock(01014);
+        assertTrue(block.isPollingLoop());
+        assertFalse(basicBlockCache.getBlock(01000).isPollingLoop());
+        Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.PC, 01014);
+        // Polling loop should not be fast-forwarded beyond the slice end without idle time
+        cpu.execute(1000);
+        assertTrue(cpu.getTime() < 1000 + block.getExecutionTime());
+        // Polling loop should be fast-forwarded by whole iterations up to idle end time
+        long startTime = cpu.getTime();
+        cpu.execute(2000, 100000);
+        assertEquals(01014, cpu.readRegister(false, Cpu.PC));
+        assertTrue(cpu.getTime() >= 100000
+                && cpu.getTime() < 100000 + block.getExecutionTime());
+        assertEquals(0, (cpu.getTime() - startTime) % block.getExecutionTime());
+        // Polled value change should terminate the loop (polled word becomes WAIT instruction)
+        assertTrue(computer.writeMemory(false, 01024, WaitOpcode.OPCODE));
+        cpu.execute(cpu.getTime() + 1000, cpu.getTime() + 100000);
+        assertEquals(01026, cpu.readRegister(false, Cpu.PC));
+        assertTrue(cpu.isInterruptWaitMode());
+    }
+
+    @Test
+    public void testSuperinstructionFusion() {
+        BasicBlock block = basicBlockCache.getBlock(01014);
+        assertEquals(2, block.getOpcodes().length);
+        assertEquals(1, block.getExecutionOpcodes().length);
+        assertEquals(block.getExecutionTime(), block.getExecutionTimes()[0]);
+        // Second fused instruction should not be executed if block was invalidated
+        // by the first fused instruction
+        int movInstruction = MovOpcode.OPCODE | (027 << 6) | 037;
+        computer.addMemory(02000, new RandomAccessMemory("TestRam2", new short[] {
+                (short) movInstruction,          // 02000: MOV #NOP, @#02006
+                ConditionCodeOpcodes.OPCODE_NOP,
+                02006,
+                (short) (BrOpcode.OPCODE | 0377) // 02006: BR 02006
+        }, RandomAccessMemory.Type.OTHER));
+        Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.PC, 02000);
+        cpu.executeNextBlock();
+        assertEquals(02006, cpu.readRegister(false, Cpu.PC));
+        assertEquals(cpu.decodeInstruction(movInstruction).getExecutionTime(), cpu.getTime());
+        cpu.executeNextBlock();
+        assertEquals(02010, cpu.readRegister(false, Cpu.PC));
+    }
+
+    @Test
+    public void testPcHooks() {
+        final Cpu cpu = computer.getCpu();
+        final int[] hookCallsCount = new int[1];
+        cpu.setPcHook(01004, new Cpu.OnPcHookListener() {
+            @Override
+            public boolean onPcHook(Cpu hookedCpu, int address) {
+                assertSame(cpu, hookedCpu);
+                assertEquals(01004, address);
+                assertEquals(01004, hookedCpu.readRegister(false, Cpu.PC));
+                hookCallsCount[0]++;
+                // Skip INC R1 instruction
+                hookedCpu.writeRegister(false, Cpu.PC, 01006);
+                return false;
+            }
+        });
+        // Block should be terminated before hooked address
+        assertEquals(1, basicBlockCache.getBlock(01000).getOpcodes().length);
+        cpu.writeRegister(false, Cpu.PC, 01000);
+        cpu.executeNextBlock();
+        assertEquals(01004, cpu.readRegister(false, Cpu.PC));
+        assertEquals(0, hookCallsCount[0]);
+        cpu.executeNextBlock();
+        assertEquals(1, hookCallsCount[0]);
+        assertEquals(01006, cpu.readRegister(false, Cpu.PC));
+        cpu.executeNextBlock();
+        assertEquals(01010, cpu.readRegister(false, Cpu.PC));
+        assertEquals(0, cpu.readRegister(false, Cpu.R1));
+        // Removed hook should not be called
+        cpu.setPcHook(01004, null);
+        cpu.writeRegister(false, Cpu.PC, 01000);
+        cpu.executeNextBlock();
+        assertEquals(1, hookCallsCount[0]);
+        assertEquals(1, cpu.readRegister(false, Cpu.R1));
+    }
+
+    @Test
+    public void testPcHookExecutionStop() {
+        final Cpu cpu = computer.getCpu();
+        final int[] hookCallsCount = new int[1];
+        cpu.setPcHook(01004, new Cpu.OnPcHookListener() {
+            @Override
+            public boolean onPcHook(Cpu hookedCpu, int address) {
+                hookCallsCount[0]++;
+                return true;
+            }
+        });
+        cpu.writeRegister(false, Cpu.PC, 01000);
+        cpu.execute(1000L);
+        // Execution should be stopped at hooked address
+        assertEquals(1, hookCallsCount[0]);
+        assertEquals(01004, cpu.readRegister(false, Cpu.PC));
+        assertEquals(0, cpu.readRegister(false, Cpu.R1));
+        // Stopped hook should not be called again for the same PC value
+        cpu.executeNextBlock();
+        assertEquals(1, hookCallsCount[0]);
+        assertEquals(1, cpu.readRegister(false, Cpu.R1));
+        // Hooks should be called while trace bit is set
+        cpu.setPswFlag(Cpu.PSW_FLAG_T, true);
+        cpu.writeRegister(false, Cpu.PC, 01004);
+        cpu.executeNextBlock();
+        assertEquals(2, hookCallsCount[0]);
+        assertEquals(01004, cpu.readRegister(false, Cpu.PC));
+        cpu.setPcHook(01004, null);
+    }
+
+    @Test
+    public void testSharedDecodeTables() {
+        Cpu cpu = computer.getCpu();
+        Cpu otherCpu = new Computer().getCpu();
+        // Decoded opcodes should be shared between CPU instances
+        int instruction = MovOpcode.OPCODE | (027 << 6);
+        assertSame(cpu.decodeInstruction(instruction), otherCpu.decodeInstruction(instruction));
+        // Shared blocks opcodes should execute on the CPU executing block
+        cpu.writeRegister(false, Cpu.PC, 01000);
+        cpu.executeNextBlock();
+        assertEquals(1, cpu.readRegister(false, Cpu.R0));
+        assertEquals(0, otherCpu.readRegister(false, Cpu.R0));
+    }
+}
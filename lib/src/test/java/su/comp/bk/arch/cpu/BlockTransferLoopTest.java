@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import su.comp.bk.arch.Computer;
+import su.comp.bk.arch.cpu.opcode.ClrOpcode;
+import su.comp.bk.arch.cpu.opcode.MovOpcode;
+import su.comp.bk.arch.cpu.opcode.SobOpcode;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+
+/**
+ * {@link BlockTransferLoop} recognition and bulk execution unit tests.
+ */
+public class BlockTransferLoopTest {
+
+    private static final int LOOP_ADDRESS = 01000;
+    private static final int LOOP_END_ADDRESS = LOOP_ADDRESS + 4;
+
+    // MOV (R1)+,(R2)+
+    private static final int MOV_COPY = MovOpcode.OPCODE | (021 << 6) | 022;
+    // MOV R1,(R2)+
+    private static final int MOV_FILL = MovOpcode.OPCODE | (001 << 6) | 022;
+    // CLR (R2)+
+    private static final int CLR_FILL = ClrOpcode.OPCODE | 022;
+    // SOB R3,.-2
+    private static final int SOB_R3 = SobOpcode.OPCODE | (3 << 6) | 2;
+
+    private Computer createComputer(int loopInstruction, int srcAddress, int destAddress,
+                                    int count) {
+        Computer computer = new Computer();
+        computer.addMemory(0, new RandomAccessMemory("TestRam", 010000,
+                RandomAccessMemory.Type.OTHER));
+        computer.writeMemory(false, LOOP_ADDRESS, loopInstruction);
+        computer.writeMemory(false, LOOP_ADDRESS + 2, SOB_R3);
+        for (int i = 0; i < 16; i++) {
+            computer.writeMemory(false, 02000 + i * 2, (i == 15) ? 0100000 : i * 3 + 1);
+        }
+        Cpu cpu = computer.getCpu();
+        cpu.writeRegister(false, Cpu.R1, srcAddress);
+        cpu.writeRegister(false, Cpu.R2, destAddress);
+        cpu.writeRegister(false, Cpu.R3, count);
+        cpu.writeRegister(false, Cpu.PC, LOOP_ADDRESS);
+        return computer;
+    }
+
+    private void checkLoopExecution(int loopInstruction, int srcAddress, int destAddress,
+                                    int count, boolean isBulkExecution) {
+        // Reference loop execution instruction by instruction
+        Computer referenceComputer = createComputer(loopInstruction, srcAddress,
+                destAddress, count);
+        Cpu referenceCpu = referenceComputer.getCpu();
+        while (referenceCpu.readRegister(false, Cpu.PC) != LOOP_END_ADDRESS) {
+            referenceCpu.executeNextOperation();
+        }
+        // Loop execution as basic block
+        Computer computer = createComputer(loopInstruction, srcAddress, destAddress, count);
+        Cpu cpu = computer.getCpu();
+        cpu.executeNextBlock();
+        assertEquals(isBulkExecution, cpu.readRegister(false, Cpu.PC) == LOOP_END_ADDRESS);
+        while (cpu.readRegister(false, Cpu.PC) != LOOP_END_ADDRESS) {
+            cpu.executeNextBlock();
+        }
+        assertEquals(referenceCpu.getTime(), cpu.getTime());
+        assertEquals(referenceCpu.getPswState(), cpu.getPswState());
+        for (int register = Cpu.R0; register <= Cpu.PC; register++) {
+            assertEquals(referenceCpu.readRegister(false, register),
+                    cpu.readRegister(false, register));
+        }
+        for (int address = 0; address < 020000; address += 2) {
+            assertEquals(referenceComputer.readMemory(false, address),
+                    computer.readMemory(false, address));
+        }
+    }
+
+    @Test
+    public void testLoopRecognition() {
+        Computer computer = createComputer(MOV_COPY, 0, 0, 0);
+        BasicBlockCache basicBlockCache = new BasicBlockCache(computer.getCpu(), computer);
+        BlockTransferLoop loop = basicBlockCache.getBlock(LOOP_ADDRESS).getTransferLoop();
+        assertNotNull(loop);
+        assertEquals(BlockTransferLoop.SOURCE_MEMORY, loop.getSourceType());
+        assertEquals(Cpu.R1, loop.getSourceRegister());
+        assertEquals(Cpu.R2, loop.getDestRegister());
+        assertEquals(Cpu.R3, loop.getCounterRegister());
+        // Byte operation loops are not recognized
+        computer.writeMemory(false, LOOP_ADDRESS, MOV_COPY | 0100000);
+        assertNull(basicBlockCache.getBlock(LOOP_ADDRESS).getTransferLoop());
+        // Loops with the same source and destination registers are not recognized
+        computer.writeMemory(false, LOOP_ADDRESS, MovOpcode.OPCODE | (022 << 6) | 022);
+        assertNull(basicBlockCache.getBlock(LOOP_ADDRESS).getTransferLoop());
+    }
+
+    @Test
+    public void testMemoryCopyLoop() {
+        checkLoopExecution(MOV_COPY, 02000, 03000, 16, true);
+        // Overlapping ranges
+        checkLoopExecution(MOV_COPY, 02004, 02000, 12, true);
+        checkLoopExecution(MOV_COPY, 02000, 02004, 12, false);
+    }
+
+    @Test
+    public void testMemoryFillLoops() {
+        checkLoopExecution(MOV_FILL, 0123456, 03000, 10, true);
+        checkLoopExecution(CLR_FILL, 0, 02000, 16, true);
+    }
+
+    @Test
+    public void testOverlaidMemoryFillLoop() {
+        Computer computer = createComputer(MOV_FILL, 0123456, 03000, 16);
+        RandomAccessMemory ram = computer.getBackingMemory(03000, 03036, true);
+        // Destination range is overlaid by other writable memory
+        RandomAccessMemory overlayRam = new RandomAccessMemory("OverlayRam", 0200,
+                RandomAccessMemory.Type.OTHER);
+        computer.addMemory(03000, overlayRam);
+        // BR .
+        computer.writeMemory(false, LOOP_END_ADDRESS, 0777);
+        Cpu cpu = computer.getCpu();
+        while (cpu.readRegister(false, Cpu.PC) != LOOP_END_ADDRESS) {
+            cpu.executeNextBlock();
+        }
+        // Each memory must be written
+        for (int i = 0; i < 16; i++) {
+            assertEquals(0123456, ram.getData()[(03000 >> 1) + i] & 0177777);
+            assertEquals(0123456, overlayRam.getData()[i] & 0177777);
+        }
+    }
+}
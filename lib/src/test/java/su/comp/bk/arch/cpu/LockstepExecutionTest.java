@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import su.comp.bk.ResourceFileTestBase;
+import su.comp.bk.arch.Computer;
+import su.comp.bk.arch.cpu.opcode.BneOpcode;
+import su.comp.bk.arch.cpu.opcode.ClrOpcode;
+import su.comp.bk.arch.cpu.opcode.MovOpcode;
+import su.comp.bk.arch.cpu.opcode.Opcode;
+import su.comp.bk.arch.cpu.opcode.SobOpcode;
+import su.comp.bk.arch.cpu.opcode.TstOpcode;
+import su.comp.bk.arch.io.Device;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+import su.comp.bk.arch.memory.ReadOnlyMemory;
+import su.comp.bk.state.State;
+
+/**
+ * Lockstep execution of instruction by instruction and block execution engines
+ * using {@link LockstepHarness}.
+ */
+public class LockstepExecutionTest extends ResourceFileTestBase {
+
+    private static final long DIAGNOSTICS_MAX_EXECUTION_TIME = 2000000000L;
+    private static final long DIAGNOSTICS_EXECUTION_STEP_TIME = 100000L;
+
+    private static final int RANDOM_STREAMS_COUNT = 64;
+    private static final long RANDOM_STREAM_EXECUTION_TIME = 200000L;
+    private static final int RANDOM_MEMORY_SIZE = 070000;
+    private static final int RANDOM_STREAM_START_ADDRESS = 01000;
+
+    // Block transfer and polling loops (with SOB/BNE offsets relative to
+    // the template start) planted into random instruction streams
+    private static final int[][] LOOP_TEMPLATES = {
+            // MOV (R1)+,(R2)+; SOB R3,.-2
+            { MovOpcode.OPCODE | (021 << 6) | 022, SobOpcode.OPCODE | (3 << 6) | 2 },
+            // MOV R1,(R2)+; SOB R3,.-2
+            { MovOpcode.OPCODE | (001 << 6) | 022, SobOpcode.OPCODE | (3 << 6) | 2 },
+            // CLR (R2)+; SOB R3,.-2
+            { ClrOpcode.OPCODE | 022, SobOpcode.OPCODE | (3 << 6) | 2 },
+            // TST (R4); BNE .-2
+            { TstOpcode.OPCODE | 014, BneOpcode.OPCODE | 0376 }
+    };
+
+    // Terminal output device used by diagnostics
+    static class Terminal implements Device {
+        private static final int READ_CONTROL_REGISTER_ADDRESS = 0177560;
+        private static final int READ_DATA_REGISTER_ADDRESS = 0177562;
+        private static final int WRITE_CONTROL_REGISTER_ADDRESS = 0177564;
+        private static final int WRITE_DATA_REGISTER_ADDRESS = 0177566;
+
+        private static final int CONTROL_DATA_READY = 0200;
+        private static final int CONTROL_INTERRUPT_ENABLE = 0100;
+
+        private static final int INTERRUPT_VECTOR = 064;
+
+        private final int[] ADDRESSES = {
+                READ_CONTROL_REGISTER_ADDRESS, READ_DATA_REGISTER_ADDRESS,
+                WRITE_CONTROL_REGISTER_ADDRESS, WRITE_DATA_REGISTER_ADDRESS
+        };
+
+        // Delay of interrupt request after output (in operations)
+        private static final int OUTPUT_INTERRUPT_DELAY = 3;
+
+        private final Computer computer;
+
+        private final StringBuilder writtenData = new StringBuilder();
+
+        private boolean isWriting;
+
+        private int pendingInterruptDelay = -1;
+
+        Terminal(Computer computer) {
+            this.computer = computer;
+        }
+
+        String getWrittenData() {
+            return writtenData.toString();
+        }
+
+        boolean onSync(Computer computer) {
+            // Request pending interrupt at the same instruction boundary for both computers
+            if (pendingInterruptDelay >= 0 && --pendingInterruptDelay < 0) {
+                computer.getCpu().requestVirq(INTERRUPT_VECTOR);
+            }
+            return pendingInterruptDelay >= 0;
+        }
+
+        @Override
+        public int[] getAddresses() {
+            return ADDRESSES;
+        }
+
+        @Override
+        public void init(long cpuTime, boolean isHardwareReset) {
+            isWriting = false;
+        }
+
+        @Override
+        public void saveState(State outState) {
+            // Do nothing
+        }
+
+        @Override
+        public void restoreState(State inState) {
+            // Do nothing
+        }
+
+        @Override
+        public int read(long cpuTime, int address) {
+            return (address == WRITE_CONTROL_REGISTER_ADDRESS) ? CONTROL_DATA_READY : 0;
+        }
+
+        @Override
+        public boolean write(long cpuTime, boolean isByteMode, int address, int value) {
+            if (address == WRITE_DATA_REGISTER_ADDRESS) {
+                isWriting = true;
+                if (value > 0) {
+                    writtenData.append((char) value);
+                }
+            } else if (address == WRITE_CONTROL_REGISTER_ADDRESS
+                    && (value & CONTROL_INTERRUPT_ENABLE) != 0) {
+                if (isWriting) {
+                    pendingInterruptDelay = OUTPUT_INTERRUPT_DELAY;
+                } else {
+                    computer.getCpu().requestVirq(INTERRUPT_VECTOR);
+                }
+            }
+            return true;
+        }
+    }
+
+    private LockstepHarness createDiagnosticsHarness(final String testName,
+                                                     final List<Terminal> terminals)
+            throws Exception {
+        final byte[] testData = FileUtils.readFileToByteArray(getTestResourceFile(testName));
+        LockstepHarness harness = new LockstepHarness(new LockstepHarness.ComputerSetup() {
+            @Override
+            public void setup(Computer computer) {
+                computer.setClockFrequency(Computer.CLOCK_FREQUENCY_BK0010);
+                LockstepHarness.WriteTrackingMemory workMemory =
+                        new LockstepHarness.WriteTrackingMemory("TestWorkMemory", 020000,
+                                RandomAccessMemory.Type.K565RU6);
+                workMemory.putData(testData);
+                computer.addMemory(0, workMemory);
+                computer.addMemory(040000, new LockstepHarness.WriteTrackingMemory(
+                        "TestVideoMemory", 020000, RandomAccessMemory.Type.K565RU6));
+                computer.addMemory(0100000, new ReadOnlyMemory("TestReadOnlyMemory",
+                        new byte[010000]));
+                Terminal terminal = new Terminal(computer);
+                terminals.add(terminal);
+                computer.addDevice(terminal);
+                Cpu cpu = computer.getCpu();
+                cpu.setPswState(0);
+                cpu.writeRegister(false, Cpu.SP, 020000);
+                cpu.writeRegister(false, Cpu.PC, 0200);
+            }
+        });
+        harness.setOnSyncListener(new LockstepHarness.OnSyncListener() {
+            @Override
+            public boolean onSync(Computer computer) {
+                return terminals.get(computer == harness.getReferenceComputer() ? 0 : 1)
+                        .onSync(computer);
+            }
+        });
+        return harness;
+    }
+
+    private void checkDiagnostics(String testName, String expectedOutput) throws Exception {
+        List<Terminal> terminals = new ArrayList<>();
+        LockstepHarness harness = createDiagnosticsHarness(testName, terminals);
+        Terminal referenceTerminal = terminals.get(0);
+        Terminal terminal = terminals.get(1);
+        Cpu cpu = harness.getComputer().getCpu();
+        while (!referenceTerminal.getWrittenData().startsWith(expectedOutput)
+                && cpu.getTime() < DIAGNOSTICS_MAX_EXECUTION_TIME) {
+            assertNull(harness.execute(cpu.getTime() + DIAGNOSTICS_EXECUTION_STEP_TIME));
+            assertEquals(referenceTerminal.getWrittenData(), terminal.getWrittenData());
+        }
+        assertTrue(referenceTerminal.getWrittenData(),
+                referenceTerminal.getWrittenData().startsWith(expectedOutput));
+    }
+
+    // General instructions test
+    @Test
+    public void test791401() throws Exception {
+        checkDiagnostics("791401", "\r\n\016k prohod");
+    }
+
+    // Interrupts test
+    @Test
+    public void test791404() throws Exception {
+        checkDiagnostics("791404", "\r\nK pPOXOd");
+    }
+
+    // Memory test
+    @Test
+    public void test791323() throws Exception {
+        checkDiagnostics("791323", "\r\npAMqTx\r\n000000-077776\r\nTCT13 bAHK   00\r\n" +
+                "TCT13 bAHK   01\r\nTCT13 bAHK   02\r\nTCT13 bAHK   03\r\n" +
+                "pEPEM\r\nTCT13 bAHK   00\r\nK pPOXOd #   01");
+    }
+
+    private static short[] createRandomMemoryImage(long seed) {
+        Random random = new Random(seed);
+        short[] image = new short[RANDOM_MEMORY_SIZE];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (short) random.nextInt(0200000);
+        }
+        // Trap vectors point to random instruction streams with zero PSW
+        for (int vector = 04; vector < RANDOM_STREAM_START_ADDRESS >> 1; vector += 4) {
+            image[vector >> 1] = (short) ((RANDOM_STREAM_START_ADDRESS
+                    + random.nextInt(RANDOM_MEMORY_SIZE - RANDOM_STREAM_START_ADDRESS)) & ~1);
+            image[(vector >> 1) + 1] = 0;
+        }
+        // Planted loops
+        for (int i = 0; i < 64; i++) {
+            int[] template = LOOP_TEMPLATES[random.nextInt(LOOP_TEMPLATES.length)];
+            int wordIndex = (RANDOM_STREAM_START_ADDRESS >> 1)
+                    + random.nextInt(RANDOM_MEMORY_SIZE - (RANDOM_STREAM_START_ADDRESS >> 1)
+                    - template.length);
+            for (int j = 0; j < template.length; j++) {
+                image[wordIndex + j] = (short) template[j];
+            }
+        }
+        return image;
+    }
+
+    private static LockstepHarness createRandomStreamHarness(final long seed) throws Exception {
+        final short[] image = createRandomMemoryImage(seed);
+        return new LockstepHarness(new LockstepHarness.ComputerSetup() {
+            @Override
+            public void setup(Computer computer) {
+                Random random = new Random(seed);
+                LockstepHarness.WriteTrackingMemory memory =
+                        new LockstepHarness.WriteTrackingMemory("TestMemory", RANDOM_MEMORY_SIZE);
+                memory.putData(image);
+                computer.addMemory(0, memory);
+                Cpu cpu = computer.getCpu();
+                cpu.setPswState(0);
+                for (int register = Cpu.R0; register <= Cpu.SP; register++) {
+                    cpu.writeRegister(false, register, random.nextInt(RANDOM_MEMORY_SIZE << 1));
+                }
+                // Loop counter register
+                cpu.writeRegister(false, Cpu.R3, random.nextInt(0400));
+                cpu.writeRegister(false, Cpu.PC, RANDOM_STREAM_START_ADDRESS);
+            }
+        });
+    }
+
+    @Test
+    public void testRandomInstructionStreams() throws Exception {
+        for (long seed = 0; seed < RANDOM_STREAMS_COUNT; seed++) {
+            LockstepHarness harness = createRandomStreamHarness(seed);
+            assertNull("seed " + seed, harness.execute(RANDOM_STREAM_EXECUTION_TIME));
+        }
+    }
+
+    @Test
+    public void testDivergenceReport() throws Exception {
+        LockstepHarness harness = createRandomStreamHarness(0);
+        // Change engine memory behind the harness back
+        harness.getComputer().writeMemory(false, 0776, 1);
+        String report = harness.execute(RANDOM_STREAM_EXECUTION_TIME);
+        assertNotNull(report);
+        assertTrue(report, report.contains("TestMemory word 000776"));
+    }
+
+    @Test
+    public void testDisassembly() {
+        Computer computer = new Computer();
+        computer.addMemory(01000, new LockstepHarness.WriteTrackingMemory("TestMemory",
+                new short[] {
+                        MovOpcode.OPCODE | (027 << 6),              // 01000: MOV #101,R0
+                        0101,
+                        (short) (MovOpcode.OPCODE | Opcode.BYTE_OPERATION_FLAG
+                                | (021 << 6) | 067),                // 01004: MOVB (R1)+,1014
+                        4,
+                        SobOpcode.OPCODE | (3 << 6) | 3,            // 01010: SOB R3,01004
+                        BneOpcode.OPCODE | 0375                     // 01012: BNE 01006
+                }));
+        assertEquals("001000: MOV #000101,R0", LockstepHarness.disassemble(computer, 01000));
+        assertEquals("001004: MOVB (R1)+,001014", LockstepHarness.disassemble(computer, 01004));
+        assertEquals("001010: SOB R3,001004", LockstepHarness.disassemble(computer, 01010));
+        assertEquals("001012: BNE 001006", LockstepHarness.disassemble(computer, 01012));
+    }
+}
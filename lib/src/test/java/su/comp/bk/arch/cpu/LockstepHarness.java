@@ -0,0 +1,468 @@
+/*
+ * Copyright (C) 2026 Victor Antonovich (v.antonovich@gmail.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package su.comp.bk.arch.cpu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import su.comp.bk.arch.Computer;
+import su.comp.bk.arch.cpu.opcode.BranchOpcode;
+import su.comp.bk.arch.cpu.opcode.ConditionCodeOpcodes;
+import su.comp.bk.arch.cpu.opcode.DoubleOperandOpcode;
+import su.comp.bk.arch.cpu.opcode.EmtOpcode;
+import su.comp.bk.arch.cpu.opcode.JmpOpcode;
+import su.comp.bk.arch.cpu.opcode.JsrOpcode;
+import su.comp.bk.arch.cpu.opcode.MarkOpcode;
+import su.comp.bk.arch.cpu.opcode.Opcode;
+import su.comp.bk.arch.cpu.opcode.RtsOpcode;
+import su.comp.bk.arch.cpu.opcode.SingleOperandOpcode;
+import su.comp.bk.arch.cpu.opcode.SobOpcode;
+import su.comp.bk.arch.cpu.opcode.TrapOpcode;
+import su.comp.bk.arch.cpu.opcode.XorOpcode;
+import su.comp.bk.arch.memory.RandomAccessMemory;
+
+/**
+ * Differential lockstep harness for CPU execution engines. Two computers are set up
+ * with the same configuration and memory image: the reference one is executed
+ * instruction by instruction with {@link Cpu#executeNextOperation()}, the other one
+ * is executed by operation blocks with {@link Cpu#executeNextBlock()} (basic blocks,
+ * hot blocks chaining, superinstructions, bulk transfer loops). After each executed
+ * block the reference computer is advanced to the same CPU time and registers, PSW,
+ * CPU time and memory writes of both computers are compared. The first found
+ * divergence is reported along with the reference instructions trace disassembly.
+ */
+public class LockstepHarness {
+
+    // Number of the last reference instructions to disassemble in divergence report
+    private final static int TRACE_LENGTH = 16;
+
+    private final static String[] REGISTER_NAMES = {
+            "R0", "R1", "R2", "R3", "R4", "R5", "SP", "PC"
+    };
+
+    private final static String[] CONDITION_CODE_NAMES = { "C", "V", "Z", "N" };
+
+    /**
+     * Computer setup interface.
+     */
+    public interface ComputerSetup {
+        /**
+         * Set up computer configuration (memory, devices) and initial CPU state.
+         * Called once for each compared computer (reference computer is set up first),
+         * so it must be deterministic.
+         * Only writes to {@link WriteTrackingMemory} instances are compared.
+         * @param computer {@link Computer} to set up
+         */
+        void setup(Computer computer) throws Exception;
+    }
+
+    /**
+     * Lockstep synchronization point listener interface.
+     */
+    public interface OnSyncListener {
+        /**
+         * Called for both reference and compared computers each time when their states
+         * were compared and found the same. Can be used to update devices state
+         * (request interrupts, etc) at the same instruction boundary for both computers.
+         * @param computer synchronized {@link Computer}
+         * @return <code>true</code> if the next synchronization point is required after
+         * the single operation (i.e. device event is pending), <code>false</code> if after
+         * the next operations block
+         */
+        boolean onSync(Computer computer);
+    }
+
+    /**
+     * RAM tracking written words since the last check.
+     */
+    public static class WriteTrackingMemory extends RandomAccessMemory {
+        private boolean[] writtenWordFlags;
+        private int[] writtenWordIndexes;
+        private int writtenWordsCount;
+
+        public WriteTrackingMemory(String id, int size) {
+            this(id, size, Type.OTHER);
+        }
+
+        public WriteTrackingMemory(String id, int size, Type type) {
+            super(id, size, type);
+        }
+
+        public WriteTrackingMemory(String id, short[] data) {
+            super(id, data, Type.OTHER);
+        }
+
+        private void markWritten(int wordIndex) {
+            if (writtenWordFlags == null) {
+                writtenWordFlags = new boolean[getSize()];
+                writtenWordIndexes = new int[getSize()];
+            }
+            if (!writtenWordFlags[wordIndex]) {
+                writtenWordFlags[wordIndex] = true;
+                writtenWordIndexes[writtenWordsCount++] = wordIndex;
+            }
+        }
+
+        boolean isWordWritten(int wordIndex) {
+            return writtenWordFlags != null && writtenWordFlags[wordIndex];
+        }
+
+        int getWrittenWordsCount() {
+            return writtenWordsCount;
+        }
+
+        int getWrittenWordIndex(int index) {
+            return writtenWordIndexes[index];
+        }
+
+        void clearWrittenWords() {
+            for (int i = 0; i < writtenWordsCount; i++) {
+                writtenWordFlags[writtenWordIndexes[i]] = false;
+            }
+            writtenWordsCount = 0;
+        }
+
+        @Override
+        protected void writeWord(int offset, int wordData) {
+            super.writeWord(offset, wordData);
+            markWritten(offset >> 1);
+        }
+
+        @Override
+        public void writeWords(int wordIndex, short[] srcData, int srcWordIndex, int length) {
+            super.writeWords(wordIndex, srcData, srcWordIndex, length);
+            for (int i = 0; i < length; i++) {
+                markWritten(wordIndex + i);
+            }
+        }
+
+        @Override
+        public void fillWords(int wordIndex, int length, int value) {
+            super.fillWords(wordIndex, length, value);
+            for (int i = 0; i < length; i++) {
+                markWritten(wordIndex + i);
+            }
+        }
+    }
+
+    private final Computer referenceComputer;
+    private final Computer computer;
+
+    // Tracked memories of reference and compared computers (in the same order)
+    private final List<WriteTrackingMemory> referenceMemories;
+    private final List<WriteTrackingMemory> memories;
+
+    // Reference instructions addresses trace (ring buffer)
+    private final int[] trace = new int[TRACE_LENGTH];
+    private int traceIndex;
+
+    private OnSyncListener onSyncListener;
+
+    // Flag to execute the next step as the single operation instead of operations block
+    private boolean isSingleOperationStep;
+
+    public LockstepHarness(ComputerSetup setup) throws Exception {
+        referenceComputer = new Computer();
+        setup.setup(referenceComputer);
+        computer = new Computer();
+        setup.setup(computer);
+        referenceMemories = getTrackedMemories(referenceComputer);
+        memories = getTrackedMemories(computer);
+        if (referenceMemories.size() != memories.size()) {
+            throw new IllegalStateException("Computers have different tracked memories");
+        }
+    }
+
+    private static List<WriteTrackingMemory> getTrackedMemories(Computer computer) {
+        List<WriteTrackingMemory> trackedMemories = new ArrayList<>();
+        for (int address = 0; address < Computer.IO_REGISTERS_MIN_ADDRESS; address += 2) {
+            RandomAccessMemory memory = computer.getBackingMemory(address, address, false);
+            if (memory instanceof WriteTrackingMemory && !trackedMemories.contains(memory)) {
+                trackedMemories.add((WriteTrackingMemory) memory);
+            }
+        }
+        return trackedMemories;
+    }
+
+    public Computer getReferenceComputer() {
+        return referenceComputer;
+    }
+
+    public Computer getComputer() {
+        return computer;
+    }
+
+    public void setOnSyncListener(OnSyncListener onSyncListener) {
+        this.onSyncListener = onSyncListener;
+    }
+
+    /**
+     * Execute both computers in lockstep until given CPU time is reached.
+     * @param untilTime CPU time to execute until (in CPU ticks)
+     * @return first found divergence description or <code>null</code> if
+     * both computers states are the same
+     */
+    public String execute(long untilTime) {
+        Cpu referenceCpu = referenceComputer.getCpu();
+        Cpu cpu = computer.getCpu();
+        while (cpu.getTime() < untilTime) {
+            int blockAddress = cpu.readRegister(false, Cpu.PC);
+            if (isSingleOperationStep) {
+                cpu.executeNextOperation();
+            } else {
+                cpu.executeNextBlock();
+            }
+            long time = cpu.getTime();
+            // At least one operation is executed, since interrupt processing (leaving
+            // WAIT mode, etc) can take no CPU time
+            do {
+                trace[traceIndex++ % TRACE_LENGTH] = referenceCpu.readRegister(false, Cpu.PC);
+                referenceCpu.executeNextOperation();
+            } while (referenceCpu.getTime() < time);
+            String divergence = checkState(blockAddress);
+            if (divergence != null) {
+                return divergence;
+            }
+            if (onSyncListener != null) {
+                isSingleOperationStep = onSyncListener.onSync(referenceComputer)
+                        | onSyncListener.onSync(computer);
+            }
+        }
+        return checkMemory();
+    }
+
+    private String checkState(int blockAddress) {
+        Cpu referenceCpu = referenceComputer.getCpu();
+        Cpu cpu = computer.getCpu();
+        String divergence = null;
+        if (referenceCpu.getTime() != cpu.getTime()) {
+            divergence = formatDivergence("time", referenceCpu.getTime(), cpu.getTime());
+        } else if (referenceCpu.getPswState() != cpu.getPswState()) {
+            divergence = formatDivergence("PSW", referenceCpu.getPswState(),
+                    cpu.getPswState());
+        } else {
+            for (int register = Cpu.R0; register <= Cpu.PC && divergence == null; register++) {
+                int referenceValue = referenceCpu.readRegister(false, register);
+                int value = cpu.readRegister(false, register);
+                if (referenceValue != value) {
+                    divergence = formatDivergence(REGISTER_NAMES[register],
+                            referenceValue, value);
+                }
+            }
+        }
+        for (int i = 0; i < memories.size() && divergence == null; i++) {
+            divergence = checkWrittenWords(referenceMemories.get(i), memories.get(i));
+        }
+        for (int i = 0; i < memories.size(); i++) {
+            referenceMemories.get(i).clearWrittenWords();
+            memories.get(i).clearWrittenWords();
+        }
+        return (divergence != null) ? formatReport(divergence, blockAddress) : null;
+    }
+
+    private String checkWrittenWords(WriteTrackingMemory referenceMemory,
+                                     WriteTrackingMemory memory) {
+        String divergence = checkWrittenWords(referenceMemory, memory, referenceMemory);
+        return (divergence != null) ? divergence
+                : checkWrittenWords(referenceMemory, memory, memory);
+    }
+
+    private static String checkWrittenWords(WriteTrackingMemory referenceMemory,
+                                            WriteTrackingMemory memory,
+                                            WriteTrackingMemory writtenMemory) {
+        short[] referenceData = referenceMemory.getData();
+        short[] data = memory.getData();
+        for (int i = 0; i < writtenMemory.getWrittenWordsCount(); i++) {
+            int wordIndex = writtenMemory.getWrittenWordIndex(i);
+            if (referenceData[wordIndex] != data[wordIndex]) {
+                return formatMemoryDivergence(memory, wordIndex,
+                        referenceData[wordIndex], data[wordIndex]);
+            }
+            if (referenceMemory.isWordWritten(wordIndex) != memory.isWordWritten(wordIndex)) {
+                return String.format("%s word %s written by %s only", memory.getId(),
+                        toOctal(wordIndex << 1),
+                        referenceMemory.isWordWritten(wordIndex) ? "reference" : "engine");
+            }
+        }
+        return null;
+    }
+
+    private String checkMemory() {
+        for (int i = 0; i < memories.size(); i++) {
+            short[] referenceData = referenceMemories.get(i).getData();
+            short[] data = memories.get(i).getData();
+            for (int wordIndex = 0; wordIndex < data.length; wordIndex++) {
+                if (referenceData[wordIndex] != data[wordIndex]) {
+                    return formatReport(formatMemoryDivergence(memories.get(i), wordIndex,
+                            referenceData[wordIndex], data[wordIndex]),
+                            computer.getCpu().readRegister(false, Cpu.PC));
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String formatDivergence(String name, long referenceValue, long value) {
+        return String.format("%s: reference %s, engine %s", name,
+                Long.toOctalString(referenceValue), Long.toOctalString(value));
+    }
+
+    private static String formatMemoryDivergence(RandomAccessMemory memory, int wordIndex,
+                                                 short referenceValue, short value) {
+        return formatDivergence(memory.getId() + " word " + toOctal(wordIndex << 1),
+                referenceValue & 0177777, value & 0177777);
+    }
+
+    private String formatReport(String divergence, int blockAddress) {
+        StringBuilder report = new StringBuilder();
+        report.append("Divergence at CPU time ").append(computer.getCpu().getTime())
+                .append(" after block ").append(toOctal(blockAddress)).append(": ")
+                .append(divergence).append("\nReference instructions trace:");
+        for (int i = Math.max(0, traceIndex - TRACE_LENGTH); i < traceIndex; i++) {
+            report.append("\n  ").append(disassemble(referenceComputer,
+                    trace[i % TRACE_LENGTH]));
+        }
+        return report.toString();
+    }
+
+    private static String toOctal(int value) {
+        return String.format("%06o", value & 0177777);
+    }
+
+    /**
+     * Disassemble instruction at given address.
+     * @param computer {@link Computer} to read instruction from
+     * @param address instruction address
+     * @return instruction address and disassembled instruction
+     */
+    static String disassemble(Computer computer, int address) {
+        StringBuilder result = new StringBuilder(toOctal(address)).append(": ");
+        int instruction = computer.readMemory(false, address);
+        if (instruction == Computer.BUS_ERROR) {
+            return result.append("<bus error>").toString();
+        }
+        Cpu cpu = computer.getCpu();
+        Opcode opcode = cpu.decodeInstruction(instruction);
+        if (opcode == null) {
+            return result.append(".WORD ").append(toOctal(instruction)).toString();
+        }
+        result.append(getMnemonic(cpu, opcode, instruction));
+        int[] operandAddress = { address + 2 };
+        String operands = null;
+        if (opcode instanceof XorOpcode || opcode instanceof JsrOpcode) {
+            operands = REGISTER_NAMES[(instruction >> 6) & 7] + ","
+                    + formatOperand(computer, instruction, operandAddress);
+        } else if (opcode instanceof DoubleOperandOpcode) {
+            operands = formatOperand(computer, instruction >> 6, operandAddress) + ","
+                    + formatOperand(computer, instruction, operandAddress);
+        } else if (opcode instanceof SingleOperandOpcode || opcode instanceof JmpOpcode) {
+            operands = formatOperand(computer, instruction, operandAddress);
+        } else if (opcode instanceof BranchOpcode) {
+            operands = toOctal(address + 2 + ((byte) instruction) * 2);
+        } else if (opcode instanceof SobOpcode) {
+            operands = REGISTER_NAMES[(instruction >> 6) & 7] + ","
+                    + toOctal(address + 2 - (instruction & 077) * 2);
+        } else if (opcode instanceof RtsOpcode) {
+            operands = REGISTER_NAMES[instruction & 7];
+        } else if (opcode instanceof EmtOpcode || opcode instanceof TrapOpcode) {
+            operands = Integer.toOctalString(instruction & 0377);
+        } else if (opcode instanceof MarkOpcode) {
+            operands = Integer.toOctalString(instruction & 077);
+        }
+        if (operands != null) {
+            result.append(' ').append(operands);
+        }
+        return result.toString();
+    }
+
+    private static String getMnemonic(Cpu cpu, Opcode opcode, int instruction) {
+        if (opcode instanceof ConditionCodeOpcodes) {
+            return getConditionCodeMnemonic(instruction);
+        }
+        String mnemonic = opcode.getClass().getSimpleName().replace("Opcode", "")
+                .toUpperCase();
+        if ((instruction & Opcode.BYTE_OPERATION_FLAG) != 0
+                && (opcode instanceof DoubleOperandOpcode
+                    || opcode instanceof SingleOperandOpcode)) {
+            Opcode wordOpcode = cpu.decodeInstruction(instruction & ~Opcode.BYTE_OPERATION_FLAG);
+            if (wordOpcode != null && wordOpcode.getClass() == opcode.getClass()) {
+                mnemonic += "B";
+            }
+        }
+        return mnemonic;
+    }
+
+    private static String getConditionCodeMnemonic(int instruction) {
+        int conditionMask = instruction & 017;
+        if (conditionMask == 0) {
+            return "NOP";
+        }
+        String prefix = (instruction & 020) != 0 ? "SE" : "CL";
+        if (conditionMask == 017) {
+            return (instruction & 020) != 0 ? "SCC" : "CCC";
+        }
+        StringBuilder mnemonic = new StringBuilder();
+        for (int flag = 0; flag < CONDITION_CODE_NAMES.length; flag++) {
+            if ((conditionMask & (1 << flag)) != 0) {
+                if (mnemonic.length() > 0) {
+                    mnemonic.append('!');
+                }
+                mnemonic.append(prefix).append(CONDITION_CODE_NAMES[flag]);
+            }
+        }
+        return mnemonic.toString();
+    }
+
+    private static String formatOperand(Computer computer, int operand, int[] operandAddress) {
+        int mode = (operand >> 3) & 7;
+        int register = operand & 7;
+        String registerName = REGISTER_NAMES[register];
+        if (register == Cpu.PC && (mode == 2 || mode == 3 || mode == 6 || mode == 7)) {
+            int word = computer.readMemory(false, operandAddress[0]);
+            operandAddress[0] += 2;
+            switch (mode) {
+                case 2:
+                    return "#" + toOctal(word);
+                case 3:
+                    return "@#" + toOctal(word);
+                case 6:
+                    return toOctal(operandAddress[0] + word);
+                default:
+                    return "@" + toOctal(operandAddress[0] + word);
+            }
+        }
+        switch (mode) {
+            case 0:
+                return registerName;
+            case 1:
+                return "(" + registerName + ")";
+            case 2:
+                return "(" + registerName + ")+";
+            case 3:
+                return "@(" + registerName + ")+";
+            case 4:
+                return "-(" + registerName + ")";
+            case 5:
+                return "@-(" + registerName + ")";
+            default:
+                int index = computer.readMemory(false, operandAddress[0]);
+                operandAddress[0] += 2;
+                return (mode == 7 ? "@" : "") + toOctal(index) + "(" + registerName + ")";
+        }
+    }
+}
@@ -72,6 +72,30 @@ public class ControlOpcodesTest {
         assertTrue(computer.getCpu().isInterruptWaitMode());
     }
 
+    @Test
+    public void testWaitModeFastForward() {
+        computer.addMemory(0100000, new ReadOnlyMemory("TestRom", new short[] {
+                WaitOpcode.OPCODE
+        }));
+        computer.reset();
+        Cpu cpu = computer.getCpu();
+        cpu.executeSingleInstruction();
+        // CPU time should be advanced by the interrupt wait steps
+        int waitStepTime = BaseOpcode.getBaseExecutionTime();
+        long startTime = cpu.getTime();
+        cpu.execute(startTime + 1000);
+        assertEquals(startTime + (1000 + waitStepTime - 1) / waitStepTime * waitStepTime,
+                cpu.getTime());
+        assertTrue(cpu.isInterruptWaitMode());
+        // Masked interrupt request should not stop waiting
+        cpu.requestIrq2();
+        startTime = cpu.getTime();
+        cpu.execute(startTime + 20000);
+        assertTrue(cpu.getTime() >= startTime + 20000);
+        assertTrue(cpu.isInterruptWaitMode());
+        assertEquals(0100002, cpu.readRegister(false, Cpu.PC));
+    }
+
     @Test
     public void testHaltInstructionExecute() {
         computer.addMemory(0100000, new ReadOnlyMemory("TestRom", new short[] {
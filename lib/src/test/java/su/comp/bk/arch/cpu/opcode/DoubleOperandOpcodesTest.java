@@ -25,6 +25,7 @@ import org.junit.Test;
 import su.comp.bk.arch.Computer;
 import su.comp.bk.arch.cpu.Cpu;
 import su.comp.bk.arch.io.Sel1RegisterSystemBits;
+import su.comp.bk.arch.memory.RandomAccessMemory;
 import su.comp.bk.arch.memory.ReadOnlyMemory;
 
 /**
@@ -372,4 +373,64 @@ public class DoubleOperandOpcodesTest {
         assertEquals(PSW_STATE | Cpu.PSW_FLAG_N, computer.getCpu().getPswState());
     }
 
+    /**
+     * Deferred PSW flags evaluation tests.
+     */
+    @Test
+    public void testDeferredPswFlagsEvaluation() {
+        computer.addMemory(0100000, new ReadOnlyMemory("TestRom", new short[] {
+                AddOpcode.OPCODE + Cpu.R1, // ADD R0, R1
+                IncOpcode.OPCODE + Cpu.R2, // INC R2
+                MovOpcode.OPCODE + Cpu.R3, // MOV R0, R3
+        }));
+        computer.reset();
+        computer.getCpu().writeRegister(false, Cpu.R0, 1);
+        computer.getCpu().writeRegister(false, Cpu.R1, 0177777);
+        computer.getCpu().writeRegister(false, Cpu.R2, 077777);
+        // ADD R0, R1
+        computer.getCpu().executeSingleInstruction();
+        // INC R2 - C flag from ADD should be kept
+        computer.getCpu().executeSingleInstruction();
+        assertEquals(0100000, computer.getCpu().readRegister(false, Cpu.R2));
+        assertEquals(PSW_STATE | Cpu.PSW_FLAG_N | Cpu.PSW_FLAG_V | Cpu.PSW_FLAG_C,
+                computer.getCpu().getPswState());
+        // MOV R0, R3 - V flag should be cleared, C flag should be kept
+        computer.getCpu().executeSingleInstruction();
+        assertEquals(PSW_STATE | Cpu.PSW_FLAG_C, computer.getCpu().getPswState());
+        // PSW state change should override deferred flags
+        computer.getCpu().writeRegister(false, Cpu.PC, 0100002);
+        computer.getCpu().executeSingleInstruction();
+        computer.getCpu().setPswState(PSW_STATE);
+        assertEquals(PSW_STATE, computer.getCpu().getPswState());
+    }
+
+    /**
+     * Pre-computed instruction execution times tests.
+     */
+    @Test
+    public void testInstructionExecutionTimes() {
+        int movRegisterInstruction = MovOpcode.OPCODE + Cpu.R1; // MOV R0, R1
+        int movDeferredInstruction = MovOpcode.OPCODE | (020 << 6) | 031; // MOV (R0)+, @(R1)+
+        computer.addMemory(0100000, new ReadOnlyMemory("TestRom", new short[] {
+                (short) movRegisterInstruction,
+                (short) movDeferredInstruction
+        }));
+        computer.addMemory(0, new RandomAccessMemory("TestRam", 01000,
+                RandomAccessMemory.Type.OTHER));
+        computer.reset();
+        Cpu cpu = computer.getCpu();
+        int baseTime = BaseOpcode.getBaseExecutionTime();
+        assertEquals(baseTime, cpu.getInstructionExecutionTime(movRegisterInstruction));
+        assertEquals(baseTime + 12 + 24, cpu.getInstructionExecutionTime(movDeferredInstruction));
+        // Reserved instruction code
+        assertEquals(0, cpu.getInstructionExecutionTime(0177777));
+        // Instruction execution should be accounted with pre-computed execution time
+        long startTime = cpu.getTime();
+        cpu.executeSingleInstruction();
+        assertEquals(startTime + baseTime, cpu.getTime());
+        cpu.writeRegister(false, Cpu.R0, 0100);
+        cpu.writeRegister(false, Cpu.R1, 0200);
+        cpu.executeSingleInstruction();
+        assertEquals(startTime + baseTime * 2 + 12 + 24, cpu.getTime());
+    }
 }
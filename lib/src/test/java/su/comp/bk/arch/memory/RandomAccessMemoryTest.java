@@ -103,4 +103,41 @@ public class RandomAccessMemoryTest {
         ram.write(true, 1, 0177777);
         assertEquals((0377 << 8) + 1, ram.read(0));
     }
+
+    @Test
+    public void testWriteTracking() {
+        RandomAccessMemory ram = new RandomAccessMemory("TestRam",
+                010000, RandomAccessMemory.Type.OTHER);
+        long[] dirtyLines = new long[(ram.getLinesCount() + 63) >> 6];
+        assertEquals(0100, ram.getLinesCount());
+        // Writes are not tracked while tracking is disabled
+        ram.write(false, 0, 1);
+        assertFalse(ram.isWriteTrackingEnabled());
+        assertFalse(ram.isLineDirty(0));
+        assertFalse(ram.getAndClearDirtyLines(dirtyLines));
+        ram.setWriteTrackingEnabled(true);
+        assertFalse(ram.isLineDirty(0));
+        // Word and byte writes
+        ram.write(false, 0200, 1);
+        ram.write(true, 017777, 1);
+        assertTrue(ram.isLineDirty(1));
+        assertFalse(ram.isLineDirty(2));
+        assertTrue(ram.isLineDirty(077));
+        assertTrue(ram.getAndClearDirtyLines(dirtyLines));
+        assertEquals((1L << 1) | (1L << 077), dirtyLines[0]);
+        assertFalse(ram.isLineDirty(1));
+        assertFalse(ram.getAndClearDirtyLines(dirtyLines));
+        assertEquals(0L, dirtyLines[0]);
+        // Block writes
+        ram.fillWords(077, 2, 0);
+        ram.writeWords(0300, new short[0101], 0, 0101);
+        assertTrue(ram.getAndClearDirtyLines(dirtyLines));
+        assertEquals((1L << 0) | (1L << 1) | (1L << 3) | (1L << 4), dirtyLines[0]);
+        ram.putData(new short[0100]);
+        assertTrue(ram.getAndClearDirtyLines(dirtyLines));
+        assertEquals(1L, dirtyLines[0]);
+        ram.setWriteTrackingEnabled(false);
+        ram.write(false, 0, 1);
+        assertFalse(ram.getAndClearDirtyLines(dirtyLines));
+    }
 }